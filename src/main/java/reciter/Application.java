@@ -23,6 +23,9 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import javax.servlet.http.HttpServletRequest;
@@ -53,6 +56,7 @@ import com.github.bohnman.squiggly.web.SquigglyRequestFilter;
 import com.google.common.collect.Iterables;
 
 import lombok.extern.slf4j.Slf4j;
+import reciter.algorithm.evidence.targetauthor.journalcategory.ScienceMetrixIndex;
 import reciter.database.dyanmodb.files.GenderFileImport;
 import reciter.database.dyanmodb.files.IdentityFileImport;
 import reciter.database.dyanmodb.files.InstitutionAfidFileImport;
@@ -268,43 +272,53 @@ public class Application {
 	@EventListener(ApplicationReadyEvent.class)
 	public void populateStaticEngineParameters() {
 		
-		log.info("Loading ScienceMetrixJournals to Engine Parameters");
-		List<ScienceMetrix> scienceMetrixJournals = scienceMetrixService.findAll();
-        if(scienceMetrixJournals != null) {
-        		EngineParameters.setScienceMetrixJournals(scienceMetrixJournals);
-        }
-        
-        log.info("Loading ScienceMetrixDepartmentCategories to Engine Parameters");
-		List<ScienceMetrixDepartmentCategory> scienceMetrixDeptCategories = scienceMetrixDepartmentCategoryService.findAll();
-        if(scienceMetrixDeptCategories != null) {
-        		EngineParameters.setScienceMetrixDepartmentCategories(scienceMetrixDeptCategories);
-        }
-        
-        log.info("Loading MeshTermCounts to Engine Parameters");
-        if (EngineParameters.getMeshCountMap() == null) {
-            List<MeshTerm> meshTerms = dynamoDbMeshTermService.findAll();
-            Map<String, Long> meshCountMap = new HashMap<>();
-            for (MeshTerm meshTerm : meshTerms) {
-                meshCountMap.put(meshTerm.getMesh(), meshTerm.getCount());
-            }
-            EngineParameters.setMeshCountMap(meshCountMap);
-        }
-        if(useGenderStrategy) {
-	        log.info("Loading GenderProbability to Engine Parameters");
-	        List<Gender> genders = genderService.findAll();
-	        if(genders != null && !genders.isEmpty()) {
-	        	EngineParameters.setGenders(genders);
-	        }
-        }
-        
-        if(useScopusArticles) {
-	        log.info("Loading ScopusInstitutionalAfids to Engine Parameters");
-	        List<InstitutionAfid> instAfids = dynamoDbInstitutionAfidService.findAll();
-	        if(instAfids != null && instAfids.size() > 0) {
-		        	Map<String, List<String>> institutionAfids = instAfids.stream().collect(Collectors.toMap(InstitutionAfid::getInstitution, InstitutionAfid::getAfids));
-		        	EngineParameters.setAfiliationNameToAfidMap(institutionAfids);
-	        }
+		// The reference tables are scanned concurrently, each one with a parallel scan.
+		long startTime = System.currentTimeMillis();
+		ExecutorService executorService = Executors.newFixedThreadPool(5);
+		try {
+			log.info("Loading ScienceMetrixJournals, ScienceMetrixDepartmentCategories, MeshTermCounts, GenderProbability and ScopusInstitutionalAfids to Engine Parameters");
+			CompletableFuture<List<ScienceMetrix>> scienceMetrixJournalsFuture = CompletableFuture.supplyAsync(scienceMetrixService::findAll, executorService);
+			CompletableFuture<List<ScienceMetrixDepartmentCategory>> scienceMetrixDeptCategoriesFuture = CompletableFuture.supplyAsync(scienceMetrixDepartmentCategoryService::findAll, executorService);
+			CompletableFuture<List<MeshTerm>> meshTermsFuture = (EngineParameters.getMeshCountMap() == null) ?
+					CompletableFuture.supplyAsync(dynamoDbMeshTermService::findAll, executorService) : CompletableFuture.completedFuture(null);
+			CompletableFuture<List<Gender>> gendersFuture = useGenderStrategy ?
+					CompletableFuture.supplyAsync(genderService::findAll, executorService) : CompletableFuture.completedFuture(null);
+			CompletableFuture<List<InstitutionAfid>> instAfidsFuture = useScopusArticles ?
+					CompletableFuture.supplyAsync(dynamoDbInstitutionAfidService::findAll, executorService) : CompletableFuture.completedFuture(null);
+
+			List<ScienceMetrix> scienceMetrixJournals = scienceMetrixJournalsFuture.join();
+			if(scienceMetrixJournals != null) {
+				EngineParameters.setScienceMetrixJournals(scienceMetrixJournals);
+			}
+			List<ScienceMetrixDepartmentCategory> scienceMetrixDeptCategories = scienceMetrixDeptCategoriesFuture.join();
+			if(scienceMetrixDeptCategories != null) {
+				EngineParameters.setScienceMetrixDepartmentCategories(scienceMetrixDeptCategories);
+			}
+			EngineParameters.setScienceMetrixIndex(ScienceMetrixIndex.of(EngineParameters.getScienceMetrixJournals(), EngineParameters.getScienceMetrixDepartmentCategories()));
+
+			List<MeshTerm> meshTerms = meshTermsFuture.join();
+			if (meshTerms != null) {
+				Map<String, Long> meshCountMap = new HashMap<>();
+				for (MeshTerm meshTerm : meshTerms) {
+					meshCountMap.put(meshTerm.getMesh(), meshTerm.getCount());
+				}
+				EngineParameters.setMeshCountMap(meshCountMap);
+			}
+
+			List<Gender> genders = gendersFuture.join();
+			if(genders != null && !genders.isEmpty()) {
+				EngineParameters.setGenders(genders);
+			}
+
+			List<InstitutionAfid> instAfids = instAfidsFuture.join();
+			if(instAfids != null && instAfids.size() > 0) {
+				Map<String, List<String>> institutionAfids = instAfids.stream().collect(Collectors.toMap(InstitutionAfid::getInstitution, InstitutionAfid::getAfids));
+				EngineParameters.setAfiliationNameToAfidMap(institutionAfids);
+			}
+		} finally {
+			executorService.shutdown();
 		}
+		log.info("Loaded the reference tables to Engine Parameters in " + (System.currentTimeMillis() - startTime) + " ms");
 		DegreeYearStrategyUtils degreeYearStrategyUtils = new DegreeYearStrategyUtils();
 		EngineParameters.setDegreeYearDiscrepancyScoreMap(degreeYearStrategyUtils.getDegreeYearDiscrepancyScoreMap(this.degreeYearDiscrepancyScore));
 
@@ -29,6 +29,7 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import reciter.algorithm.cluster.clusteringstrategy.article.ClusteringStrategy;
+import reciter.algorithm.cluster.model.ClusteringFeatureIndex;
 import reciter.algorithm.cluster.model.ReCiterCluster;
 import reciter.algorithm.cluster.similarity.clusteringstrategy.article.EmailFeatureClusteringStrategy;
 import reciter.algorithm.cluster.similarity.clusteringstrategy.article.GrantFeatureClusteringStrategy;
@@ -36,6 +37,7 @@ import reciter.algorithm.cluster.similarity.clusteringstrategy.article.MeshMajor
 import reciter.algorithm.cluster.similarity.clusteringstrategy.article.TepidClusteringStrategy;
 import reciter.algorithm.cluster.similarity.clusteringstrategy.article.BaselineClusteringStrategy;
 import reciter.algorithm.cluster.similarity.clusteringstrategy.article.CitesFeatureClusteringStrategy;
+import reciter.engine.EngineContext;
 import reciter.model.article.ReCiterArticle;
 import reciter.model.identity.Identity;
 
@@ -48,14 +50,15 @@ public class ReCiterClusterer extends AbstractClusterer {
 	private Identity identity;
 	private Map<Long, ReCiterCluster> clusters;
 	private ClusteringStrategy clusteringStrategy;
-	public static int baselineClusterSize;
+	private final EngineContext engineContext;
 	
-	public ReCiterClusterer(Identity identity, List<ReCiterArticle> reCiterArticles) {
+	public ReCiterClusterer(Identity identity, List<ReCiterArticle> reCiterArticles, EngineContext engineContext) {
 		this.reCiterArticles = reCiterArticles;
 		this.identity = identity;
+		this.engineContext = engineContext;
 		clusters = new HashMap<Long, ReCiterCluster>();
 		//clusteringStrategy = new NameMatchingClusteringStrategy(identity);
-		clusteringStrategy = new BaselineClusteringStrategy();
+		clusteringStrategy = new BaselineClusteringStrategy(engineContext);
 	}
 
 	/**
@@ -73,34 +76,35 @@ public class ReCiterClusterer extends AbstractClusterer {
 		log.info("Number of clusters after Baseline clustering: " + clusters.size());
 		log.info("Baseline Clustering Strategy results: " + toString());
 		
-		baselineClusterSize = clusters.size();
+		// Feature indexes shared by the email, grant, cites and mesh major strategies of this run.
+		ClusteringFeatureIndex clusteringFeatureIndex = new ClusteringFeatureIndex(reCiterArticles, engineContext);
 		
 		//Tepid Clustering Strategy
-		clusteringStrategy = new TepidClusteringStrategy();
+		clusteringStrategy = new TepidClusteringStrategy(engineContext);
 		clusters = clusteringStrategy.cluster(clusters);
 		log.info("Number of clusters after tepid strategy clustering: " + clusters.size());
 		log.info("tepid strategy Clustering Strategy results: " + toString());
 		
 		//Email Clustering Strategy
-		clusteringStrategy = new EmailFeatureClusteringStrategy();
+		clusteringStrategy = new EmailFeatureClusteringStrategy(engineContext, clusteringFeatureIndex);
 		clusters = clusteringStrategy.cluster(clusters);
 		log.info("Number of clusters after email strategy clustering: " + clusters.size());
 		log.info("email strategy Clustering Strategy results: " + toString());
 		
 		//Grant Clustering Strategy
-		clusteringStrategy = new GrantFeatureClusteringStrategy();
+		clusteringStrategy = new GrantFeatureClusteringStrategy(engineContext, clusteringFeatureIndex);
 		clusters = clusteringStrategy.cluster(clusters);
 		log.info("Number of clusters after grant strategy clustering: " + clusters.size());
 		log.info("grant strategy Clustering Strategy results: " + toString());
 		
 		//Cites or Cited by Clustering Strategy
-		clusteringStrategy = new CitesFeatureClusteringStrategy();
+		clusteringStrategy = new CitesFeatureClusteringStrategy(engineContext, clusteringFeatureIndex);
 		clusters = clusteringStrategy.cluster(clusters);
 		log.info("Number of clusters after cites strategy clustering: " + clusters.size());
 		log.info("cites strategy Clustering Strategy results: " + toString());
 		
 		//Mesh Major Clustering Strategy
-		clusteringStrategy = new MeshMajorClusteringStrategy();
+		clusteringStrategy = new MeshMajorClusteringStrategy(engineContext, clusteringFeatureIndex);
 		clusters = clusteringStrategy.cluster(clusters);
 		log.info("Number of clusters after mesh major strategy clustering: " + clusters.size());
 		log.info("Mesh Major strategy Clustering Strategy results: " + toString());
@@ -3,10 +3,16 @@ package reciter.algorithm.cluster.article.scorer;
 import static org.hamcrest.CoreMatchers.instanceOf;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +53,7 @@ import reciter.algorithm.evidence.targetauthor.name.ScoreByNameStrategyContext;
 import reciter.algorithm.evidence.targetauthor.name.strategy.ScoreByNameStrategy;
 import reciter.algorithm.evidence.targetauthor.persontype.PersonTypeStrategyContext;
 import reciter.algorithm.evidence.targetauthor.persontype.strategy.PersonTypeStrategy;
+import reciter.engine.EngineContext;
 import reciter.engine.StrategyParameters;
 import reciter.model.article.ReCiterArticle;
 import reciter.model.identity.Identity;
@@ -180,38 +187,48 @@ public class ReCiterArticleScorer extends AbstractArticleScorer {
 
 	private Set<Long> selectedClusterIds; // List of currently selected cluster ids.
 	
-	public static StrategyParameters strategyParameters;
+	private final EngineContext engineContext;
 	
-	public ReCiterArticleScorer(Map<Long, ReCiterCluster> clusters, Identity identity, StrategyParameters strategyParameters) {
+	private final StrategyParameters strategyParameters;
+	
+	private final int numArticles;
+	
+	public ReCiterArticleScorer(Map<Long, ReCiterCluster> clusters, Identity identity, EngineContext engineContext) {
+		this(engineContext, clusters.values().stream().mapToInt(reCiterCluster -> reCiterCluster.getArticleCluster().size()).sum());
+	}
+	
+	/**
+	 * Creates a scorer with its own strategy instances. Some strategies keep scratch state between the articles they
+	 * score, so each thread scoring clusters in parallel gets its own scorer.
+	 */
+	private ReCiterArticleScorer(EngineContext engineContext, int numArticles) {
 		
-		ReCiterArticleScorer.strategyParameters = strategyParameters;
+		this.engineContext = engineContext;
+		this.numArticles = numArticles;
+		this.strategyParameters = engineContext.getStrategyParameters();
 		
 		// Strategies that select clusters that are similar to the target author.
-		this.emailStrategyContext = new EmailStrategyContext(new EmailStringMatchStrategy());
-		this.nameStrategyContext = new ScoreByNameStrategyContext(new ScoreByNameStrategy());
-		this.departmentStringMatchStrategyContext = new DepartmentStrategyContext(new DepartmentStringMatchStrategy());
-		this.journalCategoryStrategyContext = new JournalCategoryStrategyContext(new JournalCategoryStrategy());
-		this.knownRelationshipsStrategyContext = new KnownRelationshipStrategyContext(new KnownRelationshipStrategy());
-		this.affiliationStrategyContext = new AffiliationStrategyContext(new CommonAffiliationStrategy());
-		this.genderStrategyContext = new GenderStrategyContext(new GenderStrategy());
+		this.emailStrategyContext = new EmailStrategyContext(new EmailStringMatchStrategy(engineContext));
+		this.nameStrategyContext = new ScoreByNameStrategyContext(new ScoreByNameStrategy(engineContext));
+		this.departmentStringMatchStrategyContext = new DepartmentStrategyContext(new DepartmentStringMatchStrategy(engineContext));
+		this.journalCategoryStrategyContext = new JournalCategoryStrategyContext(new JournalCategoryStrategy(engineContext));
+		this.knownRelationshipsStrategyContext = new KnownRelationshipStrategyContext(new KnownRelationshipStrategy(engineContext));
+		this.affiliationStrategyContext = new AffiliationStrategyContext(new CommonAffiliationStrategy(engineContext));
+		this.genderStrategyContext = new GenderStrategyContext(new GenderStrategy(engineContext));
 
 		// Using the following strategy contexts in sequence to reassign individual articles
 		// to selected clusters.
-		this.grantStrategyContext = new GrantStrategyContext(new GrantStrategy());
-		this.acceptedRejectedStrategyContext = new AcceptedRejectedStrategyContext(new AcceptedRejectedStrategy());
-		this.averageClusteringStrategyContext = new AverageClusteringStrategyContext(new AverageClusteringStrategy());
-		this.standardScoreStrategyContext = new StandardScoreStrategyContext(new StandardScoreStrategy());
+		this.grantStrategyContext = new GrantStrategyContext(new GrantStrategy(engineContext));
+		this.acceptedRejectedStrategyContext = new AcceptedRejectedStrategyContext(new AcceptedRejectedStrategy(engineContext));
+		this.averageClusteringStrategyContext = new AverageClusteringStrategyContext(new AverageClusteringStrategy(engineContext));
+		this.standardScoreStrategyContext = new StandardScoreStrategyContext(new StandardScoreStrategy(engineContext));
 		
-		int numArticles = 0;
-		for (ReCiterCluster reCiterCluster : clusters.values()) {
-			numArticles += reCiterCluster.getArticleCluster().size();
-		}
-		this.articleSizeStrategyContext = new ArticleSizeStrategyContext(new ArticleSizeStrategy(numArticles));
-		this.personTypeStrategyContext = new PersonTypeStrategyContext(new PersonTypeStrategy());
+		this.articleSizeStrategyContext = new ArticleSizeStrategyContext(new ArticleSizeStrategy(engineContext, numArticles));
+		this.personTypeStrategyContext = new PersonTypeStrategyContext(new PersonTypeStrategy(engineContext));
 
 
-		this.bachelorsYearDiscrepancyStrategyContext = new DegreeStrategyContext(new YearDiscrepancyStrategy(DegreeType.BACHELORS));
-		this.doctoralYearDiscrepancyStrategyContext = new DegreeStrategyContext(new YearDiscrepancyStrategy(DegreeType.DOCTORAL));
+		this.bachelorsYearDiscrepancyStrategyContext = new DegreeStrategyContext(new YearDiscrepancyStrategy(engineContext, DegreeType.BACHELORS));
+		this.doctoralYearDiscrepancyStrategyContext = new DegreeStrategyContext(new YearDiscrepancyStrategy(engineContext, DegreeType.DOCTORAL));
 
 		this.strategyContexts = new ArrayList<StrategyContext>();
 		
@@ -255,69 +272,139 @@ public class ReCiterArticleScorer extends AbstractArticleScorer {
 
 	@Override
 	public void runArticleScorer(Map<Long, ReCiterCluster> clusters, Identity identity) {
+		int parallelism = Math.min(engineContext.getScoringParallelism(), clusters.size());
+		if (parallelism > 1) {
+			scoreClustersInParallel(clusters, identity, parallelism);
+		} else {
+			for (Entry<Long, ReCiterCluster> entry : clusters.entrySet()) {
+				scoreCluster(entry.getKey(), entry.getValue(), identity);
+			}
+		}
+		
+		// Barrier: the clustering and standardization phases only start once every cluster has its evidence.
 		for (Entry<Long, ReCiterCluster> entry : clusters.entrySet()) {
-			long clusterId = entry.getKey();
-			slf4jLogger.info("******************** Cluster " + clusterId + " scoring starts **********************");
 			List<ReCiterArticle> reCiterArticles = entry.getValue().getArticleCluster();
-			((TargetAuthorStrategyContext) nameStrategyContext).executeStrategy(reCiterArticles, identity);
-
-			if (strategyParameters.isEmail()) {
-				((TargetAuthorStrategyContext) emailStrategyContext).executeStrategy(reCiterArticles, identity);
-			}
-			
-			if (strategyParameters.isGrant()) {
-				((TargetAuthorStrategyContext) grantStrategyContext).executeStrategy(reCiterArticles, identity);
-			}
-			
-			if (strategyParameters.isKnownRelationship()) {
-				((TargetAuthorStrategyContext) knownRelationshipsStrategyContext).executeStrategy(reCiterArticles, identity);
-			}
-			
-			if (strategyParameters.isBachelorsYearDiscrepancy()) {
-				((RemoveReCiterArticleStrategyContext) bachelorsYearDiscrepancyStrategyContext).executeStrategy(reCiterArticles, identity);
-			}
-			
-			if (strategyParameters.isDoctoralYearDiscrepancy()) {
-				((RemoveReCiterArticleStrategyContext) doctoralYearDiscrepancyStrategyContext).executeStrategy(reCiterArticles, identity);
-			}
-
-			if (strategyParameters.isDepartment()) {
-				((TargetAuthorStrategyContext) departmentStringMatchStrategyContext).executeStrategy(reCiterArticles, identity);
-			}
-			
-			if(strategyParameters.isJournalCategory()) {
-				((TargetAuthorStrategyContext) journalCategoryStrategyContext).executeStrategy(reCiterArticles, identity);
-			}
-			
-			if (strategyParameters.isAffiliation()) {
-				((TargetAuthorStrategyContext)affiliationStrategyContext).executeStrategy(reCiterArticles, identity);
-			}
-			
-			if (strategyParameters.isArticleSize()) {
-				((TargetAuthorStrategyContext) articleSizeStrategyContext).executeStrategy(reCiterArticles, identity);
-			}
-			
-			if (strategyParameters.isPersonType()) {
-				((TargetAuthorStrategyContext) personTypeStrategyContext).executeStrategy(reCiterArticles, identity);
-			}
-			
-			if (strategyParameters.isUseGoldStandardEvidence()) {
-				((ReCiterArticleStrategyContext) acceptedRejectedStrategyContext).executeStrategy(reCiterArticles);
-			}
-			
-			if(strategyParameters.isGender()) {
-				((TargetAuthorStrategyContext) genderStrategyContext).executeStrategy(reCiterArticles, identity);
-			}
-			
 			if (strategyParameters.isAverageClustering()) {
 				((ClusterStrategyContext) averageClusteringStrategyContext).executeStrategy(entry.getValue());
 			}
 			
 			((ReCiterArticleStrategyContext) standardScoreStrategyContext).executeStrategy(reCiterArticles);
-			
-			
-			slf4jLogger.info("******************** Cluster " + clusterId + " scoring ends **********************");
+		}
+	}
+	
+	/**
+	 * Runs the target author strategies on the articles of one cluster.
+	 */
+	private void scoreCluster(long clusterId, ReCiterCluster reCiterCluster, Identity identity) {
+		slf4jLogger.info("******************** Cluster " + clusterId + " scoring starts **********************");
+		List<ReCiterArticle> reCiterArticles = reCiterCluster.getArticleCluster();
+		((TargetAuthorStrategyContext) nameStrategyContext).executeStrategy(reCiterArticles, identity);
+
+		if (strategyParameters.isEmail()) {
+			((TargetAuthorStrategyContext) emailStrategyContext).executeStrategy(reCiterArticles, identity);
+		}
+		
+		if (strategyParameters.isGrant()) {
+			((TargetAuthorStrategyContext) grantStrategyContext).executeStrategy(reCiterArticles, identity);
+		}
+		
+		if (strategyParameters.isKnownRelationship()) {
+			((TargetAuthorStrategyContext) knownRelationshipsStrategyContext).executeStrategy(reCiterArticles, identity);
+		}
+		
+		if (strategyParameters.isBachelorsYearDiscrepancy()) {
+			((RemoveReCiterArticleStrategyContext) bachelorsYearDiscrepancyStrategyContext).executeStrategy(reCiterArticles, identity);
+		}
+		
+		if (strategyParameters.isDoctoralYearDiscrepancy()) {
+			((RemoveReCiterArticleStrategyContext) doctoralYearDiscrepancyStrategyContext).executeStrategy(reCiterArticles, identity);
+		}
+
+		if (strategyParameters.isDepartment()) {
+			((TargetAuthorStrategyContext) departmentStringMatchStrategyContext).executeStrategy(reCiterArticles, identity);
+		}
+		
+		if(strategyParameters.isJournalCategory()) {
+			((TargetAuthorStrategyContext) journalCategoryStrategyContext).executeStrategy(reCiterArticles, identity);
+		}
+		
+		if (strategyParameters.isAffiliation()) {
+			((TargetAuthorStrategyContext)affiliationStrategyContext).executeStrategy(reCiterArticles, identity);
+		}
+		
+		if (strategyParameters.isArticleSize()) {
+			((TargetAuthorStrategyContext) articleSizeStrategyContext).executeStrategy(reCiterArticles, identity);
 		}
 		
+		if (strategyParameters.isPersonType()) {
+			((TargetAuthorStrategyContext) personTypeStrategyContext).executeStrategy(reCiterArticles, identity);
+		}
+		
+		if (engineContext.isUseGoldStandardEvidence()) {
+			((ReCiterArticleStrategyContext) acceptedRejectedStrategyContext).executeStrategy(reCiterArticles);
+		}
+		
+		if(strategyParameters.isGender()) {
+			((TargetAuthorStrategyContext) genderStrategyContext).executeStrategy(reCiterArticles, identity);
+		}
+		
+		slf4jLogger.info("******************** Cluster " + clusterId + " scoring ends **********************");
+	}
+	
+	/**
+	 * Splits the clusters into <code>parallelism</code> groups of about the same number of articles and scores each
+	 * group on its own thread with its own strategy instances. Every strategy only reads and writes the articles of
+	 * the cluster it is given, so the scores do not depend on the order the clusters are scored in.
+	 */
+	private void scoreClustersInParallel(Map<Long, ReCiterCluster> clusters, Identity identity, int parallelism) {
+		List<List<Entry<Long, ReCiterCluster>>> groups = new ArrayList<>(parallelism);
+		int[] groupSizes = new int[parallelism];
+		for (int i = 0; i < parallelism; i++) {
+			groups.add(new ArrayList<>());
+		}
+		// Largest clusters first, each to the group with the fewest articles so far.
+		List<Entry<Long, ReCiterCluster>> entries = clusters.entrySet().stream()
+				.sorted(Comparator.<Entry<Long, ReCiterCluster>>comparingInt(entry -> entry.getValue().getArticleCluster().size()).reversed()
+						.thenComparing(Entry::getKey))
+				.collect(Collectors.toList());
+		for (Entry<Long, ReCiterCluster> entry : entries) {
+			int smallestGroup = 0;
+			for (int i = 1; i < parallelism; i++) {
+				if (groupSizes[i] < groupSizes[smallestGroup]) {
+					smallestGroup = i;
+				}
+			}
+			groups.get(smallestGroup).add(entry);
+			groupSizes[smallestGroup] += entry.getValue().getArticleCluster().size();
+		}
+		
+		List<Callable<Void>> tasks = new ArrayList<>(parallelism);
+		for (int i = 0; i < parallelism; i++) {
+			List<Entry<Long, ReCiterCluster>> group = groups.get(i);
+			ReCiterArticleScorer scorer = (i == 0) ? this : new ReCiterArticleScorer(engineContext, numArticles);
+			tasks.add(() -> {
+				for (Entry<Long, ReCiterCluster> entry : group) {
+					scorer.scoreCluster(entry.getKey(), entry.getValue(), identity);
+				}
+				return null;
+			});
+		}
+		
+		ForkJoinPool scoringPool = new ForkJoinPool(parallelism);
+		try {
+			for (Future<Void> future : scoringPool.invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while scoring clusters for " + identity.getUid(), e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("Cluster scoring failed for " + identity.getUid(), e.getCause());
+		} finally {
+			scoringPool.shutdown();
+		}
 	}
 }
@@ -18,6 +18,13 @@
  *******************************************************************************/
 package reciter.algorithm.cluster.clusteringstrategy.article;
 
+import reciter.engine.EngineContext;
+
 public abstract class AbstractClusteringStrategy implements ClusteringStrategy {
 	
+	protected final EngineContext engineContext;
+	
+	protected AbstractClusteringStrategy(EngineContext engineContext) {
+		this.engineContext = engineContext;
+	}
 }
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *******************************************************************************/
+package reciter.algorithm.cluster.clusteringstrategy.article;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import reciter.algorithm.cluster.model.ClusteringFeatureIndex;
+import reciter.algorithm.cluster.model.DisjointClusterSet;
+import reciter.algorithm.cluster.model.ReCiterCluster;
+import reciter.engine.EngineContext;
+import reciter.model.article.ReCiterArticle;
+
+/**
+ * Base class for the strategies that merge clusters as soon as an article of one cluster shares a feature with an
+ * article of another cluster. The groups of linked articles come from the {@link ClusteringFeatureIndex} of the run,
+ * so merging costs one union per article of each group rather than a comparison of every pair of clusters.
+ */
+public abstract class AbstractIndexedClusteringStrategy extends AbstractClusteringStrategy {
+
+	protected final ClusteringFeatureIndex clusteringFeatureIndex;
+
+	protected AbstractIndexedClusteringStrategy(EngineContext engineContext, ClusteringFeatureIndex clusteringFeatureIndex) {
+		super(engineContext);
+		this.clusteringFeatureIndex = clusteringFeatureIndex;
+	}
+
+	@Override
+	public Map<Long, ReCiterCluster> cluster(Map<Long, ReCiterCluster> clusters) {
+		Map<ReCiterArticle, Long> clusterIdByArticle = new IdentityHashMap<>();
+		for (Entry<Long, ReCiterCluster> entry : clusters.entrySet()) {
+			for (ReCiterArticle reCiterArticle : entry.getValue().getArticleCluster()) {
+				clusterIdByArticle.put(reCiterArticle, entry.getKey());
+			}
+		}
+
+		DisjointClusterSet disjointClusterSet = new DisjointClusterSet(clusters.keySet());
+		for (List<ReCiterArticle> linkedArticles : getLinkedArticles()) {
+			Long firstClusterId = null;
+			for (ReCiterArticle reCiterArticle : linkedArticles) {
+				Long clusterId = clusterIdByArticle.get(reCiterArticle);
+				if (clusterId == null) {
+					continue;
+				}
+				if (firstClusterId == null) {
+					firstClusterId = clusterId;
+				} else {
+					disjointClusterSet.union(firstClusterId, clusterId);
+				}
+			}
+		}
+		return disjointClusterSet.merge(clusters);
+	}
+
+	/**
+	 * @return groups of articles whose clusters must be merged
+	 */
+	protected abstract Collection<List<ReCiterArticle>> getLinkedArticles();
+}
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *******************************************************************************/
+package reciter.algorithm.cluster.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import reciter.model.article.ReCiterArticle;
+import reciter.model.article.ReCiterArticleFeatures;
+
+/**
+ * The {@link ReCiterArticleFeatures} of an article compiled for the tepid similarity: journal, MeSH major and
+ * co-author strings are replaced by integer ids interned per run and kept in sorted arrays together with the
+ * affiliation ids, so the overlap between two articles is a merge of sorted arrays without any allocation.
+ */
+public final class ArticleFeatureSignature {
+
+	private static final int[] EMPTY = new int[0];
+
+	private static final ArticleFeatureSignature NO_FEATURES = new ArticleFeatureSignature(-1, EMPTY, EMPTY, EMPTY, 0);
+
+	/**
+	 * Interned id of the lower cased journal name, -1 if the article has no journal.
+	 */
+	private final int journalId;
+
+	private final int[] meshMajorIds;
+
+	private final int[] coAuthorIds;
+
+	private final int[] affiliationIds;
+
+	private final int featureCount;
+
+	private ArticleFeatureSignature(int journalId, int[] meshMajorIds, int[] coAuthorIds, int[] affiliationIds, int featureCount) {
+		this.journalId = journalId;
+		this.meshMajorIds = meshMajorIds;
+		this.coAuthorIds = coAuthorIds;
+		this.affiliationIds = affiliationIds;
+		this.featureCount = featureCount;
+	}
+
+	public int getFeatureCount() {
+		return featureCount;
+	}
+
+	/**
+	 * Number of features of this article found in <code>other</code>: 1 for the same journal (ignoring case), 1 for each
+	 * MeSH major and co-author of this article that <code>other</code> also has, and 1 if they share any affiliation id.
+	 */
+	public int overlapCount(ArticleFeatureSignature other) {
+		int matchCount = 0;
+		if (journalId != -1 && journalId == other.journalId) {
+			matchCount++;
+		}
+		matchCount += countContained(meshMajorIds, other.meshMajorIds);
+		matchCount += countContained(coAuthorIds, other.coAuthorIds);
+		if (countContained(affiliationIds, other.affiliationIds) > 0) {
+			matchCount++;
+		}
+		return matchCount;
+	}
+
+	/**
+	 * Similarity of two articles, which is overlap<sup>2</sup> / (featureCount1 * featureCount2). Articles with fewer
+	 * than 3 features or without any overlap have a similarity of 0.
+	 */
+	public double similarityScore(ArticleFeatureSignature other) {
+		if (featureCount < 3 || other.featureCount < 3) {
+			return 0;
+		}
+		int matchCount = overlapCount(other);
+		if (matchCount == 0) {
+			return 0;
+		}
+		return Math.pow(matchCount, 2) / (featureCount * other.featureCount);
+	}
+
+	/**
+	 * Counts the elements of <code>ids</code>, duplicates included, that are present in <code>otherIds</code>.
+	 * Both arrays must be sorted.
+	 */
+	private static int countContained(int[] ids, int[] otherIds) {
+		int count = 0;
+		int i = 0;
+		int j = 0;
+		while (i < ids.length && j < otherIds.length) {
+			if (ids[i] < otherIds[j]) {
+				i++;
+			} else if (ids[i] > otherIds[j]) {
+				j++;
+			} else {
+				count++;
+				i++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Compiles and caches the signatures of the articles of one run. Ids are only comparable between signatures
+	 * compiled by the same compiler.
+	 */
+	public static class Compiler {
+
+		private final Map<String, Integer> journalIds = new HashMap<>();
+
+		private final Map<String, Integer> meshMajorIds = new HashMap<>();
+
+		private final Map<String, Integer> coAuthorIds = new HashMap<>();
+
+		private final Map<ReCiterArticle, ArticleFeatureSignature> signatures = new IdentityHashMap<>();
+
+		public ArticleFeatureSignature getSignature(ReCiterArticle reCiterArticle) {
+			ArticleFeatureSignature signature = signatures.get(reCiterArticle);
+			if (signature == null) {
+				signature = compile(reCiterArticle.getReCiterArticleFeatures());
+				signatures.put(reCiterArticle, signature);
+			}
+			return signature;
+		}
+
+		private ArticleFeatureSignature compile(ReCiterArticleFeatures reCiterArticleFeatures) {
+			if (reCiterArticleFeatures == null) {
+				return NO_FEATURES;
+			}
+			int journalId = -1;
+			if (reCiterArticleFeatures.getJournalName() != null && !reCiterArticleFeatures.getJournalName().isEmpty()) {
+				journalId = intern(journalIds, reCiterArticleFeatures.getJournalName().toLowerCase());
+			}
+			int[] affiliationIds = EMPTY;
+			if (reCiterArticleFeatures.getAffiliationIds() != null && !reCiterArticleFeatures.getAffiliationIds().isEmpty()) {
+				affiliationIds = reCiterArticleFeatures.getAffiliationIds().stream()
+						.filter(affiliationId -> affiliationId != null)
+						.mapToInt(Integer::intValue)
+						.sorted()
+						.toArray();
+			}
+			return new ArticleFeatureSignature(journalId,
+					internAll(meshMajorIds, reCiterArticleFeatures.getMeshMajor()),
+					internAll(coAuthorIds, reCiterArticleFeatures.getCoAuthors()),
+					affiliationIds,
+					reCiterArticleFeatures.getFeatureCount());
+		}
+
+		private static int[] internAll(Map<String, Integer> ids, List<String> values) {
+			if (values == null || values.isEmpty()) {
+				return EMPTY;
+			}
+			int[] internedIds = new int[values.size()];
+			int size = 0;
+			for (String value : values) {
+				if (value != null) {
+					internedIds[size++] = intern(ids, value);
+				}
+			}
+			internedIds = size == internedIds.length ? internedIds : Arrays.copyOf(internedIds, size);
+			Arrays.sort(internedIds);
+			return internedIds;
+		}
+
+		private static int intern(Map<String, Integer> ids, String value) {
+			Integer id = ids.get(value);
+			if (id == null) {
+				id = ids.size();
+				ids.put(value, id);
+			}
+			return id;
+		}
+	}
+}
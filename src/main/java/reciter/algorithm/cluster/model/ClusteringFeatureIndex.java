@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *******************************************************************************/
+package reciter.algorithm.cluster.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import reciter.algorithm.cluster.similarity.clusteringstrategy.article.MeshMajorClusteringStrategy;
+import reciter.engine.EngineContext;
+import reciter.engine.EngineParameters;
+import reciter.model.article.ReCiterArticle;
+import reciter.model.article.ReCiterArticleGrant;
+import reciter.model.article.ReCiterArticleMeshHeading;
+import reciter.model.article.ReCiterAuthor;
+
+/**
+ * Inverted indexes from the sanitized grant ids, valid emails, cited pmids and MeSH major descriptors of the
+ * articles of one engine run to the articles that contain them.
+ * <p>
+ * Each index returns groups of articles that are linked to each other by that feature, following the same rules as
+ * {@link ReCiterCluster#compareTo(ReCiterCluster, String, EngineContext)}, so clustering strategies can merge the
+ * clusters of a group directly instead of scanning every pair of clusters. An index is built the first time it is
+ * requested, which must be after the strategy owning the feature has sanitized it (e.g. grant ids or emails).
+ */
+public class ClusteringFeatureIndex {
+
+	private static final long MESH_MAJOR_MAX_COUNT = 4000L;
+
+	private final List<ReCiterArticle> reCiterArticles;
+
+	private final EngineContext engineContext;
+
+	private Collection<List<ReCiterArticle>> grantGroups;
+
+	private Collection<List<ReCiterArticle>> emailGroups;
+
+	private Collection<List<ReCiterArticle>> citesGroups;
+
+	private Collection<List<ReCiterArticle>> meshMajorGroups;
+
+	public ClusteringFeatureIndex(List<ReCiterArticle> reCiterArticles, EngineContext engineContext) {
+		this.reCiterArticles = reCiterArticles;
+		this.engineContext = engineContext;
+	}
+
+	/**
+	 * Articles sharing a sanitized grant id (ignoring case). Articles with more sanitized grant ids than the clustering
+	 * grants threshold are left out.
+	 */
+	public Collection<List<ReCiterArticle>> getGrantGroups() {
+		if (grantGroups == null) {
+			Map<String, List<ReCiterArticle>> articlesByGrant = new LinkedHashMap<>();
+			for (ReCiterArticle reCiterArticle : reCiterArticles) {
+				if (reCiterArticle.getGrantList() == null
+						|| reCiterArticle.getGrantList().stream().filter(grant -> grant.getSanitizedGrantID() != null).count() > engineContext.getClusteringGrantsThreshold()) {
+					continue;
+				}
+				Set<String> grantIds = new HashSet<>();
+				for (ReCiterArticleGrant grant : reCiterArticle.getGrantList()) {
+					if (grant.getSanitizedGrantID() != null && !grant.getSanitizedGrantID().isEmpty()) {
+						grantIds.add(grant.getSanitizedGrantID().trim().toLowerCase(Locale.ROOT));
+					}
+				}
+				grantIds.forEach(grantId -> articlesByGrant.computeIfAbsent(grantId, key -> new ArrayList<>()).add(reCiterArticle));
+			}
+			grantGroups = linkedGroups(articlesByGrant);
+		}
+		return grantGroups;
+	}
+
+	/**
+	 * Articles having an author with the same valid email (ignoring case).
+	 */
+	public Collection<List<ReCiterArticle>> getEmailGroups() {
+		if (emailGroups == null) {
+			Map<String, List<ReCiterArticle>> articlesByEmail = new LinkedHashMap<>();
+			for (ReCiterArticle reCiterArticle : reCiterArticles) {
+				Set<String> emails = new HashSet<>();
+				for (ReCiterAuthor author : reCiterArticle.getArticleCoAuthors().getAuthors()) {
+					if (author.getValidEmail() != null && !author.getValidEmail().isEmpty()) {
+						emails.add(author.getValidEmail().toLowerCase(Locale.ROOT));
+					}
+				}
+				emails.forEach(email -> articlesByEmail.computeIfAbsent(email, key -> new ArrayList<>()).add(reCiterArticle));
+			}
+			emailGroups = linkedGroups(articlesByEmail);
+		}
+		return emailGroups;
+	}
+
+	/**
+	 * An article together with every article of this run that cites it.
+	 */
+	public Collection<List<ReCiterArticle>> getCitesGroups() {
+		if (citesGroups == null) {
+			Map<Long, ReCiterArticle> articlesByPmid = new HashMap<>();
+			for (ReCiterArticle reCiterArticle : reCiterArticles) {
+				if (reCiterArticle.getArticleId() != 0) {
+					articlesByPmid.putIfAbsent(reCiterArticle.getArticleId(), reCiterArticle);
+				}
+			}
+			Map<Long, List<ReCiterArticle>> articlesByCitedPmid = new LinkedHashMap<>();
+			for (ReCiterArticle reCiterArticle : reCiterArticles) {
+				if (reCiterArticle.getCommentsCorrectionsPmids() == null) {
+					continue;
+				}
+				for (Long citedPmid : new HashSet<>(reCiterArticle.getCommentsCorrectionsPmids())) {
+					ReCiterArticle citedArticle = citedPmid == null ? null : articlesByPmid.get(citedPmid);
+					if (citedArticle != null && citedArticle != reCiterArticle) {
+						articlesByCitedPmid.computeIfAbsent(citedPmid, key -> {
+							List<ReCiterArticle> group = new ArrayList<>();
+							group.add(citedArticle);
+							return group;
+						}).add(reCiterArticle);
+					}
+				}
+			}
+			citesGroups = new ArrayList<>(articlesByCitedPmid.values());
+		}
+		return citesGroups;
+	}
+
+	/**
+	 * Articles sharing a MeSH major descriptor (ignoring case) whose global count is below 4,000. Two articles are
+	 * linked if the count of either article's spelling of the descriptor is below the limit, so a group is kept when
+	 * at least one of its articles qualifies.
+	 */
+	public Collection<List<ReCiterArticle>> getMeshMajorGroups() {
+		if (meshMajorGroups == null) {
+			Map<String, List<ReCiterArticle>> articlesByMeshMajor = new LinkedHashMap<>();
+			Set<String> qualifyingMeshMajors = new HashSet<>();
+			Map<String, Long> meshCountMap = EngineParameters.getMeshCountMap();
+			for (ReCiterArticle reCiterArticle : reCiterArticles) {
+				if (reCiterArticle.getMeshHeadings() == null) {
+					continue;
+				}
+				Set<String> meshMajors = new HashSet<>();
+				for (ReCiterArticleMeshHeading meshHeading : reCiterArticle.getMeshHeadings()) {
+					if (meshHeading != null && MeshMajorClusteringStrategy.isMeshMajor(meshHeading)) {
+						String descriptorName = meshHeading.getDescriptorName().getDescriptorName();
+						if (descriptorName == null) {
+							continue;
+						}
+						String key = descriptorName.toLowerCase(Locale.ROOT);
+						meshMajors.add(key);
+						if (meshCountMap != null && meshCountMap.containsKey(descriptorName) && meshCountMap.get(descriptorName) < MESH_MAJOR_MAX_COUNT) {
+							qualifyingMeshMajors.add(key);
+						}
+					}
+				}
+				meshMajors.forEach(meshMajor -> articlesByMeshMajor.computeIfAbsent(meshMajor, key -> new ArrayList<>()).add(reCiterArticle));
+			}
+			articlesByMeshMajor.keySet().retainAll(qualifyingMeshMajors);
+			meshMajorGroups = linkedGroups(articlesByMeshMajor);
+		}
+		return meshMajorGroups;
+	}
+
+	private static Collection<List<ReCiterArticle>> linkedGroups(Map<?, List<ReCiterArticle>> articlesByFeature) {
+		return articlesByFeature.values().stream()
+				.filter(articles -> articles.size() > 1)
+				.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *******************************************************************************/
+package reciter.algorithm.cluster.model;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Disjoint-set (union-find) over cluster ids, used by the clustering strategies to merge clusters.
+ * <p>
+ * Each set is represented by its smallest cluster id, so merging a set of clusters always keeps the
+ * cluster with the lowest id and appends the articles of the others in ascending id order.
+ */
+public class DisjointClusterSet {
+
+	/**
+	 * Cluster ids in ascending order, the position of an id is its index in the arrays below.
+	 */
+	private final long[] clusterIds;
+
+	private final Map<Long, Integer> indexByClusterId;
+
+	private final int[] parent;
+
+	private final int[] rank;
+
+	/**
+	 * Smallest index (and therefore smallest cluster id) of the set rooted at each index.
+	 */
+	private final int[] minIndex;
+
+	private int setCount;
+
+	public DisjointClusterSet(Collection<Long> clusterIds) {
+		this.clusterIds = clusterIds.stream().mapToLong(Long::longValue).sorted().toArray();
+		this.indexByClusterId = new HashMap<>(this.clusterIds.length * 2);
+		this.parent = new int[this.clusterIds.length];
+		this.rank = new int[this.clusterIds.length];
+		this.minIndex = new int[this.clusterIds.length];
+		for (int i = 0; i < this.clusterIds.length; i++) {
+			indexByClusterId.put(this.clusterIds[i], i);
+			parent[i] = i;
+			minIndex[i] = i;
+		}
+		this.setCount = this.clusterIds.length;
+	}
+
+	/**
+	 * @param clusterId cluster id
+	 * @return the smallest cluster id in the set containing <code>clusterId</code>
+	 */
+	public long find(long clusterId) {
+		return clusterIds[minIndex[findRoot(indexOf(clusterId))]];
+	}
+
+	/**
+	 * @return true if both clusters are already in the same set
+	 */
+	public boolean connected(long clusterId1, long clusterId2) {
+		return findRoot(indexOf(clusterId1)) == findRoot(indexOf(clusterId2));
+	}
+
+	/**
+	 * Merges the sets containing the two clusters.
+	 * @return true if the clusters were in different sets
+	 */
+	public boolean union(long clusterId1, long clusterId2) {
+		int root1 = findRoot(indexOf(clusterId1));
+		int root2 = findRoot(indexOf(clusterId2));
+		if (root1 == root2) {
+			return false;
+		}
+		if (rank[root1] < rank[root2]) {
+			int swap = root1;
+			root1 = root2;
+			root2 = swap;
+		}
+		parent[root2] = root1;
+		if (rank[root1] == rank[root2]) {
+			rank[root1]++;
+		}
+		minIndex[root1] = Math.min(minIndex[root1], minIndex[root2]);
+		setCount--;
+		return true;
+	}
+
+	/**
+	 * @return number of disjoint sets
+	 */
+	public int size() {
+		return setCount;
+	}
+
+	/**
+	 * Applies the unions to the clusters. The cluster with the smallest id of each set is kept and the
+	 * articles of the other clusters of the set are added to it in ascending cluster id order.
+	 * @param clusters clusters keyed by the cluster ids this set was built from
+	 * @return merged clusters keyed by cluster id
+	 */
+	public Map<Long, ReCiterCluster> merge(Map<Long, ReCiterCluster> clusters) {
+		Map<Long, ReCiterCluster> mergedClusters = new HashMap<>(setCount * 2);
+		for (int i = 0; i < clusterIds.length; i++) {
+			long representative = clusterIds[minIndex[findRoot(i)]];
+			ReCiterCluster reCiterCluster = clusters.get(clusterIds[i]);
+			if (representative == clusterIds[i]) {
+				mergedClusters.put(representative, reCiterCluster);
+			} else {
+				mergedClusters.get(representative).addAll(reCiterCluster.getArticleCluster());
+			}
+		}
+		return mergedClusters;
+	}
+
+	private int indexOf(long clusterId) {
+		Integer index = indexByClusterId.get(clusterId);
+		if (index == null) {
+			throw new IllegalArgumentException("Unknown cluster id " + clusterId);
+		}
+		return index;
+	}
+
+	private int findRoot(int index) {
+		while (parent[index] != index) {
+			parent[index] = parent[parent[index]];
+			index = parent[index];
+		}
+		return index;
+	}
+}
@@ -22,14 +22,12 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.StringUtils;
 import reciter.algorithm.cluster.similarity.clusteringstrategy.article.MeshMajorClusteringStrategy;
 import reciter.engine.EngineParameters;
-import reciter.engine.ReCiterEngine;
+import reciter.engine.EngineContext;
 import reciter.model.article.ReCiterArticle;
-import reciter.model.article.ReCiterArticleFeatures;
 import reciter.model.article.ReCiterArticleGrant;
 import reciter.model.article.ReCiterArticleMeshHeading;
 import reciter.model.article.ReCiterAuthor;
@@ -42,11 +40,6 @@ public class ReCiterCluster implements Comparable<ReCiterCluster>{
 	 */
 	private final long clusterId;
 	
-	/**
-	 * Atomic integer counter
-	 */
-	private static AtomicInteger clusterIDCounter = new AtomicInteger(0);
-
 	/**
 	 * List of articles in its cluster.
 	 */
@@ -208,18 +201,14 @@ public class ReCiterCluster implements Comparable<ReCiterCluster>{
 		this.clusterReliabilityScore = clusterReliabilityScore;
 	}
 
-	public ReCiterCluster() {
-		this.clusterId = clusterIDCounter.incrementAndGet();
+	public ReCiterCluster(long clusterId) {
+		this.clusterId = clusterId;
 		this.articleCluster = new ArrayList<ReCiterArticle>();
 	}
 
 	public long getClusterID() {
 		return clusterId;
 	}
-	
-	public static AtomicInteger getClusterIDCounter() {
-		return clusterIDCounter;
-	}
 
 	public long getClusterOriginator() {
 		return clusterOriginator;
@@ -271,18 +260,23 @@ public class ReCiterCluster implements Comparable<ReCiterCluster>{
 	}
 	
 	/**
+	 * Reference rules for linking two clusters by grant, cites or MeSH major. Clustering does not call this: the
+	 * strategies link clusters through the groups of {@link ClusteringFeatureIndex}, which must give the same links.
+	 * It is kept as the specification of those groups and IndexedClusteringStrategyTest checks them against it, so a
+	 * change to a rule here has to be made in ClusteringFeatureIndex too.
 	 * @param o The ReCiterCluster to compare to
 	 * @param comparisonType what kind of comparison happening e.g. email or grants etc.
+	 * @param engineContext the context of the current engine run holding the clustering thresholds
 	 * @return 1 if equal or 0 if not
 	 */
-	public int compareTo(ReCiterCluster o, String comparisonType) {
+	public int compareTo(ReCiterCluster o, String comparisonType, EngineContext engineContext) {
 		boolean match = false;
 		if(comparisonType.equalsIgnoreCase("grant")) {
 			for(ReCiterArticle reCiterArticle: o.getArticleCluster()) {
-				if(reCiterArticle.getGrantList().stream().filter(articlegrant -> articlegrant.getSanitizedGrantID() != null).count() <= ReCiterEngine.clutseringGrantsThreshold) {
+				if(reCiterArticle.getGrantList().stream().filter(articlegrant -> articlegrant.getSanitizedGrantID() != null).count() <= engineContext.getClusteringGrantsThreshold()) {
 					for(ReCiterArticleGrant granto: reCiterArticle.getGrantList()) {
 						if(granto.getSanitizedGrantID() != null && !granto.getSanitizedGrantID().isEmpty()) {
-							match = this.articleCluster.stream().anyMatch(articleList -> articleList.getGrantList().stream().filter(articlegrant -> articlegrant.getSanitizedGrantID() != null).count() <= ReCiterEngine.clutseringGrantsThreshold
+							match = this.articleCluster.stream().anyMatch(articleList -> articleList.getGrantList().stream().filter(articlegrant -> articlegrant.getSanitizedGrantID() != null).count() <= engineContext.getClusteringGrantsThreshold()
 							&&
 							articleList.getGrantList().stream().anyMatch(grant -> grant.getSanitizedGrantID() != null && !grant.getSanitizedGrantID().isEmpty() 
 							&&
@@ -328,63 +322,35 @@ public class ReCiterCluster implements Comparable<ReCiterCluster>{
 				}
 			}
 		} else if(comparisonType.equalsIgnoreCase("tepid")) {
-			int matchCount = 0;
-			double clusterSimilarityScore = 0;
-			for(ReCiterArticle reCiterArticleo: o.getArticleCluster()) {
-				for(ReCiterArticle reCiterArticle: this.articleCluster) {
-					matchCount = reCiterOverlapCount(reCiterArticle.getReCiterArticleFeatures(), reCiterArticleo.getReCiterArticleFeatures());
-					if(matchCount > 0 && reCiterArticle.getReCiterArticleFeatures().getFeatureCount() >= 3 && reCiterArticleo.getReCiterArticleFeatures().getFeatureCount() >= 3) {
-						clusterSimilarityScore = computeClusterSimilarityScore(reCiterArticle.getReCiterArticleFeatures().getFeatureCount(), reCiterArticleo.getReCiterArticleFeatures().getFeatureCount(), matchCount);
-						if(clusterSimilarityScore > ReCiterEngine.clusterSimilarityThresholdScore) {
-							return 1;
-						}
-					}
-				}
+			if(isTepidMatch(o, new ArticleFeatureSignature.Compiler(), engineContext)) {
+				return 1;
 			}
 		}
 		return 0;
 	}
 	
-	private int reCiterOverlapCount(ReCiterArticleFeatures reCiterArticleFeature1, ReCiterArticleFeatures reCiterArticleFeature2) {
-		int matchCount = 0;
-		//Journal Feature match
-		if(reCiterArticleFeature1.getJournalName() != null && !reCiterArticleFeature1.getJournalName().isEmpty() && 
-				reCiterArticleFeature2.getJournalName() != null && !reCiterArticleFeature2.getJournalName().isEmpty() &&
-				StringUtils.equalsIgnoreCase(reCiterArticleFeature1.getJournalName(), reCiterArticleFeature2.getJournalName())) {
-			matchCount++;
-		}
-		//MeshMajor Feature match
-		if(reCiterArticleFeature1.getMeshMajor() != null && reCiterArticleFeature1.getMeshMajor().size() > 0 &&
-				reCiterArticleFeature2.getMeshMajor() != null && reCiterArticleFeature2.getMeshMajor().size() > 0) {
-			List<String> matchingMeshMajor = new ArrayList<String>(reCiterArticleFeature1.getMeshMajor());
-			matchingMeshMajor.retainAll(reCiterArticleFeature2.getMeshMajor());
-			if(matchingMeshMajor.size() > 0) {
-				matchCount = matchCount + matchingMeshMajor.size();
-			}
-		}
-		//Co-Author Feature match
-		if(reCiterArticleFeature1.getCoAuthors() != null && reCiterArticleFeature1.getCoAuthors().size() > 0 &&
-				reCiterArticleFeature2.getCoAuthors() != null && reCiterArticleFeature2.getCoAuthors().size() > 0) {
-			List<String> matchingCoAuthor = new ArrayList<String>(reCiterArticleFeature1.getCoAuthors());
-			matchingCoAuthor.retainAll(reCiterArticleFeature2.getCoAuthors());
-			if(matchingCoAuthor.size() > 0) {
-				matchCount = matchCount + matchingCoAuthor.size();
+	/**
+	 * Checks whether an article of this cluster is similar enough to an article of the other cluster based on their
+	 * journal, meshMajor, co-author and affiliation features.
+	 * @param o The ReCiterCluster to compare to
+	 * @param compiler compiler holding the feature signatures of the current run
+	 * @param engineContext the context of the current engine run holding the cluster similarity threshold
+	 * @return true if any pair of articles exceeds the cluster similarity threshold
+	 */
+	public boolean isTepidMatch(ReCiterCluster o, ArticleFeatureSignature.Compiler compiler, EngineContext engineContext) {
+		double clusterSimilarityThresholdScore = engineContext.getClusterSimilarityThresholdScore();
+		for(ReCiterArticle reCiterArticleo: o.getArticleCluster()) {
+			ArticleFeatureSignature signatureo = compiler.getSignature(reCiterArticleo);
+			if(signatureo.getFeatureCount() < 3) {
+				continue;
 			}
-		}
-		
-		if(reCiterArticleFeature1.getAffiliationIds() != null && reCiterArticleFeature1.getAffiliationIds().size() > 0 &&
-				reCiterArticleFeature2.getAffiliationIds() != null && reCiterArticleFeature2.getAffiliationIds().size() > 0) {
-			List<Integer> matchingAffiliationId = new ArrayList<Integer>(reCiterArticleFeature1.getAffiliationIds());
-			matchingAffiliationId.retainAll(reCiterArticleFeature2.getAffiliationIds());
-			if(matchingAffiliationId.size() > 0) {
-				matchCount = matchCount + 1;
+			for(ReCiterArticle reCiterArticle: this.articleCluster) {
+				if(compiler.getSignature(reCiterArticle).similarityScore(signatureo) > clusterSimilarityThresholdScore) {
+					return true;
+				}
 			}
 		}
-		return matchCount;
-	}
-	
-	private double computeClusterSimilarityScore(int clusterScore1, int clusterScore2, int overlapScore) {
-		return Math.pow(overlapScore, 2)/(clusterScore1 * clusterScore2);
+		return false;
 	}
 	
 
@@ -5,9 +5,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
 
 import reciter.algorithm.cluster.clusteringstrategy.article.AbstractClusteringStrategy;
 import reciter.algorithm.cluster.model.ReCiterCluster;
+import reciter.engine.EngineContext;
 import reciter.model.article.ReCiterArticle;
 
 
@@ -18,6 +20,9 @@ import reciter.model.article.ReCiterArticle;
  */
 public class BaselineClusteringStrategy extends AbstractClusteringStrategy {
 	
+	public BaselineClusteringStrategy(EngineContext engineContext) {
+		super(engineContext);
+	}
 	
 	/**
 	 * Select the first article from the list. Iterate through the remaining
@@ -26,15 +31,15 @@ public class BaselineClusteringStrategy extends AbstractClusteringStrategy {
 	@Override
 	public Map<Long, ReCiterCluster> cluster(List<ReCiterArticle> reCiterArticles) {
 		
-		// Reset ReCiterCluster's static id counter to 0, so that subsequent calls
-		// to cluster method has ReCiterCluster id starts with 0.
-		ReCiterCluster.getClusterIDCounter().set(0);
+		// Cluster ids are local to this call and start at 1, so that concurrent runs
+		// never share an id sequence.
+		AtomicLong clusterIdCounter = new AtomicLong(0);
 		
 		Map<Long, ReCiterCluster> clusters = new HashMap<>();
 
 		reCiterArticles.forEach(article -> {
 			// create its own cluster.
-			ReCiterCluster newReCiterCluster = new ReCiterCluster();
+			ReCiterCluster newReCiterCluster = new ReCiterCluster(clusterIdCounter.incrementAndGet());
 			//newReCiterCluster.setClusterOriginator(article.getArticleId());
 			newReCiterCluster.add(article);
 			clusters.put(newReCiterCluster.getClusterID(), newReCiterCluster);
@@ -1,5 +1,6 @@
 package reciter.algorithm.cluster.similarity.clusteringstrategy.article;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -10,9 +11,10 @@ import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import reciter.algorithm.cluster.ReCiterClusterer;
-import reciter.algorithm.cluster.clusteringstrategy.article.AbstractClusteringStrategy;
+import reciter.algorithm.cluster.clusteringstrategy.article.AbstractIndexedClusteringStrategy;
+import reciter.algorithm.cluster.model.ClusteringFeatureIndex;
 import reciter.algorithm.cluster.model.ReCiterCluster;
+import reciter.engine.EngineContext;
 import reciter.model.article.ReCiterArticle;
 import reciter.model.article.ReCiterAuthor;
 
@@ -21,10 +23,14 @@ import reciter.model.article.ReCiterAuthor;
  * This class parses email addresses of all authors including where targetAuthor is FALSE and TRUE. Preprocess the affiliation string
  * in standardized format and if has a valid email then put that article in the same cluster
  */
-public class EmailFeatureClusteringStrategy extends AbstractClusteringStrategy {
+public class EmailFeatureClusteringStrategy extends AbstractIndexedClusteringStrategy {
 	
 	private static final Logger slf4jLogger = LoggerFactory.getLogger(EmailFeatureClusteringStrategy.class);
 
+	public EmailFeatureClusteringStrategy(EngineContext engineContext, ClusteringFeatureIndex clusteringFeatureIndex) {
+		super(engineContext, clusteringFeatureIndex);
+	}
+
 	@Override
 	public Map<Long, ReCiterCluster> cluster(List<ReCiterArticle> reCiterArticles) {
 		// TODO Auto-generated method stub
@@ -52,25 +58,12 @@ public class EmailFeatureClusteringStrategy extends AbstractClusteringStrategy {
 			}
 		}
 		
-		//Compare each clusters with all other for matching email
-		long mapSize = ReCiterClusterer.baselineClusterSize;
-		for(long i=(long) 1 ; i <= mapSize ; i++) {
-			long index = i;
-			for(long j = 1; j <= mapSize; j++) {
-				if(i==j) {
-					continue;
-				}
-				else {
-					if(clusters.get(j) != null && clusters.get(index) != null) {
-						if(clusters.get(index).compareTo(clusters.get(j)) == 1) {
-							clusters.get(index).addAll(clusters.get(j).getArticleCluster());
-							clusters.remove(j);
-						}
-					}
-				}
-			}
-		}
-		return clusters;
+		return super.cluster(clusters);
+	}
+	
+	@Override
+	protected Collection<List<ReCiterArticle>> getLinkedArticles() {
+		return clusteringFeatureIndex.getEmailGroups();
 	}
 	
 	private void checkForValidEmail(ReCiterArticle reCiterArticle) {
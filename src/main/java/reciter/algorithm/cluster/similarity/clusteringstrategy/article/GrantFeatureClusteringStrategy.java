@@ -1,5 +1,6 @@
 package reciter.algorithm.cluster.similarity.clusteringstrategy.article;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -7,9 +8,10 @@ import java.util.Map.Entry;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import reciter.algorithm.cluster.ReCiterClusterer;
-import reciter.algorithm.cluster.clusteringstrategy.article.AbstractClusteringStrategy;
+import reciter.algorithm.cluster.clusteringstrategy.article.AbstractIndexedClusteringStrategy;
+import reciter.algorithm.cluster.model.ClusteringFeatureIndex;
 import reciter.algorithm.cluster.model.ReCiterCluster;
+import reciter.engine.EngineContext;
 import reciter.model.article.ReCiterArticle;
 import reciter.model.article.ReCiterArticleGrant;
 
@@ -21,8 +23,12 @@ import reciter.model.article.ReCiterArticleGrant;
  * It also checks for transitive property matches as well. 
  * For full details refer to https://github.com/wcmc-its/ReCiter/issues/217 section 4. - Feature: grant identifiers.
  */
-public class GrantFeatureClusteringStrategy extends AbstractClusteringStrategy {
+public class GrantFeatureClusteringStrategy extends AbstractIndexedClusteringStrategy {
 	
+	public GrantFeatureClusteringStrategy(EngineContext engineContext, ClusteringFeatureIndex clusteringFeatureIndex) {
+		super(engineContext, clusteringFeatureIndex);
+	}
+
 	//private static final Logger slf4jLogger = LoggerFactory.getLogger(GrantFeatureClusteringStrategy.class);
 
 	@Override
@@ -52,25 +58,12 @@ public class GrantFeatureClusteringStrategy extends AbstractClusteringStrategy {
 			}
 		}
 		
-		//Compare each clusters with all other for matching grant ID
-		long mapSize = ReCiterClusterer.baselineClusterSize;
-		for(long i=(long) 1 ; i <= mapSize ; i++) {
-			for(long j = (long) 1; j <= mapSize; j++) {
-				if(i==j) {
-					continue;
-				}
-				else {
-					if(clusters.get(i) != null && clusters.get(j) != null) {
-						if(clusters.get(i).compareTo(clusters.get(j), "grant") == 1) {
-							clusters.get(i).addAll(clusters.get(j).getArticleCluster());
-							clusters.remove(j);
-						}
-					}
-				}
-			}
-		}
-		
-		return clusters;
+		return super.cluster(clusters);
+	}
+	
+	@Override
+	protected Collection<List<ReCiterArticle>> getLinkedArticles() {
+		return clusteringFeatureIndex.getGrantGroups();
 	}
 	
 	private void checkForValidGrant(ReCiterArticle reCiterArticle) {
@@ -1,5 +1,6 @@
 package reciter.algorithm.cluster.similarity.clusteringstrategy.article;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -7,9 +8,10 @@ import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import reciter.algorithm.cluster.ReCiterClusterer;
-import reciter.algorithm.cluster.clusteringstrategy.article.AbstractClusteringStrategy;
+import reciter.algorithm.cluster.clusteringstrategy.article.AbstractIndexedClusteringStrategy;
+import reciter.algorithm.cluster.model.ClusteringFeatureIndex;
 import reciter.algorithm.cluster.model.ReCiterCluster;
+import reciter.engine.EngineContext;
 import reciter.model.article.ReCiterArticle;
 import reciter.model.article.ReCiterArticleMeshHeading;
 import reciter.model.article.ReCiterCitationYNEnum;
@@ -20,10 +22,14 @@ import reciter.model.article.ReCiterMeshHeadingQualifierName;
  * This class identify cases where an article from one cluster shares the same MeSH major as an article from another cluster, 
  * and that MeSH major has a global count of < 4,000. 
  */
-public class MeshMajorClusteringStrategy extends AbstractClusteringStrategy {
+public class MeshMajorClusteringStrategy extends AbstractIndexedClusteringStrategy {
 
 	private static final Logger slf4jLogger = LoggerFactory.getLogger(MeshMajorClusteringStrategy.class);
 
+	public MeshMajorClusteringStrategy(EngineContext engineContext, ClusteringFeatureIndex clusteringFeatureIndex) {
+		super(engineContext, clusteringFeatureIndex);
+	}
+
 		@Override
 		public Map<Long, ReCiterCluster> cluster(List<ReCiterArticle> reCiterArticles) {
 			// TODO Auto-generated method stub
@@ -36,33 +42,9 @@ public class MeshMajorClusteringStrategy extends AbstractClusteringStrategy {
 			return null;
 		}
 		
-		/**
-		 * This function will group from the email clusters with articles having an similar grant identifier
-		 * @param clusters List of clusters from initial clustering
-		 * @return list of clusters
-		 */
 		@Override
-		public Map<Long, ReCiterCluster> cluster(Map<Long, ReCiterCluster> clusters) {
-			
-			//Compare each clusters with all other for matching grant ID
-			long mapSize = ReCiterClusterer.baselineClusterSize;
-			for(long i=(long) 1 ; i <= mapSize ; i++) {
-				for(long j = (long) 1; j <= mapSize; j++) {
-					if(i==j) {
-						continue;
-					}
-					else {
-						if(clusters.get(i) != null && clusters.get(j) != null) {
-							if(clusters.get(i).compareTo(clusters.get(j), "meshMajor") == 1) {
-								clusters.get(i).addAll(clusters.get(j).getArticleCluster());
-								clusters.remove(j);
-							}
-						}
-					}
-				}
-			}
-			
-			return clusters;
+		protected Collection<List<ReCiterArticle>> getLinkedArticles() {
+			return clusteringFeatureIndex.getMeshMajorGroups();
 		}
 		
 		/**
@@ -1,16 +1,27 @@
 package reciter.algorithm.cluster.similarity.clusteringstrategy.article;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import reciter.algorithm.cluster.ReCiterClusterer;
 import reciter.algorithm.cluster.clusteringstrategy.article.AbstractClusteringStrategy;
+import reciter.algorithm.cluster.model.ArticleFeatureSignature;
+import reciter.algorithm.cluster.model.DisjointClusterSet;
 import reciter.algorithm.cluster.model.ReCiterCluster;
+import reciter.engine.EngineContext;
 import reciter.model.article.ReCiterArticle;
+import reciter.model.article.ReCiterArticleFeatures;
 
 /**
  * @author szd2013
@@ -18,10 +29,26 @@ import reciter.model.article.ReCiterArticle;
  * Theory: these features generally occur fewer than 100,000 times in a corpus of 30 million records. We will use these merge articles into a single cluster but only when they occur a certain proportion of the time.
  * General instructions: compare clusters to each other using the below features. If their similarity exceeds some threshold, combine the clusters.
  * Rationale: Because these features may occur more often by chance, we do not automatically combine the clusters if they share the feature. Instead the cluster-cluster comparison needs to meet or exceed a scoring threshold (which is described below).
+ * <p>
+ * Instead of comparing every pair of clusters, candidate pairs are taken from an inverted index of the feature keys of
+ * each article, so only clusters that have at least one key in common are compared. Each article only looks up its
+ * rarest keys: a match requires an article to share at least {@link #getMinimumSharedKeys(ReCiterArticle)} of its keys,
+ * so its most common keys cannot make a match on their own and are left out, and a common journal does not make every
+ * cluster holding it a candidate of every other one. Matching clusters are merged through a {@link DisjointClusterSet},
+ * which also makes the merge transitive.
  */
 public class TepidClusteringStrategy extends AbstractClusteringStrategy {
 	
 	private static final Logger slf4jLogger = LoggerFactory.getLogger(TepidClusteringStrategy.class);
+
+	/**
+	 * Feature signatures of the articles compared in this run, compiled once per article.
+	 */
+	private final ArticleFeatureSignature.Compiler articleFeatureSignatureCompiler = new ArticleFeatureSignature.Compiler();
+
+	public TepidClusteringStrategy(EngineContext engineContext) {
+		super(engineContext);
+	}
 	
 	@Override
 	public Map<Long, ReCiterCluster> cluster(List<ReCiterArticle> reCiterArticles) {
@@ -37,26 +64,96 @@ public class TepidClusteringStrategy extends AbstractClusteringStrategy {
 
 	@Override
 	public Map<Long, ReCiterCluster> cluster(Map<Long, ReCiterCluster> clusters) {
-		//Compare each clusters with all other for matching grant ID
-		long mapSize = ReCiterClusterer.baselineClusterSize;
-		for(long i=(long) 1 ; i <= mapSize ; i++) {
-			for(long j = (long) 1; j <= mapSize; j++) {
-				if(i==j) {
+		DisjointClusterSet disjointClusterSet = new DisjointClusterSet(clusters.keySet());
+
+		// Feature key -> ids of the clusters having an article with that key.
+		Map<String, List<Long>> clusterIdsByFeatureKey = new HashMap<>();
+		Map<ReCiterArticle, List<String>> featureKeysByArticle = new IdentityHashMap<>();
+		for (Entry<Long, ReCiterCluster> entry : clusters.entrySet()) {
+			for (ReCiterArticle reCiterArticle : entry.getValue().getArticleCluster()) {
+				List<String> featureKeys = getFeatureKeys(reCiterArticle);
+				featureKeysByArticle.put(reCiterArticle, featureKeys);
+				for (String featureKey : featureKeys) {
+					List<Long> clusterIds = clusterIdsByFeatureKey.computeIfAbsent(featureKey, key -> new ArrayList<>());
+					if (clusterIds.isEmpty() || clusterIds.get(clusterIds.size() - 1).longValue() != entry.getKey().longValue()) {
+						clusterIds.add(entry.getKey());
+					}
+				}
+			}
+		}
+
+		Comparator<String> rarestFirst = Comparator.comparingInt((String featureKey) -> clusterIdsByFeatureKey.get(featureKey).size())
+				.thenComparing(Comparator.naturalOrder());
+		for (Entry<Long, ReCiterCluster> entry : clusters.entrySet()) {
+			long clusterId = entry.getKey();
+			Set<Long> comparedClusterIds = new HashSet<>();
+			for (ReCiterArticle reCiterArticle : entry.getValue().getArticleCluster()) {
+				List<String> featureKeys = featureKeysByArticle.get(reCiterArticle);
+				if (featureKeys.isEmpty()) {
 					continue;
 				}
-				else {
-					if(clusters.get(i) != null && clusters.get(j) != null) {
-						if(clusters.get(i).compareTo(clusters.get(j), "tepid") == 1) {
-							//slf4jLogger.info("Cluster " + i + " match with Cluster " + j);
-							clusters.get(i).addAll(clusters.get(j).getArticleCluster());
-							clusters.remove(j);
+				featureKeys.sort(rarestFirst);
+				// The last minimumSharedKeys - 1 keys are too few to make a match without one of the keys before them.
+				int candidateKeyCount = Math.min(featureKeys.size(), featureKeys.size() - getMinimumSharedKeys(reCiterArticle) + 1);
+				for (int i = 0; i < candidateKeyCount; i++) {
+					for (long otherClusterId : clusterIdsByFeatureKey.get(featureKeys.get(i))) {
+						if (otherClusterId != clusterId
+								&& comparedClusterIds.add(otherClusterId)
+								&& !disjointClusterSet.connected(clusterId, otherClusterId)
+								&& isMatch(entry.getValue(), clusters.get(otherClusterId))) {
+							disjointClusterSet.union(clusterId, otherClusterId);
 						}
 					}
 				}
 			}
 		}
-		
-		return clusters;
+		return disjointClusterSet.merge(clusters);
+	}
+
+	/**
+	 * Articles with fewer than 3 features never pass the similarity threshold. Otherwise an article can only
+	 * match an article that shares at least one journal, meshMajor, co-author or affiliation id with it.
+	 * @return feature keys of the article, repeated as many times as they count towards a match
+	 */
+	private List<String> getFeatureKeys(ReCiterArticle reCiterArticle) {
+		ReCiterArticleFeatures reCiterArticleFeatures = reCiterArticle.getReCiterArticleFeatures();
+		if(reCiterArticleFeatures == null || reCiterArticleFeatures.getFeatureCount() < 3) {
+			return Collections.emptyList();
+		}
+		List<String> featureKeys = new ArrayList<>();
+		if(reCiterArticleFeatures.getJournalName() != null && !reCiterArticleFeatures.getJournalName().isEmpty()) {
+			featureKeys.add("journal:" + reCiterArticleFeatures.getJournalName().toLowerCase(Locale.ROOT));
+		}
+		if(reCiterArticleFeatures.getMeshMajor() != null) {
+			reCiterArticleFeatures.getMeshMajor().forEach(meshMajor -> featureKeys.add("meshMajor:" + meshMajor));
+		}
+		if(reCiterArticleFeatures.getCoAuthors() != null) {
+			reCiterArticleFeatures.getCoAuthors().forEach(coAuthor -> featureKeys.add("coAuthor:" + coAuthor));
+		}
+		if(reCiterArticleFeatures.getAffiliationIds() != null) {
+			reCiterArticleFeatures.getAffiliationIds().forEach(affiliationId -> featureKeys.add("affiliationId:" + affiliationId));
+		}
+		return featureKeys;
+	}
+
+	/**
+	 * Two articles are similar when overlap<sup>2</sup> / (featureCount1 * featureCount2) exceeds the cluster similarity
+	 * threshold. Every shared key adds at most 1 to the overlap and the other article has at least 3 features, so an
+	 * article must share at least the smallest overlap reaching threshold * featureCount * 3.
+	 */
+	private int getMinimumSharedKeys(ReCiterArticle reCiterArticle) {
+		double minimumSquaredOverlap = engineContext.getClusterSimilarityThresholdScore() * reCiterArticle.getReCiterArticleFeatures().getFeatureCount() * 3;
+		int minimumSharedKeys = 1;
+		// The margin keeps articles whose similarity is at the threshold up to rounding as candidates.
+		while (minimumSharedKeys * minimumSharedKeys < minimumSquaredOverlap - 1e-9) {
+			minimumSharedKeys++;
+		}
+		return minimumSharedKeys;
+	}
+
+	private boolean isMatch(ReCiterCluster reCiterCluster1, ReCiterCluster reCiterCluster2) {
+		return reCiterCluster1.isTepidMatch(reCiterCluster2, articleFeatureSignatureCompiler, engineContext)
+				|| reCiterCluster2.isTepidMatch(reCiterCluster1, articleFeatureSignatureCompiler, engineContext);
 	}
 
 }
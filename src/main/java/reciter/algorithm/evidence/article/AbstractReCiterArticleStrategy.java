@@ -18,7 +18,17 @@
  *******************************************************************************/
 package reciter.algorithm.evidence.article;
 
+import reciter.engine.EngineContext;
+import reciter.engine.StrategyParameters;
+
 public abstract class AbstractReCiterArticleStrategy implements ReCiterArticleStrategy {
 
-	
+	protected final EngineContext engineContext;
+
+	protected final StrategyParameters strategyParameters;
+
+	protected AbstractReCiterArticleStrategy(EngineContext engineContext) {
+		this.engineContext = engineContext;
+		this.strategyParameters = engineContext.getStrategyParameters();
+	}
 }
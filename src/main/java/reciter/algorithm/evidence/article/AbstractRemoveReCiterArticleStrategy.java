@@ -18,6 +18,17 @@
  *******************************************************************************/
 package reciter.algorithm.evidence.article;
 
+import reciter.engine.EngineContext;
+import reciter.engine.StrategyParameters;
+
 public abstract class AbstractRemoveReCiterArticleStrategy implements RemoveReCiterArticleStrategy {
 
+	protected final EngineContext engineContext;
+
+	protected final StrategyParameters strategyParameters;
+
+	protected AbstractRemoveReCiterArticleStrategy(EngineContext engineContext) {
+		this.engineContext = engineContext;
+		this.strategyParameters = engineContext.getStrategyParameters();
+	}
 }
@@ -5,8 +5,8 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import reciter.algorithm.cluster.article.scorer.ReCiterArticleScorer;
 import reciter.algorithm.evidence.article.AbstractReCiterArticleStrategy;
+import reciter.engine.EngineContext;
 import reciter.engine.analysis.evidence.AcceptedRejectedEvidence;
 import reciter.model.article.ReCiterArticle;
 
@@ -18,6 +18,10 @@ public class AcceptedRejectedStrategy extends AbstractReCiterArticleStrategy {
 	
 	private static final Logger slf4jLogger = LoggerFactory.getLogger(AcceptedRejectedStrategy.class);
 
+	public AcceptedRejectedStrategy(EngineContext engineContext) {
+		super(engineContext);
+	}
+
 	@Override
 	public double executeStrategy(ReCiterArticle reCiterArticle, ReCiterArticle otherReCiterArticle) {
 		// TODO Auto-generated method stub
@@ -35,11 +39,11 @@ public class AcceptedRejectedStrategy extends AbstractReCiterArticleStrategy {
 			reCiterArticles.stream().forEach(reCiterArticle -> {
 				AcceptedRejectedEvidence acceptedRejectedEvidence = new AcceptedRejectedEvidence();
 				if(reCiterArticle.getGoldStandard() == 1) {
-					acceptedRejectedEvidence.setFeedbackScoreAccepted(ReCiterArticleScorer.strategyParameters.getAcceptedArticleScore());
+					acceptedRejectedEvidence.setFeedbackScoreAccepted(strategyParameters.getAcceptedArticleScore());
 				} else if(reCiterArticle.getGoldStandard() == -1) {
-					acceptedRejectedEvidence.setFeedbackScoreRejected(ReCiterArticleScorer.strategyParameters.getRejectedArticleScore());
+					acceptedRejectedEvidence.setFeedbackScoreRejected(strategyParameters.getRejectedArticleScore());
 				} else if(reCiterArticle.getGoldStandard() == 0) {
-					acceptedRejectedEvidence.setFeedbackScoreNull(ReCiterArticleScorer.strategyParameters.getFeedbackScoreNullScore());
+					acceptedRejectedEvidence.setFeedbackScoreNull(strategyParameters.getFeedbackScoreNullScore());
 				}
 				
 				if(acceptedRejectedEvidence != null) {
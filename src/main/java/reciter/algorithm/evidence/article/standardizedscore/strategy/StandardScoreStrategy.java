@@ -6,19 +6,20 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import reciter.algorithm.cluster.article.scorer.ReCiterArticleScorer;
 import reciter.algorithm.evidence.article.AbstractReCiterArticleStrategy;
 import reciter.algorithm.evidence.article.acceptedrejected.strategy.AcceptedRejectedStrategy;
+import reciter.engine.EngineContext;
 import reciter.model.article.ReCiterArticle;
 
 public class StandardScoreStrategy extends AbstractReCiterArticleStrategy {
 	
 	private static final Logger slf4jLogger = LoggerFactory.getLogger(AcceptedRejectedStrategy.class);
 	
-	private final String[] standardizedScoreMapping = ReCiterArticleScorer.strategyParameters.getStandardizedScoreMapping().trim().split(",");
+	private final String[] standardizedScoreMapping = strategyParameters.getStandardizedScoreMapping().trim().split(",");
 	private List<String> standardizedScores;
 	
-	public StandardScoreStrategy() {
+	public StandardScoreStrategy(EngineContext engineContext) {
+		super(engineContext);
 		this.standardizedScores = Arrays.asList(standardizedScoreMapping);
 	}
 
@@ -1,5 +1,16 @@
 package reciter.algorithm.evidence.cluster;
 
+import reciter.engine.EngineContext;
+import reciter.engine.StrategyParameters;
+
 public abstract class AbstractClusterStrategy implements ClusterStrategy {
 
+	protected final EngineContext engineContext;
+
+	protected final StrategyParameters strategyParameters;
+
+	protected AbstractClusterStrategy(EngineContext engineContext) {
+		this.engineContext = engineContext;
+		this.strategyParameters = engineContext.getStrategyParameters();
+	}
 }
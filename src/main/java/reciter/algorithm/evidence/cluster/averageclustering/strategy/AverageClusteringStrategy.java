@@ -10,9 +10,9 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import reciter.algorithm.cluster.article.scorer.ReCiterArticleScorer;
 import reciter.algorithm.cluster.model.ReCiterCluster;
 import reciter.algorithm.evidence.cluster.AbstractClusterStrategy;
+import reciter.engine.EngineContext;
 import reciter.engine.analysis.evidence.AverageClusteringEvidence;
 import reciter.model.article.ReCiterArticle;
 import reciter.model.article.ReCiterAuthor;
@@ -25,6 +25,10 @@ public class AverageClusteringStrategy extends AbstractClusterStrategy {
 	
 	private static final Logger slf4jLogger = LoggerFactory.getLogger(AverageClusteringStrategy.class);
 
+	public AverageClusteringStrategy(EngineContext engineContext) {
+		super(engineContext);
+	}
+
 	@Override
 	public double executeStrategy(ReCiterCluster reCiterCluster) {
 			
@@ -33,7 +37,7 @@ public class AverageClusteringStrategy extends AbstractClusterStrategy {
 				if(reCiterCluster.getArticleCluster().size() > 1) {
 					populateArticeAuthorFirstName(reCiterArticle, articleAuthorFirstNames);
 				}
-				if(ReCiterArticleScorer.strategyParameters.isUseGoldStandardEvidence()) {
+				if(engineContext.isUseGoldStandardEvidence()) {
 					double totalArticleScoreWithoutClustering =  ((reCiterArticle.getAuthorNameEvidence() != null)?(reCiterArticle.getAuthorNameEvidence().getNameScoreTotal()):0) +
 							((reCiterArticle.getEmailEvidence() != null)?reCiterArticle.getEmailEvidence().getEmailMatchScore():0) +
 							((reCiterArticle.getGenderEvidence() != null && reCiterArticle.getGenderEvidence().getGenderScoreIdentityArticleDiscrepancy() != null)?reCiterArticle.getGenderEvidence().getGenderScoreIdentityArticleDiscrepancy():0) +
@@ -76,7 +80,7 @@ public class AverageClusteringStrategy extends AbstractClusterStrategy {
 					Long maxFrequencyCount = Collections.max(firstNameFrequencyCounts.entrySet(), Comparator.comparingLong(Map.Entry::getValue)).getValue();
 					if(articleAuthorFirstNames.size() > 0) {
 						double mostCommonNameRatio = (double) maxFrequencyCount.longValue()/articleAuthorFirstNames.size();
-						reCiterCluster.setClusterReliabilityScore(Math.pow(mostCommonNameRatio, ReCiterArticleScorer.strategyParameters.getClusterReliabilityScoreFactor()));
+						reCiterCluster.setClusterReliabilityScore(Math.pow(mostCommonNameRatio, strategyParameters.getClusterReliabilityScoreFactor()));
 					}
 				}
 			}
@@ -98,7 +102,7 @@ public class AverageClusteringStrategy extends AbstractClusterStrategy {
 			reCiterArticle.setTotalArticleScoreWithoutClustering(reCiterArticle.getTotalArticleScoreWithoutClustering()
 					- (((reCiterArticle.getAcceptedRejectedEvidence() != null && reCiterArticle.getAcceptedRejectedEvidence().getFeedbackScoreAccepted() !=null)?reCiterArticle.getAcceptedRejectedEvidence().getFeedbackScoreAccepted():0) +
 							((reCiterArticle.getAcceptedRejectedEvidence() != null && reCiterArticle.getAcceptedRejectedEvidence().getFeedbackScoreRejected() !=null)?reCiterArticle.getAcceptedRejectedEvidence().getFeedbackScoreRejected():0)));
-			double clusterScoreDiscrepancy = (reCiterArticle.getTotalArticleScoreWithoutClustering() - averageClusterScore) * ReCiterArticleScorer.strategyParameters.getClusterScoreFactor()
+			double clusterScoreDiscrepancy = (reCiterArticle.getTotalArticleScoreWithoutClustering() - averageClusterScore) * strategyParameters.getClusterScoreFactor()
 					* ((reCiterCluster.getClusterReliabilityScore()>0)?reCiterCluster.getClusterReliabilityScore():1);
 			AverageClusteringEvidence averageClusteringEvidence = new AverageClusteringEvidence();
 			averageClusteringEvidence.setClusterScoreAverage(roundAvoid(averageClusterScore, 2));
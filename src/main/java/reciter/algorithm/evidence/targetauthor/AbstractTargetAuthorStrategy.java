@@ -23,6 +23,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import reciter.algorithm.util.ReCiterStringUtil;
+import reciter.engine.EngineContext;
+import reciter.engine.StrategyParameters;
 import reciter.model.article.ReCiterArticle;
 import reciter.model.article.ReCiterArticleAuthors;
 import reciter.model.article.ReCiterAuthor;
@@ -32,6 +34,15 @@ public abstract class AbstractTargetAuthorStrategy implements TargetAuthorStrate
 
 	private final static Logger slf4jLogger = LoggerFactory.getLogger(AbstractTargetAuthorStrategy.class);
 
+	protected final EngineContext engineContext;
+
+	protected final StrategyParameters strategyParameters;
+
+	protected AbstractTargetAuthorStrategy(EngineContext engineContext) {
+		this.engineContext = engineContext;
+		this.strategyParameters = engineContext.getStrategyParameters();
+	}
+
 	protected boolean matchAuthorName(ReCiterArticle reCiterArticle, Identity identity) {
 		ReCiterArticleAuthors authors = reCiterArticle.getArticleCoAuthors();
 		if (authors != null) {
@@ -33,9 +33,9 @@ import org.slf4j.LoggerFactory;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
-import reciter.algorithm.cluster.article.scorer.ReCiterArticleScorer;
 import reciter.algorithm.evidence.cluster.averageclustering.strategy.AverageClusteringStrategy;
 import reciter.algorithm.evidence.targetauthor.AbstractTargetAuthorStrategy;
+import reciter.engine.EngineContext;
 import reciter.engine.EngineParameters;
 import reciter.engine.Feature;
 import reciter.engine.analysis.evidence.AffiliationEvidence;
@@ -54,17 +54,18 @@ public class CommonAffiliationStrategy extends AbstractTargetAuthorStrategy {
 	
 	private static final Logger slf4jLogger = LoggerFactory.getLogger(CommonAffiliationStrategy.class);
 	
-	private final String[] homeInstScopusInstitutionsIDs = ReCiterArticleScorer.strategyParameters.getInstAfflHomeInstScopusInstIDs().trim().split("\\s*,\\s*");
-	private final String[] collaboratingInstScopusInstitutionsIDs = ReCiterArticleScorer.strategyParameters.getInstAfflCollaboratingInstScopusInstIDs().trim().split("\\s*,\\s*");
-	private final String[] homeInstitutionsKeywords = ReCiterArticleScorer.strategyParameters.getInstAfflHomeInstKeywords().trim().split("\\s*,\\s*");
-	private final String[] collaboratingInstitutionsKeywords = ReCiterArticleScorer.strategyParameters.getInstAfflCollaboratingInstKeywords().trim().split("\\s*,\\s*");
+	private final String[] homeInstScopusInstitutionsIDs = strategyParameters.getInstAfflHomeInstScopusInstIDs().trim().split("\\s*,\\s*");
+	private final String[] collaboratingInstScopusInstitutionsIDs = strategyParameters.getInstAfflCollaboratingInstScopusInstIDs().trim().split("\\s*,\\s*");
+	private final String[] homeInstitutionsKeywords = strategyParameters.getInstAfflHomeInstKeywords().trim().split("\\s*,\\s*");
+	private final String[] collaboratingInstitutionsKeywords = strategyParameters.getInstAfflCollaboratingInstKeywords().trim().split("\\s*,\\s*");
 	
 	private Set<String> knownAffiliationIds = new HashSet<String>();
 	private List<Integer> nonTargetAuthorScopusAffiliationIds = new ArrayList<Integer>();
 	private double totalAffiliationScore = 0;
 	
 	
-	public CommonAffiliationStrategy() {
+	public CommonAffiliationStrategy(EngineContext engineContext) {
+		super(engineContext);
 	}
 	
 	@Override
@@ -92,7 +93,7 @@ public class CommonAffiliationStrategy extends AbstractTargetAuthorStrategy {
 			AffiliationEvidence affiliationEvidence = new AffiliationEvidence();
 			for(ReCiterAuthor reCiterAuthor: reCiterArticle.getArticleCoAuthors().getAuthors()) {
 				if(reCiterAuthor.isTargetAuthor()) {
-					if(ReCiterArticleScorer.strategyParameters.isUseScopusArticles() && ReCiterArticleScorer.strategyParameters.isScopusCommonAffiliation()) {
+					if(strategyParameters.isUseScopusArticles() && strategyParameters.isScopusCommonAffiliation()) {
 						if(reCiterArticle.getScopusArticle() != null) {
 							//Get the corresponding Scopus Author for the target author
 							Author scopusAuthor = reCiterArticle.getScopusArticle().getAuthors().stream().filter(author -> reCiterAuthor.getRank() == author.getSeq()).findFirst().orElse(null);
@@ -120,9 +121,9 @@ public class CommonAffiliationStrategy extends AbstractTargetAuthorStrategy {
 											scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationSource(InstitutionalAffiliationSource.SCOPUS);
 											scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationArticleScopusAffiliationId(afid);
 											scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchType(InstitutionalAffiliationMatchType.POSITIVE_MATCH_INDIVIDUAL);
-											scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypePositiveIndividualScore());
+											scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(strategyParameters.getTargetAuthorInstAfflMatchTypePositiveIndividualScore());
 											scopusAffiliationEvidences.add(scopusAffiliationEvidence);
-											totalAffiliationScore = totalAffiliationScore + ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypePositiveIndividualScore();
+											totalAffiliationScore = totalAffiliationScore + strategyParameters.getTargetAuthorInstAfflMatchTypePositiveIndividualScore();
 										}
 									}
 									
@@ -145,8 +146,8 @@ public class CommonAffiliationStrategy extends AbstractTargetAuthorStrategy {
 												scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationArticleScopusAffiliationId(afid);
 												scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchType(InstitutionalAffiliationMatchType.POSITIVE_MATCH_INSTITUTION);
 												if(matchCount == 0) {
-													scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypePositiveInstitutionScore());
-													totalAffiliationScore = totalAffiliationScore + ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypePositiveInstitutionScore();
+													scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(strategyParameters.getTargetAuthorInstAfflMatchTypePositiveInstitutionScore());
+													totalAffiliationScore = totalAffiliationScore + strategyParameters.getTargetAuthorInstAfflMatchTypePositiveInstitutionScore();
 												}
 											}
 											matchCount++;
@@ -165,8 +166,8 @@ public class CommonAffiliationStrategy extends AbstractTargetAuthorStrategy {
 												scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationArticleScopusAffiliationId(scopusAffiliation.get(0).getAfid());
 											}
 										}
-										scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypeNoMatchScore());
-										totalAffiliationScore = totalAffiliationScore + ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypeNoMatchScore();
+										scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(strategyParameters.getTargetAuthorInstAfflMatchTypeNoMatchScore());
+										totalAffiliationScore = totalAffiliationScore + strategyParameters.getTargetAuthorInstAfflMatchTypeNoMatchScore();
 										scopusAffiliationEvidences.add(scopusAffiliationEvidence);
 									}
 								}
@@ -180,8 +181,8 @@ public class CommonAffiliationStrategy extends AbstractTargetAuthorStrategy {
 								scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchType(InstitutionalAffiliationMatchType.NULL_MATCH);
 								scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationArticleScopusLabel(null);
 								scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationArticleScopusAffiliationId(0);
-								scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypeNullScore());
-								totalAffiliationScore = totalAffiliationScore + ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypeNullScore();
+								scopusAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(strategyParameters.getTargetAuthorInstAfflMatchTypeNullScore());
+								totalAffiliationScore = totalAffiliationScore + strategyParameters.getTargetAuthorInstAfflMatchTypeNullScore();
 								scopusAffiliationEvidences.add(scopusAffiliationEvidence);
 							}
 							
@@ -203,7 +204,7 @@ public class CommonAffiliationStrategy extends AbstractTargetAuthorStrategy {
 									affiliationEvidence.getScopusTargetAuthorAffiliation().stream().allMatch(scopusAffiliation -> scopusAffiliation.getTargetAuthorInstitutionalAffiliationMatchType() == InstitutionalAffiliationMatchType.NULL_MATCH))
 							)
 							||
-							!ReCiterArticleScorer.strategyParameters.isUseScopusArticles()
+							!strategyParameters.isUseScopusArticles()
 							) {
 						//Evaluate Pubmed
 						if(reCiterAuthor.getAffiliation() != null) {
@@ -214,7 +215,7 @@ public class CommonAffiliationStrategy extends AbstractTargetAuthorStrategy {
 				} 
 			}
 			
-			if(ReCiterArticleScorer.strategyParameters.isScopusCommonAffiliation()) {
+			if(strategyParameters.isScopusCommonAffiliation()) {
 				if(reCiterArticle.getScopusArticle() != null) {
 					populateScopusNonTargetAuthorInstitutionsIds(reCiterArticle);
 					evaluateNonTargetAuthorScopusAffiliation(affiliationEvidence, reCiterArticle);
@@ -277,9 +278,9 @@ public class CommonAffiliationStrategy extends AbstractTargetAuthorStrategy {
 			 }
 		}
 		
-		double overallScore = ReCiterArticleScorer.strategyParameters.getNonTargetAuthorInstAfflMatchTypeMaxScore()
+		double overallScore = strategyParameters.getNonTargetAuthorInstAfflMatchTypeMaxScore()
 				* ((countScopusIDsNonTargetAuthorArticleKnownInstitution + 
-						(countScopusIDsNonTargetAuthorArticleCollaboratingInstitution * ReCiterArticleScorer.strategyParameters.getNonTargetAuthorInstAfflMatchTypeWeight()))/this.nonTargetAuthorScopusAffiliationIds.size());
+						(countScopusIDsNonTargetAuthorArticleCollaboratingInstitution * strategyParameters.getNonTargetAuthorInstAfflMatchTypeWeight()))/this.nonTargetAuthorScopusAffiliationIds.size());
 		
 		if(overallScore != 0) {
 			NonTargetAuthorScopusAffiliation  nonTargetAuthorScopusAffiliationEvidence = new NonTargetAuthorScopusAffiliation();
@@ -383,8 +384,8 @@ public class CommonAffiliationStrategy extends AbstractTargetAuthorStrategy {
 					pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationArticlePubmedLabel(affiliation);
 					pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchType(InstitutionalAffiliationMatchType.POSITIVE_MATCH_INDIVIDUAL);
 					pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationSource(InstitutionalAffiliationSource.PUBMED);
-					pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypePositiveIndividualScore());
-					totalAffiliationScore = totalAffiliationScore + ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypePositiveIndividualScore();
+					pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(strategyParameters.getTargetAuthorInstAfflMatchTypePositiveIndividualScore());
+					totalAffiliationScore = totalAffiliationScore + strategyParameters.getTargetAuthorInstAfflMatchTypePositiveIndividualScore();
 					break;
 				}
 			}
@@ -404,12 +405,12 @@ public class CommonAffiliationStrategy extends AbstractTargetAuthorStrategy {
 							&& 
 							keyword.size() == matchingKeywords.size()) {
 						pubmedAffiliationEvidence = new TargetAuthorPubmedAffiliation();
-						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationIdentity(ReCiterArticleScorer.strategyParameters.getInstAfflInstLabel());
+						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationIdentity(strategyParameters.getInstAfflInstLabel());
 						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationArticlePubmedLabel(affiliation);
 						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchType(InstitutionalAffiliationMatchType.POSITIVE_MATCH_INDIVIDUAL);
 						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationSource(InstitutionalAffiliationSource.PUBMED);
-						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypePositiveIndividualScore());
-						totalAffiliationScore = totalAffiliationScore + ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypePositiveIndividualScore();
+						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(strategyParameters.getTargetAuthorInstAfflMatchTypePositiveIndividualScore());
+						totalAffiliationScore = totalAffiliationScore + strategyParameters.getTargetAuthorInstAfflMatchTypePositiveIndividualScore();
 						break;
 					}
 				}
@@ -430,12 +431,12 @@ public class CommonAffiliationStrategy extends AbstractTargetAuthorStrategy {
 							&& 
 							keyword.size() == matchingKeywords.size()) {
 						pubmedAffiliationEvidence = new TargetAuthorPubmedAffiliation();
-						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationIdentity(ReCiterArticleScorer.strategyParameters.getInstAfflInstLabel());
+						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationIdentity(strategyParameters.getInstAfflInstLabel());
 						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationArticlePubmedLabel(affiliation);
 						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchType(InstitutionalAffiliationMatchType.POSITIVE_MATCH_INSTITUTION);
 						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationSource(InstitutionalAffiliationSource.PUBMED);
-						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypePositiveInstitutionScore());
-						totalAffiliationScore = totalAffiliationScore + ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypePositiveInstitutionScore();
+						pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(strategyParameters.getTargetAuthorInstAfflMatchTypePositiveInstitutionScore());
+						totalAffiliationScore = totalAffiliationScore + strategyParameters.getTargetAuthorInstAfflMatchTypePositiveInstitutionScore();
 						break;
 					}
 				}
@@ -446,22 +447,22 @@ public class CommonAffiliationStrategy extends AbstractTargetAuthorStrategy {
 				affiliation != null) { //There's no match. Output:
 			pubmedAffiliationEvidence = new TargetAuthorPubmedAffiliation();
 			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationSource(InstitutionalAffiliationSource.PUBMED);
-			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationIdentity(ReCiterArticleScorer.strategyParameters.getInstAfflInstLabel());
+			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationIdentity(strategyParameters.getInstAfflInstLabel());
 			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationArticlePubmedLabel(affiliation);
 			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchType(InstitutionalAffiliationMatchType.NO_MATCH);
-			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypeNoMatchScore());
-			totalAffiliationScore = totalAffiliationScore + ReCiterArticleScorer.strategyParameters.getNonTargetAuthorInstAfflMatchTypeNoMatchScore();
+			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(strategyParameters.getTargetAuthorInstAfflMatchTypeNoMatchScore());
+			totalAffiliationScore = totalAffiliationScore + strategyParameters.getNonTargetAuthorInstAfflMatchTypeNoMatchScore();
 		}
 		if(pubmedAffiliationEvidence == null
 				&&
 				affiliation == null) {
 			pubmedAffiliationEvidence = new TargetAuthorPubmedAffiliation();
 			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationSource(InstitutionalAffiliationSource.PUBMED);
-			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationIdentity(ReCiterArticleScorer.strategyParameters.getInstAfflInstLabel());
+			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationIdentity(strategyParameters.getInstAfflInstLabel());
 			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationArticlePubmedLabel(null);
 			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchType(InstitutionalAffiliationMatchType.NULL_MATCH);
-			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(ReCiterArticleScorer.strategyParameters.getTargetAuthorInstAfflMatchTypeNullScore());
-			totalAffiliationScore = totalAffiliationScore + ReCiterArticleScorer.strategyParameters.getNonTargetAuthorInstAfflMatchTypeNoMatchScore();
+			pubmedAffiliationEvidence.setTargetAuthorInstitutionalAffiliationMatchTypeScore(strategyParameters.getTargetAuthorInstAfflMatchTypeNullScore());
+			totalAffiliationScore = totalAffiliationScore + strategyParameters.getNonTargetAuthorInstAfflMatchTypeNoMatchScore();
 		}
 		affiliationEvidence.setPubmedTargetAuthorAffiliation(pubmedAffiliationEvidence);
 	}
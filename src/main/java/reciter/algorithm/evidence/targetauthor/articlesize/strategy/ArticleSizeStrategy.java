@@ -26,12 +26,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import reciter.ApplicationContextHolder;
-import reciter.algorithm.cluster.article.scorer.ReCiterArticleScorer;
 import reciter.algorithm.evidence.targetauthor.AbstractTargetAuthorStrategy;
 import reciter.database.dynamodb.model.ESearchPmid;
 import reciter.database.dynamodb.model.ESearchPmid.RetrievalRefreshFlag;
 import reciter.database.dynamodb.model.ESearchResult;
 import reciter.database.dynamodb.model.QueryType;
+import reciter.engine.EngineContext;
 import reciter.engine.Feature;
 import reciter.engine.analysis.evidence.ArticleCountEvidence;
 import reciter.model.article.ReCiterArticle;
@@ -60,7 +60,8 @@ public class ArticleSizeStrategy extends AbstractTargetAuthorStrategy {
 	 * If a person has < 500 candidate publications, assume that the person wrote it in these circumstances:
 	 * 3. Both full first name and matching middle initial (Richard D. Granstein, e.g., 6231484, or Carl F. Nathan, e.g., 3989315)
 	 */
-	public ArticleSizeStrategy(int numberOfArticles) {
+	public ArticleSizeStrategy(EngineContext engineContext, int numberOfArticles) {
+		super(engineContext);
 		this.numberOfArticles = numberOfArticles;
 	}
 	
@@ -128,10 +129,10 @@ public class ArticleSizeStrategy extends AbstractTargetAuthorStrategy {
 							retrievalArticleCountByLookUpType = uniqueRetrievalArticle.size();
 							if(retrievalArticleCountByLookUpType > 0) {
 								articleCountEvidence.setCountArticlesRetrieved(retrievalArticleCountByLookUpType);
-								articleCountEvidence.setArticleCountScore(-(retrievalArticleCountByLookUpType - ReCiterArticleScorer.strategyParameters.getArticleCountThresholdScore())/ReCiterArticleScorer.strategyParameters.getArticleCountWeight());
+								articleCountEvidence.setArticleCountScore(-(retrievalArticleCountByLookUpType - strategyParameters.getArticleCountThresholdScore())/strategyParameters.getArticleCountWeight());
 							} else {
 								articleCountEvidence.setCountArticlesRetrieved(this.numberOfArticles);
-								articleCountEvidence.setArticleCountScore(-(this.numberOfArticles - ReCiterArticleScorer.strategyParameters.getArticleCountThresholdScore())/ReCiterArticleScorer.strategyParameters.getArticleCountWeight());
+								articleCountEvidence.setArticleCountScore(-(this.numberOfArticles - strategyParameters.getArticleCountThresholdScore())/strategyParameters.getArticleCountWeight());
 							}
 						}
 			} else if(eSearchResult != null
@@ -139,8 +140,8 @@ public class ArticleSizeStrategy extends AbstractTargetAuthorStrategy {
 					eSearchResult.getQueryType() != null 
 					&&
 					eSearchResult.getQueryType() == QueryType.STRICT_EXCEEDS_THRESHOLD_LOOKUP){//Strict Lookup
-				articleCountEvidence.setCountArticlesRetrieved(ReCiterArticleScorer.strategyParameters.getSearchStrategyLeninentThreshold());
-				articleCountEvidence.setArticleCountScore(-(ReCiterArticleScorer.strategyParameters.getSearchStrategyLeninentThreshold() - ReCiterArticleScorer.strategyParameters.getArticleCountThresholdScore())/ReCiterArticleScorer.strategyParameters.getArticleCountWeight());
+				articleCountEvidence.setCountArticlesRetrieved(strategyParameters.getSearchStrategyLeninentThreshold());
+				articleCountEvidence.setArticleCountScore(-(strategyParameters.getSearchStrategyLeninentThreshold() - strategyParameters.getArticleCountThresholdScore())/strategyParameters.getArticleCountWeight());
 			}
 			
 			reCiterArticle.setArticleCountEvidence(articleCountEvidence);
@@ -22,8 +22,8 @@ import java.time.LocalDate;
 import java.util.List;
 
 import lombok.extern.slf4j.Slf4j;
-import reciter.algorithm.cluster.article.scorer.ReCiterArticleScorer;
 import reciter.algorithm.evidence.article.AbstractRemoveReCiterArticleStrategy;
+import reciter.engine.EngineContext;
 import reciter.engine.EngineParameters;
 import reciter.engine.analysis.evidence.EducationYearEvidence;
 import reciter.model.article.ReCiterArticle;
@@ -55,7 +55,8 @@ public class YearDiscrepancyStrategy extends AbstractRemoveReCiterArticleStrateg
 	 * 
 	 * @param degreeType DegreeType used by this strategy.
 	 */
-	public YearDiscrepancyStrategy(DegreeType degreeType) {
+	public YearDiscrepancyStrategy(EngineContext engineContext, DegreeType degreeType) {
+		super(engineContext);
 		this.degreeType = degreeType;
 	}
 
@@ -163,7 +164,7 @@ public class YearDiscrepancyStrategy extends AbstractRemoveReCiterArticleStrateg
 						educationYearEvidence.setArticleYear(year);
 						reCiterArticle.setEducationYearEvidence(educationYearEvidence);
 						//if (difference < 1) {
-						if(year < ReCiterArticleScorer.strategyParameters.getDiscrepancyDegreeYearBachelorThreshold() + identity.getDegreeYear().getBachelorYear()) {
+						if(year < strategyParameters.getDiscrepancyDegreeYearBachelorThreshold() + identity.getDegreeYear().getBachelorYear()) {
 							//log.info("Bachelors: Identity degree and reCiter article {} journal issue publication date difference < 1. Remove from cluster.", reCiterArticle.getArticleId());
 							reCiterArticle.setClusterInfo(reCiterArticle.getClusterInfo() 
 									+ " [Bachelors Degree Difference=" + difference + "]");
@@ -171,7 +172,7 @@ public class YearDiscrepancyStrategy extends AbstractRemoveReCiterArticleStrateg
 							reCiterArticle.setPublishedPriorAcademicDegreeBachelors("Target Author bachelors graduation year: " +
 									identity.getDegreeYear().getBachelorYear() + " publication date: " + year + ". Diff="+ difference);
 							educationYearEvidence.setDiscrepancyDegreeYearBachelor(difference);
-							educationYearEvidence.setDiscrepancyDegreeYearBachelorScore(ReCiterArticleScorer.strategyParameters.getDiscrepancyDegreeYearBachelorScore());
+							educationYearEvidence.setDiscrepancyDegreeYearBachelorScore(strategyParameters.getDiscrepancyDegreeYearBachelorScore());
 							
 							//return 1;
 						} else {
@@ -184,8 +185,8 @@ public class YearDiscrepancyStrategy extends AbstractRemoveReCiterArticleStrateg
 						int doctoral = identity.getDegreeYear().getDoctoralYear();
 						difference = year - doctoral;
 						reCiterArticle.setDoctoralYearDiscrepancy(difference);
-						if (doctoral < ReCiterArticleScorer.strategyParameters.getDiscrepancyDegreeYearYearWhichPhDStudentsStartedToAuthorMorePapers()) {
-							if (year < doctoral + ReCiterArticleScorer.strategyParameters.getDiscrepancyDegreeYearDoctoralThreshold1()) {
+						if (doctoral < strategyParameters.getDiscrepancyDegreeYearYearWhichPhDStudentsStartedToAuthorMorePapers()) {
+							if (year < doctoral + strategyParameters.getDiscrepancyDegreeYearDoctoralThreshold1()) {
 								//log.info("DOCTORAL 1998: Identity degree and reCiter article {} journal issue publication date difference < -6" +
 								//		". Remove from cluster.", reCiterArticle.getArticleId());
 								reCiterArticle.setClusterInfo(reCiterArticle.getClusterInfo() 
@@ -196,13 +197,13 @@ public class YearDiscrepancyStrategy extends AbstractRemoveReCiterArticleStrateg
 								if(reCiterArticle.getEducationYearEvidence() != null) {
 									reCiterArticle.getEducationYearEvidence().setIdentityDoctoralYear(identity.getDegreeYear().getDoctoralYear());
 									reCiterArticle.getEducationYearEvidence().setDiscrepancyDegreeYearDoctoral(difference);
-									reCiterArticle.getEducationYearEvidence().setDiscrepancyDegreeYearDoctoralScore(ReCiterArticleScorer.strategyParameters.getDiscrepancyDegreeYearDoctoralScore());
+									reCiterArticle.getEducationYearEvidence().setDiscrepancyDegreeYearDoctoralScore(strategyParameters.getDiscrepancyDegreeYearDoctoralScore());
 								} else {
 									educationYearEvidence = new EducationYearEvidence();
 									educationYearEvidence.setIdentityDoctoralYear(identity.getDegreeYear().getDoctoralYear());
 									educationYearEvidence.setArticleYear(year);
 									educationYearEvidence.setDiscrepancyDegreeYearDoctoral(difference);
-									educationYearEvidence.setDiscrepancyDegreeYearDoctoralScore(ReCiterArticleScorer.strategyParameters.getDiscrepancyDegreeYearDoctoralScore());
+									educationYearEvidence.setDiscrepancyDegreeYearDoctoralScore(strategyParameters.getDiscrepancyDegreeYearDoctoralScore());
 									reCiterArticle.setEducationYearEvidence(educationYearEvidence);
 								}
 								//return 1;
@@ -222,7 +223,7 @@ public class YearDiscrepancyStrategy extends AbstractRemoveReCiterArticleStrateg
 							}
 							
 						} else {
-							if (year < doctoral + ReCiterArticleScorer.strategyParameters.getDiscrepancyDegreeYearDoctoralThreshold2()) {
+							if (year < doctoral + strategyParameters.getDiscrepancyDegreeYearDoctoralThreshold2()) {
 								//log.info("DOCTORAL: Identity degree and reCiter article {} journal issue publication date difference < -13. " +
 								//		"Remove from cluster.", reCiterArticle.getArticleId());
 
@@ -235,13 +236,13 @@ public class YearDiscrepancyStrategy extends AbstractRemoveReCiterArticleStrateg
 								if(reCiterArticle.getEducationYearEvidence() != null) {
 									reCiterArticle.getEducationYearEvidence().setIdentityDoctoralYear(identity.getDegreeYear().getDoctoralYear());
 									reCiterArticle.getEducationYearEvidence().setDiscrepancyDegreeYearDoctoral(difference);
-									reCiterArticle.getEducationYearEvidence().setDiscrepancyDegreeYearDoctoralScore(ReCiterArticleScorer.strategyParameters.getDiscrepancyDegreeYearDoctoralScore());
+									reCiterArticle.getEducationYearEvidence().setDiscrepancyDegreeYearDoctoralScore(strategyParameters.getDiscrepancyDegreeYearDoctoralScore());
 								} else {
 									educationYearEvidence = new EducationYearEvidence();
 									educationYearEvidence.setIdentityDoctoralYear(identity.getDegreeYear().getDoctoralYear());
 									educationYearEvidence.setArticleYear(year);
 									educationYearEvidence.setDiscrepancyDegreeYearDoctoral(difference);
-									educationYearEvidence.setDiscrepancyDegreeYearDoctoralScore(ReCiterArticleScorer.strategyParameters.getDiscrepancyDegreeYearDoctoralScore());
+									educationYearEvidence.setDiscrepancyDegreeYearDoctoralScore(strategyParameters.getDiscrepancyDegreeYearDoctoralScore());
 									reCiterArticle.setEducationYearEvidence(educationYearEvidence);
 								}
 							} else {
@@ -296,7 +297,7 @@ public class YearDiscrepancyStrategy extends AbstractRemoveReCiterArticleStrateg
 					}
 				} else {
 					if (identity.getDegreeYear() != null && identity.getDegreeYear().getBachelorYear() != 0) {
-						int discrepancyDegreeYearBachelor = articleYear - identity.getDegreeYear().getBachelorYear() + ReCiterArticleScorer.strategyParameters.getBacherlorYearWeight();
+						int discrepancyDegreeYearBachelor = articleYear - identity.getDegreeYear().getBachelorYear() + strategyParameters.getBacherlorYearWeight();
 						discrepancyDegreeYearBachelor = (discrepancyDegreeYearBachelor < -99)?-99:discrepancyDegreeYearBachelor;
 						discrepancyDegreeYearBachelor = (discrepancyDegreeYearBachelor > 100)?100:discrepancyDegreeYearBachelor;
 						double degreeYearDiscrepancyScore = EngineParameters.getDegreeYearDiscrepancyScoreMap().get(Double.valueOf(discrepancyDegreeYearBachelor));
@@ -35,8 +35,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import reciter.algorithm.cluster.article.scorer.ReCiterArticleScorer;
 import reciter.algorithm.evidence.targetauthor.AbstractTargetAuthorStrategy;
+import reciter.engine.EngineContext;
 import reciter.engine.EngineParameters;
 import reciter.engine.Feature;
 import reciter.engine.analysis.evidence.OrganizationalUnitEvidence;
@@ -56,7 +56,11 @@ import reciter.model.identity.OrganizationalUnit.OrganizationalUnitType;
 public class DepartmentStringMatchStrategy extends AbstractTargetAuthorStrategy {
 
 	private final static Logger slf4jLogger = LoggerFactory.getLogger(DepartmentStringMatchStrategy.class);
-	private final List<String> orgUnitSynonym = Arrays.asList(ReCiterArticleScorer.strategyParameters.getOrganizationalUnitSynonym().trim().split("\\s*,\\s*"));
+
+	public DepartmentStringMatchStrategy(EngineContext engineContext) {
+		super(engineContext);
+	}
+	private final List<String> orgUnitSynonym = Arrays.asList(strategyParameters.getOrganizationalUnitSynonym().trim().split("\\s*,\\s*"));
 
 	private String extractedDept;
 	private long pmid;
@@ -161,7 +165,7 @@ public class DepartmentStringMatchStrategy extends AbstractTargetAuthorStrategy
 												orgUnitEvidence.setIdentityOrganizationalUnit(orgUnit.getOrganizationalUnitLabel());
 											}
 											orgUnitEvidence.setArticleAffiliation(author.getAffiliation());
-											orgUnitEvidence.setOrganizationalUnitMatchingScore(ReCiterArticleScorer.strategyParameters.getOrganizationalUnitDepartmentMatchingScore());
+											orgUnitEvidence.setOrganizationalUnitMatchingScore(strategyParameters.getOrganizationalUnitDepartmentMatchingScore());
 											isOrgUnitMatch = true;
 										}
 									}  
@@ -185,7 +189,7 @@ public class DepartmentStringMatchStrategy extends AbstractTargetAuthorStrategy
 											orgUnitEvidence.setIdentityOrganizationalUnit(orgUnit.getOrganizationalUnitLabel());
 										}
 										orgUnitEvidence.setArticleAffiliation(author.getAffiliation());
-										orgUnitEvidence.setOrganizationalUnitMatchingScore(ReCiterArticleScorer.strategyParameters.getOrganizationalUnitDepartmentMatchingScore());
+										orgUnitEvidence.setOrganizationalUnitMatchingScore(strategyParameters.getOrganizationalUnitDepartmentMatchingScore());
 										isOrgUnitMatch = true;
 									}*/ else if(StringUtils.containsIgnoreCase(articleAffiliation, "Department of " + identityDepartment) 
 											|| 
@@ -223,14 +227,14 @@ public class DepartmentStringMatchStrategy extends AbstractTargetAuthorStrategy
 											orgUnitEvidence.setIdentityOrganizationalUnit(orgUnit.getOrganizationalUnitLabel());
 										}
 										orgUnitEvidence.setArticleAffiliation(author.getAffiliation());
-										orgUnitEvidence.setOrganizationalUnitMatchingScore(ReCiterArticleScorer.strategyParameters.getOrganizationalUnitDepartmentMatchingScore());
+										orgUnitEvidence.setOrganizationalUnitMatchingScore(strategyParameters.getOrganizationalUnitDepartmentMatchingScore());
 										isOrgUnitMatch = true;
 									}  
 									
 									//This is added to the modifier should be dependent on the matched score which should be more than 0
 									if(isOrgUnitMatch
 											&&
-											Arrays.asList(ReCiterArticleScorer.strategyParameters.getOrganizationalUnitModifier().trim().split("\\s*,\\s*")).contains(identityDepartment)) {
+											Arrays.asList(strategyParameters.getOrganizationalUnitModifier().trim().split("\\s*,\\s*")).contains(identityDepartment)) {
 										if(identityOrgUnitToSynonymMap.size() > 0 &&
 												identityOrgUnitToSynonymMap.values().stream().anyMatch(synonymOrgUnit -> synonymOrgUnit.contains(identityDepartment))) {
 												synonymOrgUnitLabel = identityOrgUnitToSynonymMap.entrySet().stream().
@@ -246,7 +250,7 @@ public class DepartmentStringMatchStrategy extends AbstractTargetAuthorStrategy
 											orgUnitEvidence.setIdentityOrganizationalUnit(orgUnit.getOrganizationalUnitLabel());
 										}
 										orgUnitEvidence.setOrganizationalUnitModifier(identityDepartment);
-										orgUnitEvidence.setOrganizationalUnitModifierScore(ReCiterArticleScorer.strategyParameters.getOrganizationalUnitModifierScore());
+										orgUnitEvidence.setOrganizationalUnitModifierScore(strategyParameters.getOrganizationalUnitModifierScore());
 									}
 								} else {
 									if(articleAffiliation.contains("Program in " + identityDepartment) 
@@ -269,7 +273,7 @@ public class DepartmentStringMatchStrategy extends AbstractTargetAuthorStrategy
 											orgUnitEvidence.setIdentityOrganizationalUnit(orgUnit.getOrganizationalUnitLabel());
 										}
 										orgUnitEvidence.setArticleAffiliation(author.getAffiliation());
-										orgUnitEvidence.setOrganizationalUnitMatchingScore(ReCiterArticleScorer.strategyParameters.getOrganizationalUnitProgramMatchingScore());
+										orgUnitEvidence.setOrganizationalUnitMatchingScore(strategyParameters.getOrganizationalUnitProgramMatchingScore());
 									}
 								}
 								if(orgUnitEvidence.getIdentityOrganizationalUnit() == null) {
@@ -26,10 +26,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import reciter.algorithm.cluster.article.scorer.ReCiterArticleScorer;
 import reciter.algorithm.cluster.similarity.clusteringstrategy.article.EmailFeatureClusteringStrategy;
 import reciter.algorithm.evidence.targetauthor.AbstractTargetAuthorStrategy;
 import reciter.algorithm.evidence.targetauthor.name.strategy.ScoreByNameStrategy;
+import reciter.engine.EngineContext;
 import reciter.engine.Feature;
 import reciter.engine.analysis.evidence.EmailEvidence;
 import reciter.model.article.ReCiterArticle;
@@ -41,13 +41,15 @@ public class EmailStringMatchStrategy extends AbstractTargetAuthorStrategy {
 	private static final Logger slf4jLogger = LoggerFactory.getLogger(EmailStringMatchStrategy.class);
 	private List<String> emailSuffixes;
 	
-	private final String[] defaultSuffixes = ReCiterArticleScorer.strategyParameters.getDefaultSuffixes().trim().split(",");
+	private final String[] defaultSuffixes = strategyParameters.getDefaultSuffixes().trim().split(",");
 	
-	public EmailStringMatchStrategy() {
+	public EmailStringMatchStrategy(EngineContext engineContext) {
+		super(engineContext);
 		setEmailSuffixes(Arrays.asList(defaultSuffixes));
 	}
 	
-	public EmailStringMatchStrategy(List<String> emailSuffixes) {
+	public EmailStringMatchStrategy(EngineContext engineContext, List<String> emailSuffixes) {
+		super(engineContext);
 		this.setEmailSuffixes(emailSuffixes);
 	}
 	
@@ -96,17 +98,17 @@ public class EmailStringMatchStrategy extends AbstractTargetAuthorStrategy {
 							reCiterArticle.setClusterInfo(reCiterArticle.getClusterInfo() + " [email matches: " + email + "]");
 							reCiterArticle.getMatchingEmails().add(email);
 							emailEvidence.setEmailMatch(email);
-							emailEvidence.setEmailMatchScore(ReCiterArticleScorer.strategyParameters.getEmailMatchScore());
+							emailEvidence.setEmailMatchScore(strategyParameters.getEmailMatchScore());
 							break;
 						} else if(emailSuffixes.stream().anyMatch(suffix -> affiliation.toLowerCase().contains(identity.getUid().toLowerCase() + suffix.toLowerCase()))) {
 							reCiterArticle.setClusterInfo(reCiterArticle.getClusterInfo() + " [email matches: " + affiliation + "]");
 							reCiterArticle.getMatchingEmails().add(email);
 							emailEvidence.setEmailMatch(email);
-							emailEvidence.setEmailMatchScore(ReCiterArticleScorer.strategyParameters.getEmailMatchScore());
+							emailEvidence.setEmailMatchScore(strategyParameters.getEmailMatchScore());
 							break;
 						} else {
 							emailEvidence.setEmailMatch(EmailFeatureClusteringStrategy.sanitizeAffiliation(affiliation));
-							emailEvidence.setEmailMatchScore(ReCiterArticleScorer.strategyParameters.getEmailNoMatchScore());
+							emailEvidence.setEmailMatchScore(strategyParameters.getEmailNoMatchScore());
 						}
 					}
 				}
@@ -6,9 +6,9 @@ import java.util.List;
 
 
 import lombok.extern.slf4j.Slf4j;
-import reciter.algorithm.cluster.article.scorer.ReCiterArticleScorer;
 import reciter.algorithm.evidence.targetauthor.AbstractTargetAuthorStrategy;
 import reciter.database.dynamodb.model.Gender;
+import reciter.engine.EngineContext;
 import reciter.engine.Feature;
 import reciter.engine.analysis.evidence.GenderEvidence;
 import reciter.model.article.ReCiterArticle;
@@ -18,6 +18,10 @@ import reciter.utils.GenderProbability;
 @Slf4j
 public class GenderStrategy extends AbstractTargetAuthorStrategy {
 
+	public GenderStrategy(EngineContext engineContext) {
+		super(engineContext);
+	}
+
 	@Override
 	public double executeStrategy(ReCiterArticle reCiterArticle, Identity identity) {
 		return 0;
@@ -31,7 +35,7 @@ public class GenderStrategy extends AbstractTargetAuthorStrategy {
 				Gender genderArticle = GenderProbability.getGenderArticleProbability(reCiterArticle);
 				Double genderScore = null;
 				if(genderArticle != null && identityGender != null) {
-					genderScore = ((1 - Math.abs(identityGender.getProbability() - genderArticle.getProbability())) * ReCiterArticleScorer.strategyParameters.getGenderStrategyRangeScore() + ReCiterArticleScorer.strategyParameters.getGenderStrategyMinScore());
+					genderScore = ((1 - Math.abs(identityGender.getProbability() - genderArticle.getProbability())) * strategyParameters.getGenderStrategyRangeScore() + strategyParameters.getGenderStrategyMinScore());
 				}
 				GenderEvidence genderEvidence = new GenderEvidence();
 				if(genderArticle != null) {
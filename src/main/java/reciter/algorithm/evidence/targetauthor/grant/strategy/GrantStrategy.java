@@ -28,8 +28,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import reciter.algorithm.cluster.article.scorer.ReCiterArticleScorer;
 import reciter.algorithm.evidence.targetauthor.AbstractTargetAuthorStrategy;
+import reciter.engine.EngineContext;
 import reciter.engine.Feature;
 import reciter.engine.StrategyParameters;
 import reciter.engine.analysis.evidence.Grant;
@@ -42,6 +42,10 @@ public class GrantStrategy extends AbstractTargetAuthorStrategy {
 
 	private static final Logger log = LoggerFactory.getLogger(GrantStrategy.class);
 
+	public GrantStrategy(EngineContext engineContext) {
+		super(engineContext);
+	}
+
 	@Override
 	public double executeStrategy(ReCiterArticle reCiterArticle, Identity identity) {
 		log.info("Executing grant strategy for article id {} and identity id {}",
@@ -89,7 +93,7 @@ public class GrantStrategy extends AbstractTargetAuthorStrategy {
 						Grant analysisGrant = new Grant();
 						analysisGrant.setArticleGrant(grant.getGrantID());
 						analysisGrant.setInstitutionGrant(identityGrantId);
-						analysisGrant.setGrantMatchScore(ReCiterArticleScorer.strategyParameters.getGrantMatchScore());
+						analysisGrant.setGrantMatchScore(strategyParameters.getGrantMatchScore());
 						score += 1;
 						reCiterArticle.getMatchingGrantList().add(grant);
 						if(!grants.stream().anyMatch(matchingGrant -> org.apache.commons.lang3.StringUtils.equalsIgnoreCase(identityGrantId, matchingGrant.getInstitutionGrant()))) {
@@ -0,0 +1,75 @@
+package reciter.algorithm.evidence.targetauthor.journalcategory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import reciter.database.dynamodb.model.ScienceMetrix;
+import reciter.database.dynamodb.model.ScienceMetrixDepartmentCategory;
+
+/**
+ * Immutable lookup tables over the ScienceMetrix reference data, built once when the application starts.
+ * Journals are keyed by both their ISSN and EISSN and department categories by their journal subfield id, so
+ * {@link reciter.algorithm.evidence.targetauthor.journalcategory.strategy.JournalCategoryStrategy} does not have to
+ * scan the reference lists for every article.
+ */
+public final class ScienceMetrixIndex {
+
+	private final Map<String, ScienceMetrix> journalsByIssn;
+
+	private final Map<Integer, List<ScienceMetrixDepartmentCategory>> departmentCategoriesBySubfieldId;
+
+	private ScienceMetrixIndex(Map<String, ScienceMetrix> journalsByIssn, Map<Integer, List<ScienceMetrixDepartmentCategory>> departmentCategoriesBySubfieldId) {
+		this.journalsByIssn = journalsByIssn;
+		this.departmentCategoriesBySubfieldId = departmentCategoriesBySubfieldId;
+	}
+
+	/**
+	 * @param scienceMetrixJournals ScienceMetrix journals, the journal with the smallest smsid wins when several list the same
+	 * ISSN or EISSN, whatever the order they were loaded in
+	 * @param scienceMetrixDepartmentCategories department categories of the journal subfields
+	 */
+	public static ScienceMetrixIndex of(List<ScienceMetrix> scienceMetrixJournals, List<ScienceMetrixDepartmentCategory> scienceMetrixDepartmentCategories) {
+		Map<String, ScienceMetrix> journalsByIssn = new HashMap<>();
+		if(scienceMetrixJournals != null) {
+			List<ScienceMetrix> sortedJournals = new ArrayList<>(scienceMetrixJournals);
+			sortedJournals.sort(Comparator.comparing(ScienceMetrix::getSmsid, Comparator.nullsLast(Comparator.naturalOrder())));
+			for(ScienceMetrix scienceMetrixJournal: sortedJournals) {
+				if(scienceMetrixJournal.getIssn() != null) {
+					journalsByIssn.putIfAbsent(scienceMetrixJournal.getIssn(), scienceMetrixJournal);
+				}
+				if(scienceMetrixJournal.getEissn() != null) {
+					journalsByIssn.putIfAbsent(scienceMetrixJournal.getEissn(), scienceMetrixJournal);
+				}
+			}
+		}
+		Map<Integer, List<ScienceMetrixDepartmentCategory>> departmentCategoriesBySubfieldId = new HashMap<>();
+		if(scienceMetrixDepartmentCategories != null) {
+			for(ScienceMetrixDepartmentCategory scienceMetrixDepartmentCategory: scienceMetrixDepartmentCategories) {
+				departmentCategoriesBySubfieldId.computeIfAbsent(scienceMetrixDepartmentCategory.getScienceMetrixJournalSubfieldId(), subfieldId -> new ArrayList<>())
+					.add(scienceMetrixDepartmentCategory);
+			}
+			departmentCategoriesBySubfieldId.replaceAll((subfieldId, departmentCategories) -> Collections.unmodifiableList(departmentCategories));
+		}
+		return new ScienceMetrixIndex(Collections.unmodifiableMap(journalsByIssn), Collections.unmodifiableMap(departmentCategoriesBySubfieldId));
+	}
+
+	/**
+	 * @param issn ISSN or EISSN of a journal
+	 * @return the ScienceMetrix journal having that ISSN or EISSN, <code>null</code> if there is none
+	 */
+	public ScienceMetrix findJournalByIssn(String issn) {
+		return issn == null ? null : journalsByIssn.get(issn);
+	}
+
+	/**
+	 * @param subfieldId ScienceMetrix journal subfield id
+	 * @return the department categories of the subfield in the order they were loaded, empty if there are none
+	 */
+	public List<ScienceMetrixDepartmentCategory> findDepartmentCategoriesBySubfieldId(int subfieldId) {
+		return departmentCategoriesBySubfieldId.getOrDefault(subfieldId, Collections.emptyList());
+	}
+}
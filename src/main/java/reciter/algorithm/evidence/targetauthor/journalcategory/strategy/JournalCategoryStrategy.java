@@ -1,5 +1,6 @@
 package reciter.algorithm.evidence.targetauthor.journalcategory.strategy;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -9,10 +10,11 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import reciter.algorithm.cluster.article.scorer.ReCiterArticleScorer;
 import reciter.algorithm.evidence.targetauthor.AbstractTargetAuthorStrategy;
+import reciter.algorithm.evidence.targetauthor.journalcategory.ScienceMetrixIndex;
 import reciter.database.dynamodb.model.ScienceMetrix;
 import reciter.database.dynamodb.model.ScienceMetrixDepartmentCategory;
+import reciter.engine.EngineContext;
 import reciter.engine.EngineParameters;
 import reciter.engine.Feature;
 import reciter.engine.analysis.evidence.JournalCategoryEvidence;
@@ -27,6 +29,10 @@ public class JournalCategoryStrategy extends AbstractTargetAuthorStrategy {
 	
 	private static final Logger log = LoggerFactory.getLogger(JournalCategoryStrategy.class);
 
+	public JournalCategoryStrategy(EngineContext engineContext) {
+		super(engineContext);
+	}
+
 	@Override
 	public double executeStrategy(ReCiterArticle reCiterArticle, Identity identity) {
 		// TODO Auto-generated method stub
@@ -83,7 +89,7 @@ public class JournalCategoryStrategy extends AbstractTargetAuthorStrategy {
 									}
 								}
 								journalCategoryEvidence.setJournalSubfieldScienceMetrixID(matchedJournal.getScienceMetrixJournalSubfieldId());
-								journalCategoryEvidence.setJournalSubfieldScore(ReCiterArticleScorer.strategyParameters.getJournalSubfieldFactorScore() * matchedJournal.getLogOddsRatio());
+								journalCategoryEvidence.setJournalSubfieldScore(strategyParameters.getJournalSubfieldFactorScore() * matchedJournal.getLogOddsRatio());
 							}
 						} else {
 							journalCategoryEvidence = new JournalCategoryEvidence();
@@ -111,14 +117,14 @@ public class JournalCategoryStrategy extends AbstractTargetAuthorStrategy {
 								}
 							}
 							journalCategoryEvidence.setJournalSubfieldScienceMetrixID(matchedOrgUnits.get(0).getScienceMetrixJournalSubfieldId());
-							journalCategoryEvidence.setJournalSubfieldScore(ReCiterArticleScorer.strategyParameters.getJournalSubfieldFactorScore() * matchedOrgUnits.get(0).getLogOddsRatio());
+							journalCategoryEvidence.setJournalSubfieldScore(strategyParameters.getJournalSubfieldFactorScore() * matchedOrgUnits.get(0).getLogOddsRatio());
 						}
 					} else {
 						journalCategoryEvidence = new JournalCategoryEvidence();
 						journalCategoryEvidence.setJournalSubfieldScienceMetrixLabel(scienceMetrix.getScienceMetrixSubfield());
 						journalCategoryEvidence.setJournalSubfieldDepartment("NO_MATCH");
 						journalCategoryEvidence.setJournalSubfieldScienceMetrixID(Integer.parseInt(scienceMetrix.getScienceMatrixSubfieldId()));
-						journalCategoryEvidence.setJournalSubfieldScore(ReCiterArticleScorer.strategyParameters.getJournalSubfieldScore());
+						journalCategoryEvidence.setJournalSubfieldScore(strategyParameters.getJournalSubfieldScore());
 					}
 				}
 				if(journalCategoryEvidence != null) {
@@ -138,15 +144,15 @@ public class JournalCategoryStrategy extends AbstractTargetAuthorStrategy {
 	}
 	
 	private List<ScienceMetrixDepartmentCategory> getScienceMetrixDepartmentCategory(String subfieldId) {
-		List<ScienceMetrixDepartmentCategory> scienceMetrixDeptCategory = null;
-		if(subfieldId != null 
-				&& 
-				!subfieldId.isEmpty()) {
-			scienceMetrixDeptCategory = EngineParameters.getScienceMetrixDepartmentCategories().parallelStream().filter(scienceMetrixDepartmentCategory -> 
-			scienceMetrixDepartmentCategory.getScienceMetrixJournalSubfieldId() == Integer.parseInt(subfieldId)
-					).collect(Collectors.toList());
+		ScienceMetrixIndex scienceMetrixIndex = EngineParameters.getScienceMetrixIndex();
+		if(subfieldId == null 
+				|| 
+				subfieldId.isEmpty()
+				||
+				scienceMetrixIndex == null) {
+			return Collections.emptyList();
 		}
-		return scienceMetrixDeptCategory;
+		return scienceMetrixIndex.findDepartmentCategoriesBySubfieldId(Integer.parseInt(subfieldId));
 	}
 	
 	private ScienceMetrix checkIssnInScienceMetrix(List<MedlineCitationJournalISSN> journalIssns) {
@@ -181,56 +187,17 @@ public class JournalCategoryStrategy extends AbstractTargetAuthorStrategy {
 			}
 		}*/
 		
-		for(ScienceMetrix scienceMetrixJournal: EngineParameters.getScienceMetrixJournals()) {
+		ScienceMetrixIndex scienceMetrixIndex = EngineParameters.getScienceMetrixIndex();
+		if(scienceMetrixIndex != null) {
 			if(issnLinking != null) {
-				if(scienceMetrixJournal.getIssn() != null 
-						&&
-						scienceMetrixJournal.getIssn().equals(issnLinking)) {
-					scienceMetrix = scienceMetrixJournal;
-					break;
-				}
-				if(scienceMetrix == null) {
-					if(scienceMetrixJournal.getEissn() != null 
-							&&
-							scienceMetrixJournal.getEissn().equals(issnLinking)) {
-						scienceMetrix = scienceMetrixJournal;
-						break;
-					}
-				}
-			} else if(scienceMetrix == null && issnPrint != null) {
-				if(scienceMetrixJournal.getIssn() != null 
-						&&
-						scienceMetrixJournal.getIssn().equals(issnPrint)) {
-					scienceMetrix = scienceMetrixJournal;
-					break;
-				}
-				if(scienceMetrix == null) {
-					if(scienceMetrixJournal.getEissn() != null 
-							&&
-							scienceMetrixJournal.getEissn().equals(issnPrint)) {
-						scienceMetrix = scienceMetrixJournal;
-						break;
-					}
-				}
-			} else if(scienceMetrix == null && issnElectronic != null) {
-				if(scienceMetrixJournal.getIssn() != null 
-						&&
-						scienceMetrixJournal.getIssn().equals(issnElectronic)) {
-					scienceMetrix = scienceMetrixJournal;
-					break;
-				}
-				if(scienceMetrix == null) {
-					if(scienceMetrixJournal.getEissn() != null 
-							&&
-							scienceMetrixJournal.getEissn().equals(issnElectronic)) {
-						scienceMetrix = scienceMetrixJournal;
-						break;
-					}
-				}
+				scienceMetrix = scienceMetrixIndex.findJournalByIssn(issnLinking);
+			} else if(issnPrint != null) {
+				scienceMetrix = scienceMetrixIndex.findJournalByIssn(issnPrint);
+			} else if(issnElectronic != null) {
+				scienceMetrix = scienceMetrixIndex.findJournalByIssn(issnElectronic);
 			}
 		}
 		
-
 		return scienceMetrix;
 	}
 }
@@ -18,9 +18,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import reciter.algorithm.cluster.article.scorer.ReCiterArticleScorer;
 import reciter.algorithm.evidence.targetauthor.AbstractTargetAuthorStrategy;
 import reciter.algorithm.util.ReCiterStringUtil;
+import reciter.engine.EngineContext;
 import reciter.engine.Feature;
 import reciter.engine.analysis.evidence.AuthorNameEvidence;
 import reciter.model.article.ReCiterArticle;
@@ -37,8 +37,12 @@ import reciter.model.identity.Identity;
 public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 
 	private static final Logger slf4jLogger = LoggerFactory.getLogger(ScoreByNameStrategy.class);
+
+	public ScoreByNameStrategy(EngineContext engineContext) {
+		super(engineContext);
+	}
 	
-	private final List<String> nameExcludedSuffixes = Arrays.asList(ReCiterArticleScorer.strategyParameters.getNameExcludedSuffixes().trim().split("\\s*,\\s*"));
+	private final List<String> nameExcludedSuffixes = Arrays.asList(strategyParameters.getNameExcludedSuffixes().trim().split("\\s*,\\s*"));
 
 	@Override
 	public double executeStrategy(List<ReCiterArticle> reCiterArticles, Identity identity) {
@@ -110,7 +114,7 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 							&&
 							identityAuthorName.getMiddleName().length() == 1) {
 						authorNameEvidence.setNameMatchMiddleType("exact-singleInitial");
-						authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeExactSingleInitialScore());
+						authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeExactSingleInitialScore());
 						authorNameEvidence.setNameScoreTotal(authorNameEvidence.getNameMatchFirstScore() + authorNameEvidence.getNameMatchLastScore() + authorNameEvidence.getNameMatchMiddleScore() + authorNameEvidence.getNameMatchModifierScore());
 					}
 					authorNameEvidences.add(authorNameEvidence);
@@ -158,26 +162,26 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Combine following identity.middleName, identity.lastName into mergedName. Now attempt match against article.lastName.
 				//Example: Garcia (identity.middleName) + Marquez (identity.lastName) = GarciaMarquez (article.lastName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchLastType("full-exact");
-				authorNameEvidence.setNameMatchLastScore(ReCiterArticleScorer.strategyParameters.getNameMatchLastTypeFullExactScore());
+				authorNameEvidence.setNameMatchLastScore(strategyParameters.getNameMatchLastTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("full-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullExactScore());
 				authorNameEvidence.setNameMatchModifier("combinedMiddleNameLastName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierCombinedMiddleNameLastNameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierCombinedMiddleNameLastNameScore());
 			} else if(identityAuthor.getMiddleName() != null 
 					&& 
 					StringUtils.equalsIgnoreCase(identityAuthor.getMiddleName() + identityAuthor.getLastName(), articleAuthorName.getLastName())
 					&&
 					StringUtils.equalsIgnoreCase(identityAuthor.getFirstInitial(), articleAuthorName.getFirstName())) {
 				authorNameEvidence.setNameMatchFirstType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchLastType("full-exact");
-				authorNameEvidence.setNameMatchLastScore(ReCiterArticleScorer.strategyParameters.getNameMatchLastTypeFullExactScore());
+				authorNameEvidence.setNameMatchLastScore(strategyParameters.getNameMatchLastTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("full-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullExactScore());
 				authorNameEvidence.setNameMatchModifier("combinedMiddleNameLastName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierCombinedMiddleNameLastNameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierCombinedMiddleNameLastNameScore());
 			}
 			authorNameEvidence.setInstitutionalAuthorName(identityAuthorNameOriginal);
 			authorNameEvidence.setArticleAuthorName(articleAuthorNameOriginal);
@@ -194,22 +198,22 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt full exact match where identity.lastName = article.lastName.
 				//Example: Cole (identity.lastName) = Cole (article.lastName)
 				authorNameEvidence.setNameMatchLastType("full-exact");
-				authorNameEvidence.setNameMatchLastScore(ReCiterArticleScorer.strategyParameters.getNameMatchLastTypeFullExactScore());
+				authorNameEvidence.setNameMatchLastScore(strategyParameters.getNameMatchLastTypeFullExactScore());
 			}  else if(identityAuthor.getMiddleName() != null && StringUtils.containsIgnoreCase(identityAuthor.getLastName(), articleAuthorName.getLastName())) {
 				//Attempt partial match where "%" + identity.lastName + "%" = article.lastName
 				//Example: Cole (identity.lastName) = Del Cole (article.lastName)
 				authorNameEvidence.setNameMatchLastType("full-exact");
-				authorNameEvidence.setNameMatchLastScore(ReCiterArticleScorer.strategyParameters.getNameMatchLastTypeFullExactScore());
+				authorNameEvidence.setNameMatchLastScore(strategyParameters.getNameMatchLastTypeFullExactScore());
 				authorNameEvidence.setNameMatchModifier("identitySubstringOfArticle-lastName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierIdentitySubstringOfArticleLastnameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierIdentitySubstringOfArticleLastnameScore());
 			} else if(identityAuthor.getLastName().length() >= 4 && ReCiterStringUtil.levenshteinDistance(identityAuthor.getLastName(), articleAuthorName.getLastName()) <= 1) {
 				//Attempt match where identity.lastName >= 4 characters and levenshteinDistance between identity.lastName and article.lastName is <=1.
 				//Example: Kaushal (identity.lastName) = Kaushai (article.lastName)
 				authorNameEvidence.setNameMatchLastType("full-fuzzy");
-				authorNameEvidence.setNameMatchLastScore(ReCiterArticleScorer.strategyParameters.getNameMatchLastTypeFullFuzzyScore());
+				authorNameEvidence.setNameMatchLastScore(strategyParameters.getNameMatchLastTypeFullFuzzyScore());
 			} else {
 				authorNameEvidence.setNameMatchLastType("full-conflictingEntirely");
-				authorNameEvidence.setNameMatchLastScore(ReCiterArticleScorer.strategyParameters.getNameMatchLastTypeFullConflictingEntirelyScore());
+				authorNameEvidence.setNameMatchLastScore(strategyParameters.getNameMatchLastTypeFullConflictingEntirelyScore());
 			}
 			authorNameEvidence.setInstitutionalAuthorName(identityAuthorNameOriginal);
 			authorNameEvidence.setArticleAuthorName(articleAuthorNameOriginal);
@@ -233,9 +237,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName = article.firstName
 				//Example: Paul (identity.firstName) = Paul (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("identityNull-MatchNotAttempted");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getLastName() != null 
@@ -248,13 +252,13 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName + identity.lastName = article.firstName + article.lastName
 				//Example: Landys (identity.firstName) + Lopez quezada (identity.lastName) = Landys Lopez (article.firstName) + Quezada (article.lastName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchLastType("full-exact");
-				authorNameEvidence.setNameMatchLastScore(ReCiterArticleScorer.strategyParameters.getNameMatchLastTypeFullExactScore());
+				authorNameEvidence.setNameMatchLastScore(strategyParameters.getNameMatchLastTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("identityNull-MatchNotAttempted");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
 				authorNameEvidence.setNameMatchModifier("combinedFirstNameLastName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierCombinedFirstNameLastNameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierCombinedFirstNameLastNameScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					articleAuthorName.getFirstName() != null
@@ -265,9 +269,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName + identity.lastName = article.firstName + article.lastName
 				//Example: Landys (identity.firstName) + Lopez quezada (identity.lastName) = Landys Lopez (article.firstName) + Quezada (article.lastName)
 				authorNameEvidence.setNameMatchFirstType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchMiddleType("identityNull-MatchNotAttempted");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
 				
 			} else if(identityAuthor.getFirstName() != null 
 					&&
@@ -275,20 +279,20 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName is a left-anchored substring of article.firstName
 				//Example: Paul (identity.firstName) = PaulJames (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("identityNull-MatchNotAttempted");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
 				authorNameEvidence.setNameMatchModifier("identitySubstringOfArticle-firstName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstnameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstnameScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getFirstName().toLowerCase().startsWith(articleAuthorName.getFirstName().toLowerCase())) { 
 				//Attempt match where article.firstName is a left-anchored substring of identity.firstName
 				//Example: Paul (identity.firstName) = P (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchMiddleType("identityNull-MatchNotAttempted");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getFirstName().length() >= 3 
@@ -299,9 +303,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where first three characters of identity.firstName = first three characters of article.firstName
 				//Example: Paul (identity.firstName) = Pau (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-fuzzy");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullFuzzyScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullFuzzyScore());
 				authorNameEvidence.setNameMatchMiddleType("identityNull-MatchNotAttempted");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&&
 					identityAuthor.getFirstName().length() >= 4 
@@ -310,23 +314,23 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName is greater than 4 characters and Levenshtein distance between identity.firstName and article.firstName is 1.
 				//Example: Paula (identity.firstName) = Pauly (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-fuzzy");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullFuzzyScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullFuzzyScore());
 				authorNameEvidence.setNameMatchMiddleType("identityNull-MatchNotAttempted");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&&
 					StringUtils.equalsIgnoreCase(identityAuthor.getFirstInitial(),articleAuthorName.getFirstInitial())) {
 				//Attempt match where first character of identity.firstName = first character of article.firstName
 				//Example: Paul (identity.firstName) = Peter (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-conflictingAllButInitials");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullConflictingAllButInitialsScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullConflictingAllButInitialsScore());
 				authorNameEvidence.setNameMatchMiddleType("identityNull-MatchNotAttempted");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
 			} else {
 				authorNameEvidence.setNameMatchFirstType("full-conflictingEntirely");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullConflictingEntirelyScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullConflictingEntirelyScore());
 				authorNameEvidence.setNameMatchMiddleType("identityNull-MatchNotAttempted");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeIdentityNullMatchNotAttemptedScore());
 			}
 			authorNameEvidence.setInstitutionalAuthorName(identityAuthorNameOriginal);
 			authorNameEvidence.setArticleAuthorName(articleAuthorNameOriginal);
@@ -363,9 +367,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName + identity.middleName = article.firstName
 				//Example: Paul (identity.firstName) + James (identity.middleName) = PaulJames (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("full-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullExactScore());
 			} else if(identityAuthor.getFirstName() != null  
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -376,11 +380,11 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName + "%" + identity.middleName = article.firstName
 				//Example: Paul (identity.firstName) + James (identity.middleName) = PaulaJames (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("full-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullExactScore());
 				authorNameEvidence.setNameMatchModifier("identitySubstringOfArticle-firstMiddleName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstMiddlenameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstMiddlenameScore());
 			} else if(identityAuthor.getFirstName() != null  
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -391,9 +395,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName + identity.middleInitial = article.firstName
 				//Example: Paul (identity.firstName) + J (identity.middleInitial) = PaulJ (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeInferredInitialsExactScore());
 			} else if(identityAuthor.getFirstName() != null  
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -404,11 +408,11 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName + "%" + identity.middleInitial = article.firstName
 				//Example: Paul (identity.firstName) + J (identity.middleInitial) = PaulaJ (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchModifier("identitySubstringOfArticle-firstMiddleName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstMiddlenameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstMiddlenameScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -422,9 +426,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstInitial + identity.middleInitial = article.firstName
 				//Example: P (identity.firstInitial) + J (identity.middleInitial) = PJ (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchMiddleType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeInferredInitialsExactScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -435,9 +439,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstInitial + identity.middleName = article.firstName
 				//Example: M (identity.firstInitial) + Carrington (identity.middleName) = MCarrington (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchMiddleType("full-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullExactScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getLastName() != null 
@@ -450,11 +454,11 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName + identity.lastName = article.firstName + article.lastName
 				//Example: Landys (identity.firstName) + Lopez quezada (identity.lastName) = Landys Lopez (article.firstName) + Quezada (article.lastName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchLastType("full-exact");
-				authorNameEvidence.setNameMatchLastScore(ReCiterArticleScorer.strategyParameters.getNameMatchLastTypeFullExactScore());
+				authorNameEvidence.setNameMatchLastScore(strategyParameters.getNameMatchLastTypeFullExactScore());
 				authorNameEvidence.setNameMatchModifier("combinedFirstNameLastName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierCombinedFirstNameLastNameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierCombinedFirstNameLastNameScore());
 
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
@@ -466,11 +470,11 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName + identity.middleName + "%" = article.firstName
 				//Example: Paul (identity.firstName) + James (identity.middleName) = PaulJamesA (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("full-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullExactScore());
 				authorNameEvidence.setNameMatchModifier("identitySubstringOfArticle-firstMiddleName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstMiddlenameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstMiddlenameScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -481,11 +485,11 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName + identity.middleInitial + "%" = article.firstName
 				//Example: Paul (identity.firstName) + J (identity.middleInitial) = PaulJZ (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchModifier("identitySubstringOfArticle-firstMiddleName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstMiddlenameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstMiddlenameScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					articleAuthorName.getFirstName() != null  
@@ -494,9 +498,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName = article.firstName
 				//Example: Paul (identity.firstName) = Paul (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("noMatch");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeNoMatchScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeNoMatchScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -505,11 +509,11 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 					&& 
 					StringUtils.equalsIgnoreCase(identityAuthor.getMiddleInitial() + identityAuthor.getFirstInitial(), articleAuthorName.getFirstName())) {
 				authorNameEvidence.setNameMatchFirstType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchMiddleType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchModifier("incorrectOrder");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierIncorrectOrderScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierIncorrectOrderScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -528,9 +532,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//If there's more than one capital letter in identity.firstName or identity.middleName, attempt match where any capitals in identity.firstName + any capital letters in identity.middleName = article.firstName
 				//Example: KS (identity.initialsInFirstName) + C (identity.initialsInMiddleName) = KSC (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchMiddleType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeInferredInitialsExactScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					articleAuthorName.getFirstName() != null  
@@ -544,9 +548,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//If there's more than one capital letter in identity.firstName, attempt match where any capitals in identity.firstName = article.firstName
 				//Example: KS (identity.initialsInFirstName) = KS (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchMiddleType("noMatch");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeNoMatchScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeNoMatchScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -561,9 +565,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//If there's more than one capital letter in identity.firstName, attempt match where any capitals in identity.firstName + identity.middleName = article.firstName
 				//Example: KS (identity.initialsInFirstName) + Clifford (identity.middleName) = KSClifford (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchMiddleType("full-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullExactScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					articleAuthorName.getFirstName() != null  
@@ -572,11 +576,11 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName + "%" = article.firstName
 				//Example: Robert (identity.firstName) = RobertR (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("noMatch");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeNoMatchScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeNoMatchScore());
 				authorNameEvidence.setNameMatchModifier("identitySubstringOfArticle-firstName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstnameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstnameScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					articleAuthorName.getFirstName() != null  
@@ -585,11 +589,11 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where "%" + identity.firstName = article.firstName
 				//Example: Cary (identity.firstName) = MCary (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullExactScore());
 				authorNameEvidence.setNameMatchMiddleType("noMatch");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeNoMatchScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeNoMatchScore());
 				authorNameEvidence.setNameMatchModifier("identitySubstringOfArticle-firstName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstnameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstnameScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -600,9 +604,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.middleName = article.firstName
 				//Example: Clifford (identity.middleName) = Clifford (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("noMatch");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeNoMatchScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeNoMatchScore());
 				authorNameEvidence.setNameMatchMiddleType("full-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullExactScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -613,11 +617,11 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.middleName + "%" = article.firstName
 				//Example: Clifford (identity.middleName) = CliffordKS (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("noMatch");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeNoMatchScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeNoMatchScore());
 				authorNameEvidence.setNameMatchMiddleType("full-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullExactScore());
 				authorNameEvidence.setNameMatchModifier("identitySubstringOfArticle-middleName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierIdentitySubstringOfArticleMiddlenameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierIdentitySubstringOfArticleMiddlenameScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -628,11 +632,11 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where "%" + identity.middleName = article.firstName
 				//Example: Clifford (identity.middleName) = KunSungClifford (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("noMatch");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeNoMatchScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeNoMatchScore());
 				authorNameEvidence.setNameMatchMiddleType("full-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullExactScore());
 				authorNameEvidence.setNameMatchModifier("identitySubstringOfArticle-middleName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierIdentitySubstringOfArticleMiddlenameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierIdentitySubstringOfArticleMiddlenameScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -643,9 +647,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where levenshteinDistance between identity.firstName + identity.middleName and article.firstName is <=2.
 				//Example: Manney (identity.firstName) + Carrington (identity.middleName) = MannyCarrington (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-fuzzy");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullFuzzyScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullFuzzyScore());
 				authorNameEvidence.setNameMatchMiddleType("full-fuzzy");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullFuzzyScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullFuzzyScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					articleAuthorName.getFirstName() != null  
@@ -656,9 +660,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstName >= 4 characters and levenshteinDistance between identity.firstName and article.firstName is <=1.
 				//Example: Nassar (identity.firstName) = Nasser (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-fuzzy");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullFuzzyScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullFuzzyScore());
 				authorNameEvidence.setNameMatchMiddleType("noMatch");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeNoMatchScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeNoMatchScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					articleAuthorName.getFirstName() != null  
@@ -671,9 +675,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where first three characters of identity.firstName = first three characters of identity.firstName.
 				//Example: Massimiliano (identity.firstName) = Massimo (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-fuzzy");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullFuzzyScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullFuzzyScore());
 				authorNameEvidence.setNameMatchMiddleType("noMatch");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeNoMatchScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeNoMatchScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -684,11 +688,11 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.firstInitial + "%" + identity.middleName = article.firstName
 				//Example: M (identity.firstInitial) + Carrington (identity.middleName) = MannyCarrington (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchMiddleType("full-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullExactScore());
 				authorNameEvidence.setNameMatchModifier("identitySubstringOfArticle-firstMiddleName");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstMiddlenameScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierIdentitySubstringOfArticleFirstMiddlenameScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					identityAuthor.getMiddleName() != null 
@@ -699,11 +703,11 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where identity.middleName + identity.firstInitial = article.firstName
 				//Example: Carrington (identity.middleName) + M (identity.firstInitial) = CarringtonM (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("inferredInitials-exact");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchMiddleType("full-exact");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullExactScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullExactScore());
 				authorNameEvidence.setNameMatchModifier("incorrectOrder");
-				authorNameEvidence.setNameMatchModifierScore(ReCiterArticleScorer.strategyParameters.getNameMatchModifierIncorrectOrderScore());
+				authorNameEvidence.setNameMatchModifierScore(strategyParameters.getNameMatchModifierIncorrectOrderScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					articleAuthorName.getFirstName() != null  
@@ -714,9 +718,9 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where article.firstName is only one character and identity.firstName = first character of article.firstName.
 				//Example: Jessica (identity.firstName) = J (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("inferredInitials-exact");  
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeInferredInitialsExactScore());
 				authorNameEvidence.setNameMatchMiddleType("noMatch");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeNoMatchScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeNoMatchScore());
 			} else if(identityAuthor.getFirstName() != null 
 					&& 
 					articleAuthorName.getFirstName() != null
@@ -729,16 +733,16 @@ public class ScoreByNameStrategy extends AbstractTargetAuthorStrategy {
 				//Attempt match where first character of identity.firstName = first character of identity.firstName.
 				//Example: Jessica (identity.firstName) = Jochen (article.firstName)
 				authorNameEvidence.setNameMatchFirstType("full-conflictingAllButInitials");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullConflictingAllButInitialsScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullConflictingAllButInitialsScore());
 				authorNameEvidence.setNameMatchMiddleType("noMatch");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeNoMatchScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeNoMatchScore());
 			} else {
 				//Else, we have no match of any kind.
 				//Example: Pascale vs. Curtis
 				authorNameEvidence.setNameMatchFirstType("full-conflictingEntirely");
-				authorNameEvidence.setNameMatchFirstScore(ReCiterArticleScorer.strategyParameters.getNameMatchFirstTypeFullConflictingEntirelyScore());
+				authorNameEvidence.setNameMatchFirstScore(strategyParameters.getNameMatchFirstTypeFullConflictingEntirelyScore());
 				authorNameEvidence.setNameMatchMiddleType("full-conflictingEntirely");
-				authorNameEvidence.setNameMatchMiddleScore(ReCiterArticleScorer.strategyParameters.getNameMatchMiddleTypeFullConflictingEntirelyScore());
+				authorNameEvidence.setNameMatchMiddleScore(strategyParameters.getNameMatchMiddleTypeFullConflictingEntirelyScore());
 			}
 			authorNameEvidence.setInstitutionalAuthorName(identityAuthorNameOriginal);
 			authorNameEvidence.setArticleAuthorName(articleAuthorNameOriginal);
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *******************************************************************************/
+package reciter.configuration;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.UnsupportedSchemeException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import reciter.ApplicationContextHolder;
+
+/**
+ * Shared HTTP client for the PubMed (<code>PUBMED_SERVICE</code>) and Scopus (<code>SCOPUS_SERVICE</code>) retrieval
+ * services.
+ *
+ * <p>Connections are pooled and kept alive between requests, so the dozens of count and fetch queries issued while
+ * retrieving one identity reuse the same connections instead of paying for a new TCP and TLS handshake each time.
+ * Responses are requested and decoded with gzip. Each retrieval service host gets its own connection limit.
+ */
+@Slf4j
+@Configuration
+public class RetrievalHttpClientConfig {
+
+    public static final String RETRIEVAL_REST_TEMPLATE = "retrievalRestTemplate";
+
+    /**
+     * Pooled connections idle for longer than this are checked before being reused.
+     */
+    private static final int VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+
+    @Value("${reciter.retrieval.http.maxTotalConnections:100}")
+    private int maxTotalConnections;
+
+    @Value("${reciter.retrieval.http.maxConnectionsPerHost:20}")
+    private int maxConnectionsPerHost;
+
+    @Value("${reciter.retrieval.http.pubmed.maxConnections:${reciter.retrieval.http.maxConnectionsPerHost:20}}")
+    private int pubmedMaxConnections;
+
+    @Value("${reciter.retrieval.http.scopus.maxConnections:${reciter.retrieval.http.maxConnectionsPerHost:20}}")
+    private int scopusMaxConnections;
+
+    @Value("${reciter.retrieval.http.connectTimeoutMillis:10000}")
+    private int connectTimeoutMillis;
+
+    @Value("${reciter.retrieval.http.connectionRequestTimeoutMillis:60000}")
+    private int connectionRequestTimeoutMillis;
+
+    @Value("${reciter.retrieval.http.socketTimeoutMillis:600000}")
+    private int socketTimeoutMillis;
+
+    @Value("${reciter.retrieval.http.keepAliveMillis:30000}")
+    private long keepAliveMillis;
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient retrievalHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotalConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerHost);
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLIS);
+        setMaxConnections(connectionManager, System.getenv("PUBMED_SERVICE"), pubmedMaxConnections);
+        setMaxConnections(connectionManager, System.getenv("SCOPUS_SERVICE"), scopusMaxConnections);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutMillis)
+                .setConnectionRequestTimeout(connectionRequestTimeoutMillis)
+                .setSocketTimeout(socketTimeoutMillis)
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                // Use the server's Keep-Alive timeout when it sends one, otherwise keep idle connections for keepAliveMillis.
+                .setKeepAliveStrategy((response, context) -> {
+                    long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return serverKeepAlive > 0 ? serverKeepAlive : keepAliveMillis;
+                })
+                .evictIdleConnections(keepAliveMillis, TimeUnit.MILLISECONDS)
+                .evictExpiredConnections()
+                .build();
+    }
+
+    @Bean(name = RETRIEVAL_REST_TEMPLATE)
+    public RestTemplate retrievalRestTemplate(CloseableHttpClient retrievalHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(retrievalHttpClient));
+    }
+
+    /**
+     * @return the shared retrieval {@link RestTemplate}, or a standalone one when running outside the application context
+     */
+    public static RestTemplate getRetrievalRestTemplate() {
+        if (ApplicationContextHolder.getContext() == null) {
+            return new RestTemplate();
+        }
+        return ApplicationContextHolder.getContext().getBean(RETRIEVAL_REST_TEMPLATE, RestTemplate.class);
+    }
+
+    /**
+     * Sets the connection limit of the route the client plans for the service url: its host with the default port of
+     * the scheme when the url has none, secure for https.
+     */
+    static void setMaxConnections(PoolingHttpClientConnectionManager connectionManager, String serviceUrl, int maxConnections) {
+        if (serviceUrl == null || serviceUrl.isEmpty()) {
+            return;
+        }
+        try {
+            URI uri = URI.create(serviceUrl);
+            if (uri.getHost() != null) {
+                HttpHost host = new HttpHost(uri.getHost(), uri.getPort(), uri.getScheme());
+                HttpHost target = new HttpHost(host.getHostName(), DefaultSchemePortResolver.INSTANCE.resolve(host), host.getSchemeName());
+                connectionManager.setMaxPerRoute(new HttpRoute(target, null, "https".equalsIgnoreCase(target.getSchemeName())), maxConnections);
+            }
+        } catch (IllegalArgumentException | UnsupportedSchemeException e) {
+            log.warn("Unable to parse retrieval service url=[" + serviceUrl + "], using the default per host connection limit", e);
+        }
+    }
+}
@@ -19,8 +19,10 @@
 package reciter.controller;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -38,6 +40,8 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.extern.slf4j.Slf4j;
 import reciter.model.identity.Identity;
+import reciter.service.IdentityFilter;
+import reciter.service.IdentityPage;
 import reciter.service.IdentityService;
 @Slf4j
 @Controller
@@ -47,6 +51,9 @@ public class IdentityController {
     @Autowired
     private IdentityService identityService;
 
+    @Value("${reciter.api.page.maxSize:1000}")
+    private int maxPageSize;
+
     @ApiOperation(value = "Add an identity to Identity table in DynamoDb", notes = "This api creates an identity in the Identity table in dynamoDb by collecting identity data from different system of records.")
     @ApiImplicitParams({
     	@ApiImplicitParam(name = "api-key", value = "api-key for this resource", paramType = "header", dataTypeClass = String.class)
@@ -146,7 +153,9 @@ public class IdentityController {
         return new ResponseEntity<>(identities, HttpStatus.OK);
     }
     
-    @ApiOperation(value = "Get all identity from Identity table", response = Identity.class, notes = "This api scans identity table and returns all identitites.")
+    @ApiOperation(value = "Get all identity from Identity table", response = Identity.class, notes = "This api scans identity table and returns all identitites. "
+    		+ "With pageSize or cursor, one page is returned and the cursor of the next page is in the X-Next-Cursor response header, absent after the last page. "
+    		+ "personType, organizationalAffiliation and departmentalAffiliation filter the identities, a page may then hold less than pageSize identities and an empty list is returned when no identity matches.")
     @ApiImplicitParams({
     	@ApiImplicitParam(name = "api-key", value = "api-key for this resource", paramType = "header", dataTypeClass = String.class)
     })
@@ -158,9 +167,30 @@ public class IdentityController {
     })
     @RequestMapping(value = "/reciter/find/all/identity", method = RequestMethod.GET, produces = "application/json")
     @ResponseBody
-    public ResponseEntity findAll() {
+    public ResponseEntity findAll(@RequestParam(required = false) Integer pageSize, @RequestParam(required = false) String cursor,
+    		@RequestParam(required = false) List<String> personType, @RequestParam(required = false) List<String> organizationalAffiliation, @RequestParam(required = false) List<String> departmentalAffiliation) {
         StopWatch stopWatch = new StopWatch("Identity All api performance");
         stopWatch.start("findAllIdentities");
+        IdentityFilter identityFilter = new IdentityFilter(personType, organizationalAffiliation, departmentalAffiliation);
+        if (pageSize != null || cursor != null) {
+            int size = (pageSize == null) ? maxPageSize : pageSize;
+            if (size < 1 || size > maxPageSize) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("The pageSize should be between 1 and " + maxPageSize);
+            }
+            IdentityPage identityPage;
+            try {
+                identityPage = identityService.findPage(size, cursor, identityFilter);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+            }
+            stopWatch.stop();
+            log.info(stopWatch.getId() + " took " + stopWatch.getTotalTimeSeconds() + "s");
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (identityPage.getNextCursor() != null) {
+                response.header(IdentityPage.NEXT_CURSOR_HEADER, identityPage.getNextCursor());
+            }
+            return response.body(identityPage.getIdentities());
+        }
         List<Identity> identities;
         try {
             identities = identityService.findAll();
@@ -170,6 +200,9 @@ public class IdentityController {
         if (identities.size() == 0) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Identity table is empty");
         }
+        if (personType != null || organizationalAffiliation != null || departmentalAffiliation != null) {
+            identities = identities.stream().filter(identityFilter).collect(Collectors.toList());
+        }
         stopWatch.stop();
         log.info(stopWatch.getId() + " took " + stopWatch.getTotalTimeSeconds() + "s");
         return new ResponseEntity<>(identities, HttpStatus.OK);
@@ -19,28 +19,31 @@
 package reciter.controller;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.Arrays;
 
-import org.apache.commons.lang3.StringUtils;
+import javax.annotation.PostConstruct;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.StopWatch;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -48,6 +51,16 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.bohnman.squiggly.Squiggly;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
@@ -57,38 +70,36 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.extern.slf4j.Slf4j;
 import reciter.algorithm.evidence.targetauthor.TargetAuthorSelection;
-import reciter.algorithm.util.ArticleTranslator;
 import reciter.api.parameters.FilterFeedbackType;
 import reciter.api.parameters.GoldStandardUpdateFlag;
 import reciter.api.parameters.RetrievalRefreshFlag;
 import reciter.api.parameters.UseGoldStandard;
 import reciter.database.dynamodb.model.AnalysisOutput;
-import reciter.database.dynamodb.model.ESearchPmid;
 import reciter.database.dynamodb.model.ESearchResult;
 import reciter.database.dynamodb.model.GoldStandard;
+import reciter.engine.BatchEngineOutput;
 import reciter.engine.Engine;
+import reciter.engine.EngineContext;
 import reciter.engine.EngineOutput;
 import reciter.engine.EngineParameters;
+import reciter.engine.EngineParametersLoader;
+import reciter.engine.FeedbackFilterView;
+import reciter.engine.ReCiterBatchEngine;
 import reciter.engine.ReCiterEngine;
 import reciter.engine.StrategyParameters;
 import reciter.engine.analysis.ReCiterArticleFeature;
 import reciter.engine.analysis.ReCiterArticleFeature.PublicationFeedback;
 import reciter.engine.analysis.ReCiterFeature;
 import reciter.engine.erroranalysis.Analysis;
-import reciter.model.article.ReCiterArticle;
 import reciter.model.identity.Identity;
-import reciter.model.identity.OrganizationalUnit;
-import reciter.model.pubmed.PubMedArticle;
-import reciter.model.scopus.ScopusArticle;
+import reciter.service.AnalysisOutputVersion;
 import reciter.service.AnalysisService;
 import reciter.service.ESearchResultService;
+import reciter.service.IdentityFilter;
+import reciter.service.IdentityPage;
 import reciter.service.IdentityService;
-import reciter.service.PubMedService;
-import reciter.service.ScopusService;
 import reciter.service.dynamo.IDynamoDbGoldStandardService;
-import reciter.utils.AuthorNameSanitizationUtils;
-import reciter.utils.GenderProbability;
-import reciter.utils.InstitutionSanitizationUtil;
+import reciter.utils.PmidList;
 import reciter.xml.retriever.engine.ReCiterRetrievalEngine;
 
 @Api(value = "ReCiterController", description = "Operations on ReCiter API.")
@@ -96,11 +107,10 @@ import reciter.xml.retriever.engine.ReCiterRetrievalEngine;
 @Controller
 public class ReCiterController {
 
-    @Autowired
-    private ESearchResultService eSearchResultService;
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
 
     @Autowired
-    private PubMedService pubMedService;
+    private ESearchResultService eSearchResultService;
 
     @Autowired
     private ReCiterRetrievalEngine aliasReCiterRetrievalEngine;
@@ -108,9 +118,6 @@ public class ReCiterController {
     @Autowired
     private IdentityService identityService;
 
-    @Autowired
-    private ScopusService scopusService;
-
     @Autowired
     private StrategyParameters strategyParameters;
 
@@ -120,21 +127,64 @@ public class ReCiterController {
     @Autowired
     private IDynamoDbGoldStandardService dynamoDbGoldStandardService;
 
-    @Value("${use.scopus.articles}")
-    private boolean useScopusArticles;
-    
+    @Autowired
+    private EngineParametersLoader engineParametersLoader;
+
+    @Autowired
+    private ReCiterBatchEngine reCiterBatchEngine;
+
     @Value("${totalArticleScore-standardized-default}")
     private double totalArticleScoreStandardizedDefault;
     
-    @Value("${namesIgnoredCoauthors}")
-    private String nameIgnoredCoAuthors;
-    
     @Value("${reciter.feature.generator.keywordCountMax}")
     private double keywordsMax;
 
     @Value("${reciter.feature.generator.group.uids.maxCount}")
     private int uidsMaxCount;
 
+    @Value("${reciter.api.page.maxSize:1000}")
+    private int maxPageSize;
+
+    @Value("${reciter.feature.generator.group.stream.batchSize:25}")
+    private int groupStreamBatchSize;
+
+    @Autowired
+    private Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder;
+
+    /**
+     * Writes one json document per line. Streamed responses are written outside of the request thread, so they use
+     * their own mapper instead of the Squiggly one of the message converter.
+     */
+    private ObjectWriter ndjsonWriter;
+
+    @PostConstruct
+    private void initNdjsonWriter() {
+        groupStreamBatchSize = Math.max(1, groupStreamBatchSize);
+        ndjsonWriter = ndjsonWriter(jackson2ObjectMapperBuilder.build());
+    }
+
+    private static ObjectWriter ndjsonWriter(ObjectMapper objectMapper) {
+        return objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * Writes the last line of a newline delimited json response, telling the client whether every document was written.
+     * A response ending without it was cut off.
+     */
+    private void writeStreamStatus(OutputStream outputStream, int count, Exception error) throws IOException {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("status", (error == null) ? "complete" : "error");
+        status.put("count", count);
+        if (error != null) {
+            status.put("error", "Unable to load the remaining persons of the group: " + error);
+        }
+        ndjsonWriter.writeValue(outputStream, status);
+        outputStream.write('\n');
+        outputStream.flush();
+    }
+
     @ApiOperation(value = "Update the goldstandard by passing GoldStandard model(uid, knownPmids, rejectedPmids)", notes = "This api updates the goldstandard by passing GoldStandard model(uid, knownPmids, rejectedPmids).")
     @ApiImplicitParams({
     	@ApiImplicitParam(name = "api-key", value = "api-key for this resource", paramType = "header", dataTypeClass = String.class)
@@ -337,7 +387,8 @@ public class ReCiterController {
         return ResponseEntity.ok().body("Successfully retrieved all candidate articles for " + uid + " and refreshed all search results");
     }
     
-    @ApiOperation(value = "Retrieve pending articles for a group of users.", response = ResponseEntity.class, notes = "Retrieve pending articles for a group of users.")
+    @ApiOperation(value = "Retrieve pending articles for a group of users.", response = ResponseEntity.class, notes = "Retrieve pending articles for a group of users. "
+    		+ "With pageSize or cursor, one page of the group is returned and the cursor of the next page is in the X-Next-Cursor response header, absent after the last page.")
     @ApiImplicitParams({
     	@ApiImplicitParam(name = "api-key", value = "api-key for this resource", paramType = "header", dataTypeClass = String.class)
     })
@@ -350,7 +401,8 @@ public class ReCiterController {
     @RequestMapping(value = "/reciter/feature-generator/by/group", method = RequestMethod.POST, produces = "application/json")
     @ResponseBody
     public ResponseEntity retrieveBulkFeatureGenerator(@RequestBody(required = false) List<String> uids, @RequestParam(required =false) List<String> personType, @RequestParam(required = false) List<String> organizationalAffiliation, @RequestParam(required = false) List<String> departmentalAffiliation,
-    		@RequestParam(required = true) Double totalStandardizedArticleScore, @RequestParam(required = true) int maxArticlesPerPerson) {
+    		@RequestParam(required = true) Double totalStandardizedArticleScore, @RequestParam(required = true) int maxArticlesPerPerson,
+    		@RequestParam(required = false) Integer pageSize, @RequestParam(required = false) String cursor) {
         
         if(uids == null && personType == null && organizationalAffiliation == null && departmentalAffiliation == null) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Please supply either the list of uids or any one of personType, organizationalAffiliation, departmentalAffiliation");
@@ -361,6 +413,13 @@ public class ReCiterController {
         if(uids != null && uids.size() > uidsMaxCount) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("The maximum number of uids allowed is " + uidsMaxCount);
         }
+        if(pageSize != null || cursor != null) {
+            ResponseEntity response = retrieveBulkFeatureGeneratorPage(uids, new IdentityFilter(personType, organizationalAffiliation, departmentalAffiliation),
+                    (totalStandardizedArticleScore == null) ? totalArticleScoreStandardizedDefault : totalStandardizedArticleScore, maxArticlesPerPerson, pageSize, cursor);
+            stopWatch.stop();
+            log.info(stopWatch.getId() + " took " + stopWatch.getTotalTimeSeconds() + "s");
+            return response;
+        }
         if(uids == null || uids.isEmpty()) {
             
             try {
@@ -385,30 +444,7 @@ public class ReCiterController {
         if((identities != null && !identities.isEmpty()) || (uids != null && !uids.isEmpty())) {
             List<String> identitySubset = null;
             if(identities != null && !identities.isEmpty()) {
-                identitySubset = identities.parallelStream().filter(identity -> 
-                        ((personType == null)?
-                        true:
-                        (identity.getPersonTypes() != null
-                        &&
-                        !identity.getPersonTypes().isEmpty() && !Collections.disjoint(identity.getPersonTypes(), personType)))
-                        &&
-                        ((organizationalAffiliation == null)?
-                        true:
-                        (identity.getInstitutions() != null
-                        &&
-                        !identity.getInstitutions().isEmpty()
-                        &&
-                        !Collections.disjoint(identity.getInstitutions(), organizationalAffiliation)))
-                        &&
-                        ((departmentalAffiliation == null)?
-                        true:		
-                        (identity.getOrganizationalUnits() != null
-                        &&
-                        !identity.getOrganizationalUnits().isEmpty()
-                        &&
-                        !Collections.disjoint(identity.getOrganizationalUnits().stream()
-                                .map(OrganizationalUnit::getOrganizationalUnitLabel)
-                                .collect(Collectors.toList()), departmentalAffiliation))))
+                identitySubset = filterIdentities(identities, personType, organizationalAffiliation, departmentalAffiliation).stream()
                         .map(Identity::getUid)
                         .collect(Collectors.toList());
             }
@@ -419,22 +455,7 @@ public class ReCiterController {
                 analysis = analysisService.findByUids(identitySubset);
             }
         	if (analysis != null && !analysis.isEmpty()) {
-        		analysis.stream().forEach(anl -> {
-        			if(anl.getReCiterFeature() != null
-        			&& 
-        			anl.getReCiterFeature().getReCiterArticleFeatures() != null
-        			&& 
-        			!anl.getReCiterFeature().getReCiterArticleFeatures().isEmpty()) {
-        				anl.getReCiterFeature().setReCiterArticleFeatures(anl.getReCiterFeature().getReCiterArticleFeatures()
-        						.stream()
-        						.filter(article ->
-			    					article.getUserAssertion() == PublicationFeedback.NULL
-			    					&&
-			    					article.getTotalArticleScoreStandardized() >= totalScore)   
-        						.limit(maxArticlesPerPerson) 
-        						.collect(Collectors.toList()));
-        			}
-        		});
+        		analysis.stream().forEach(anl -> keepPendingArticles(anl, totalScore, maxArticlesPerPerson));
             	List<ReCiterFeature> analysisSubset= analysis.parallelStream()
             			.filter(anl -> anl.getReCiterFeature().getReCiterArticleFeatures() != null && !anl.getReCiterFeature().getReCiterArticleFeatures().isEmpty())
             			.map(AnalysisOutput::getReCiterFeature)
@@ -449,6 +470,170 @@ public class ReCiterController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body("There is no publications data for the group. Please wait while feature-generator re-runs tonight.");
     }
 
+    @ApiOperation(value = "Retrieve pending articles for a group of users as newline delimited json.", response = ResponseEntity.class, notes = "Same as the json response, requested with stream=true. "
+    		+ "Each line is the ReCiterFeature of one person having pending articles, written as soon as it is loaded, so the whole group is never held in memory. "
+    		+ "The last line is a status object instead: {\"status\":\"complete\",\"count\":<persons written>} once every person was written, or "
+    		+ "{\"status\":\"error\",\"count\":<persons written>,\"error\":<message>} when the remaining persons could not be loaded. "
+    		+ "A response without a status line was cut off. fields filters the ReCiterFeature lines the same way as the json response and leaves the status line as is. "
+    		+ "A group without publications data returns only the status line instead of 404.")
+    @ApiImplicitParams({
+    	@ApiImplicitParam(name = "api-key", value = "api-key for this resource", paramType = "header", dataTypeClass = String.class),
+    	@ApiImplicitParam(name = "fields", value = "Fields to return (e.g., reCiterArticleFeatures.pmid,reCiterArticleFeatures.publicationType.publicationTypeCanonical). Default is all.", paramType = "query", dataTypeClass = String.class)
+    })
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully retrieved list"),
+            @ApiResponse(code = 401, message = "You are not authorized to view the resource"),
+            @ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(code = 404, message = "The resource you were trying to reach is not found")
+    })
+    @RequestMapping(value = "/reciter/feature-generator/by/group", method = RequestMethod.POST, params = "stream=true", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity retrieveBulkFeatureGeneratorStream(@RequestBody(required = false) List<String> uids, @RequestParam(required =false) List<String> personType, @RequestParam(required = false) List<String> organizationalAffiliation, @RequestParam(required = false) List<String> departmentalAffiliation,
+    		@RequestParam(required = true) Double totalStandardizedArticleScore, @RequestParam(required = true) int maxArticlesPerPerson, @RequestParam(required = false) String fields) {
+
+        if(uids == null && personType == null && organizationalAffiliation == null && departmentalAffiliation == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Please supply either the list of uids or any one of personType, organizationalAffiliation, departmentalAffiliation");
+        }
+        if(uids != null && uids.size() > uidsMaxCount) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("The maximum number of uids allowed is " + uidsMaxCount);
+        }
+        final List<String> groupUids;
+        if(uids == null || uids.isEmpty()) {
+            List<Identity> identities = null;
+            try {
+                identities = identityService.findAll();
+            } catch (Exception ne) {
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Issue with the request" + ne);
+            }
+            if(identities == null || identities.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("The Identity table is empty.");
+            }
+            groupUids = filterIdentities(identities, personType, organizationalAffiliation, departmentalAffiliation).stream()
+                    .map(Identity::getUid)
+                    .collect(Collectors.toList());
+        } else {
+            groupUids = uids;
+        }
+        final double totalScore = (totalStandardizedArticleScore == null) ? totalArticleScoreStandardizedDefault : totalStandardizedArticleScore;
+        // The request filter of Squiggly is not available where the body is written, so the fields are bound to a mapper of this response.
+        final ObjectWriter featureWriter = (fields == null || fields.trim().isEmpty()) ? ndjsonWriter
+                : ndjsonWriter(Squiggly.init(jackson2ObjectMapperBuilder.build(), fields));
+
+        // Analyses are loaded groupStreamBatchSize uids at a time and each person is written and dropped before the next batch.
+        StreamingResponseBody responseBody = outputStream -> {
+            StopWatch stopWatch = new StopWatch("Stream pending articles for a group of users");
+            stopWatch.start("Stream pending articles for a group of users");
+            int count = 0;
+            try {
+                for (int from = 0; from < groupUids.size(); from += groupStreamBatchSize) {
+                    List<AnalysisOutput> analysis = analysisService.findByUids(groupUids.subList(from, Math.min(from + groupStreamBatchSize, groupUids.size())));
+                    for (AnalysisOutput anl : analysis) {
+                        if (keepPendingArticles(anl, totalScore, maxArticlesPerPerson)) {
+                            // Serialized before writing so a failure never leaves half a line
+                            outputStream.write(featureWriter.writeValueAsBytes(anl.getReCiterFeature()));
+                            outputStream.write('\n');
+                            count++;
+                        }
+                    }
+                    outputStream.flush();
+                }
+            } catch (JsonProcessingException | RuntimeException e) {
+                log.error("Unable to stream pending articles for a group of users after " + count + " persons", e);
+                writeStreamStatus(outputStream, count, e);
+                return;
+            }
+            writeStreamStatus(outputStream, count, null);
+            stopWatch.stop();
+            log.info(stopWatch.getId() + " streamed " + count + " persons and took " + stopWatch.getTotalTimeSeconds() + "s");
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE)).body(responseBody);
+    }
+
+    /**
+     * Returns one page of the group. The cursor is the position in the list of uids when uids are given, otherwise the
+     * cursor of the Identity table page. A page only lists the persons having pending articles, so it may be shorter
+     * than pageSize, or empty while there are more pages.
+     */
+    private ResponseEntity retrieveBulkFeatureGeneratorPage(List<String> uids, IdentityFilter identityFilter, double totalScore, int maxArticlesPerPerson, Integer pageSize, String cursor) {
+        int size = (pageSize == null) ? maxPageSize : pageSize;
+        if(size < 1 || size > maxPageSize) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("The pageSize should be between 1 and " + maxPageSize);
+        }
+        List<String> pageUids;
+        String nextCursor;
+        if(uids != null && !uids.isEmpty()) {
+            int from;
+            try {
+                from = (cursor == null) ? 0 : Integer.parseInt(cursor);
+            } catch (NumberFormatException e) {
+                from = -1;
+            }
+            if(from < 0 || from > uids.size()) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid cursor " + cursor);
+            }
+            int to = Math.min(from + size, uids.size());
+            pageUids = uids.subList(from, to);
+            nextCursor = (to < uids.size()) ? String.valueOf(to) : null;
+        } else {
+            IdentityPage identityPage;
+            try {
+                identityPage = identityService.findPage(size, cursor, identityFilter);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+            }
+            pageUids = identityPage.getIdentities().stream().map(Identity::getUid).collect(Collectors.toList());
+            nextCursor = identityPage.getNextCursor();
+        }
+        List<ReCiterFeature> analysisSubset = new ArrayList<>();
+        if(!pageUids.isEmpty()) {
+            for(AnalysisOutput anl : analysisService.findByUids(pageUids)) {
+                if(keepPendingArticles(anl, totalScore, maxArticlesPerPerson)) {
+                    analysisSubset.add(anl.getReCiterFeature());
+                }
+            }
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if(nextCursor != null) {
+            response.header(IdentityPage.NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(analysisSubset);
+    }
+
+    /**
+     * Keeps only the pending articles of the analysis scored at least totalScore, at most maxArticlesPerPerson of them.
+     * @return true if the analysis has any such article
+     */
+    private static boolean keepPendingArticles(AnalysisOutput anl, double totalScore, int maxArticlesPerPerson) {
+        if(anl.getReCiterFeature() == null
+        || 
+        anl.getReCiterFeature().getReCiterArticleFeatures() == null
+        || 
+        anl.getReCiterFeature().getReCiterArticleFeatures().isEmpty()) {
+            return false;
+        }
+        anl.getReCiterFeature().setReCiterArticleFeatures(anl.getReCiterFeature().getReCiterArticleFeatures()
+                .stream()
+                .filter(article ->
+                    article.getUserAssertion() == PublicationFeedback.NULL
+                    &&
+                    article.getTotalArticleScoreStandardized() >= totalScore)   
+                .limit(maxArticlesPerPerson) 
+                .collect(Collectors.toList()));
+        return !anl.getReCiterFeature().getReCiterArticleFeatures().isEmpty();
+    }
+
+    /**
+     * Weak entity tag of a response built from the stored analysis of a person. It covers the version of the analysis,
+     * the requested Squiggly fields and the other values shaping the response, so it changes whenever the response does.
+     */
+    private static String analysisEntityTag(AnalysisOutputVersion analysisVersion, WebRequest webRequest, Object... responseParameters) {
+        StringBuilder tagContent = new StringBuilder(analysisVersion.getContentHash())
+                .append('|').append(webRequest.getParameter("fields"));
+        for(Object responseParameter: responseParameters) {
+            tagContent.append('|').append(responseParameter);
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(tagContent.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
     @ApiOperation(value = "Feature generation for UID.", response = ReCiterFeature.class, notes = "This api generates all the suggestion for a given uid along with its relevant evidence.")
     @ApiImplicitParams({
     	@ApiImplicitParam(name = "api-key", value = "api-key for this resource", paramType = "header", dataTypeClass = String.class),
@@ -456,6 +641,7 @@ public class ReCiterController {
     })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully retrieved list", response = ReCiterFeature.class),
+            @ApiResponse(code = 304, message = "The analysis did not change since the entity tag sent in If-None-Match"),
             @ApiResponse(code = 401, message = "You are not authorized to view the resource"),
             @ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
@@ -463,7 +649,7 @@ public class ReCiterController {
     })
     @RequestMapping(value = "/reciter/feature-generator/by/uid", method = RequestMethod.GET, produces = "application/json")
     @ResponseBody
-    public ResponseEntity runFeatureGenerator(@RequestParam(value = "uid") String uid, Double totalStandardizedArticleScore, UseGoldStandard useGoldStandard, FilterFeedbackType filterByFeedback, boolean analysisRefreshFlag, RetrievalRefreshFlag retrievalRefreshFlag) {
+    public ResponseEntity runFeatureGenerator(@RequestParam(value = "uid") String uid, Double totalStandardizedArticleScore, UseGoldStandard useGoldStandard, FilterFeedbackType filterByFeedback, boolean analysisRefreshFlag, RetrievalRefreshFlag retrievalRefreshFlag, WebRequest webRequest) {
     	StopWatch stopWatch = new StopWatch("Feature generation for UID");
         stopWatch.start("Feature generation for UID");
         
@@ -485,140 +671,52 @@ public class ReCiterController {
             log.info(stopWatch.getId() + " took " + stopWatch.getTotalTimeSeconds() + "s");
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("The uid provided '" + uid + "' was not found in the Identity table");
         }
+        GoldStandard goldStandard = null;
+        boolean useStoredAnalysis = !analysisRefreshFlag && (useGoldStandard == UseGoldStandard.AS_EVIDENCE || useGoldStandard == null);
+        if(useStoredAnalysis) {
+            AnalysisOutputVersion analysisVersion = analysisService.findVersionByUid(uid.trim());
+            if(analysisVersion != null) {
+                goldStandard = dynamoDbGoldStandardService.findByUid(uid);
+                // The known pmids are part of the tag since the precision and recall of the response depend on them.
+                String entityTag = analysisEntityTag(analysisVersion, webRequest, totalScore, filterByFeedback, goldStandard == null ? null : goldStandard.getKnownPmids());
+                if(webRequest.checkNotModified(entityTag)) {
+                    stopWatch.stop();
+                    log.info(stopWatch.getId() + " took " + stopWatch.getTotalTimeSeconds() + "s, analysis not modified");
+                    return null;
+                }
+            }
+        }
         AnalysisOutput analysis = analysisService.findByUid(uid.trim());
-        if (!analysisRefreshFlag 
-        		&& 
-        		analysis != null 
+        if (useStoredAnalysis 
         		&& 
-        		(useGoldStandard == UseGoldStandard.AS_EVIDENCE || useGoldStandard == null)) {//This was added to ensure to use analysis results only in evidence mode
-        	List<Long> finalArticles =null;
-			if(analysis.getReCiterFeature()!=null && analysis.getReCiterFeature().getReCiterArticleFeatures()!=null)
-			{
-				finalArticles = analysis.getReCiterFeature().getReCiterArticleFeatures().stream().map(article -> article.getPmid()).collect(Collectors.toList());
+        		analysis != null) {//This was added to ensure to use analysis results only in evidence mode
+        	if(goldStandard == null) {
+        		goldStandard = dynamoDbGoldStandardService.findByUid(uid);
         	}
-			else
-			{
-				finalArticles = new ArrayList<Long>(Arrays.asList(0L));;
-			}	
-			GoldStandard goldStandard = dynamoDbGoldStandardService.findByUid(uid);
         	List<Long> knownPmids = null;
             if (goldStandard == null) {
             	knownPmids = new ArrayList<>();
             } else {
                 knownPmids = goldStandard.getKnownPmids();
             }
-            //Count pending pubs
-			if(analysis.getReCiterFeature()!=null && analysis.getReCiterFeature().getReCiterArticleFeatures()!=null)
-			{
-				analysis.getReCiterFeature().setCountPendingArticles(analysis.getReCiterFeature().getReCiterArticleFeatures().stream()
-								.filter(reCiterArticleFeature -> (reCiterArticleFeature.getTotalArticleScoreStandardized() >= totalScore
-								&&
-								reCiterArticleFeature.getUserAssertion() == PublicationFeedback.NULL))
-								.count());
-			}
-			else if(analysis.getReCiterFeature()!=null)
-			{
-				analysis.getReCiterFeature().setCountPendingArticles(0);
-			}
         	//All the results are filtered based on filterByFeedback
         	if(analysis.getReCiterFeature()!=null && analysis.getReCiterFeature().getReCiterArticleFeatures()!=null)
 			{
-			
-				if(filterByFeedback == FilterFeedbackType.ALL || filterByFeedback == null) {
-					analysis.getReCiterFeature().setReCiterArticleFeatures(analysis.getReCiterFeature().getReCiterArticleFeatures().stream()
-								.filter(reCiterArticleFeature -> (reCiterArticleFeature.getTotalArticleScoreStandardized() >= totalScore
-								&&
-								reCiterArticleFeature.getUserAssertion() == PublicationFeedback.NULL)
-								||
-								reCiterArticleFeature.getUserAssertion() == PublicationFeedback.ACCEPTED
-								||
-								reCiterArticleFeature.getUserAssertion() == PublicationFeedback.REJECTED
-								)
-								.collect(Collectors.toList()));
-					List<Long> selectedArticles = analysis.getReCiterFeature().getReCiterArticleFeatures().stream().map(article -> article.getPmid()).collect(Collectors.toList());
-					Analysis featureAnalysis = Analysis.performAnalysis(finalArticles, selectedArticles, knownPmids);
-					analysis.getReCiterFeature().setCountSuggestedArticles(analysis.getReCiterFeature().getReCiterArticleFeatures().size());
-					analysis.getReCiterFeature().setPrecision(featureAnalysis.getPrecision());
-					analysis.getReCiterFeature().setRecall(featureAnalysis.getRecall());
-					analysis.getReCiterFeature().setOverallAccuracy(featureAnalysis.getAccuracy());
-				} else if(filterByFeedback == FilterFeedbackType.ACCEPTED_ONLY) {
-					analysis.getReCiterFeature().setReCiterArticleFeatures(analysis.getReCiterFeature().getReCiterArticleFeatures().stream()
-							.filter(reCiterArticleFeature -> reCiterArticleFeature.getUserAssertion() == PublicationFeedback.ACCEPTED)
-							.collect(Collectors.toList()));
-					List<Long> selectedArticles = analysis.getReCiterFeature().getReCiterArticleFeatures().stream().map(article -> article.getPmid()).collect(Collectors.toList());
-					Analysis featureAnalysis = Analysis.performAnalysis(finalArticles, selectedArticles, knownPmids);
-					analysis.getReCiterFeature().setCountSuggestedArticles(analysis.getReCiterFeature().getReCiterArticleFeatures().size());
-					analysis.getReCiterFeature().setPrecision(featureAnalysis.getPrecision());
-					analysis.getReCiterFeature().setRecall(featureAnalysis.getRecall());
-					analysis.getReCiterFeature().setOverallAccuracy(featureAnalysis.getAccuracy());
-				} else if(filterByFeedback == FilterFeedbackType.REJECTED_ONLY) {
-					analysis.getReCiterFeature().setReCiterArticleFeatures(analysis.getReCiterFeature().getReCiterArticleFeatures().stream()
-							.filter(reCiterArticleFeature -> reCiterArticleFeature.getUserAssertion() == PublicationFeedback.REJECTED)
-							.collect(Collectors.toList()));
-					List<Long> selectedArticles = analysis.getReCiterFeature().getReCiterArticleFeatures().stream().map(article -> article.getPmid()).collect(Collectors.toList());
-					Analysis featureAnalysis = Analysis.performAnalysis(finalArticles, selectedArticles, knownPmids);
-					analysis.getReCiterFeature().setCountSuggestedArticles(analysis.getReCiterFeature().getReCiterArticleFeatures().size());
-					analysis.getReCiterFeature().setPrecision(featureAnalysis.getPrecision());
-					analysis.getReCiterFeature().setRecall(featureAnalysis.getRecall());
-					analysis.getReCiterFeature().setOverallAccuracy(featureAnalysis.getAccuracy());
-				} else if(filterByFeedback == FilterFeedbackType.ACCEPTED_AND_NULL) {
-					analysis.getReCiterFeature().setReCiterArticleFeatures(analysis.getReCiterFeature().getReCiterArticleFeatures().stream()
-							.filter(reCiterArticleFeature -> (reCiterArticleFeature.getTotalArticleScoreStandardized() >= totalScore 
-							&& 
-							reCiterArticleFeature.getUserAssertion() == PublicationFeedback.NULL)
-							||
-							reCiterArticleFeature.getUserAssertion() == PublicationFeedback.ACCEPTED
-							)
-							.collect(Collectors.toList()));
-					List<Long> selectedArticles = analysis.getReCiterFeature().getReCiterArticleFeatures().stream().map(article -> article.getPmid()).collect(Collectors.toList());
-					Analysis featureAnalysis = Analysis.performAnalysis(finalArticles, selectedArticles, knownPmids);
-					analysis.getReCiterFeature().setCountSuggestedArticles(analysis.getReCiterFeature().getReCiterArticleFeatures().size());
-					analysis.getReCiterFeature().setPrecision(featureAnalysis.getPrecision());
-					analysis.getReCiterFeature().setRecall(featureAnalysis.getRecall());
-					analysis.getReCiterFeature().setOverallAccuracy(featureAnalysis.getAccuracy());
-				} else if(filterByFeedback == FilterFeedbackType.REJECTED_AND_NULL) {
-					analysis.getReCiterFeature().setReCiterArticleFeatures(analysis.getReCiterFeature().getReCiterArticleFeatures().stream()
-							.filter(reCiterArticleFeature -> (reCiterArticleFeature.getTotalArticleScoreStandardized() >= totalScore
-							&&
-							reCiterArticleFeature.getUserAssertion() == PublicationFeedback.NULL)
-							||
-							reCiterArticleFeature.getUserAssertion() == PublicationFeedback.REJECTED
-							)
-							.collect(Collectors.toList()));
-					List<Long> selectedArticles = analysis.getReCiterFeature().getReCiterArticleFeatures().stream().map(article -> article.getPmid()).collect(Collectors.toList());
-					Analysis featureAnalysis = Analysis.performAnalysis(finalArticles, selectedArticles, knownPmids);
-					analysis.getReCiterFeature().setCountSuggestedArticles(analysis.getReCiterFeature().getReCiterArticleFeatures().size());
-					analysis.getReCiterFeature().setPrecision(featureAnalysis.getPrecision());
-					analysis.getReCiterFeature().setRecall(featureAnalysis.getRecall());
-					analysis.getReCiterFeature().setOverallAccuracy(featureAnalysis.getAccuracy());
-				} else if(filterByFeedback == FilterFeedbackType.ACCEPTED_AND_REJECTED) {
-					analysis.getReCiterFeature().setReCiterArticleFeatures(analysis.getReCiterFeature().getReCiterArticleFeatures().stream()
-							.filter(reCiterArticleFeature -> reCiterArticleFeature.getUserAssertion() == PublicationFeedback.ACCEPTED
-							||
-							reCiterArticleFeature.getUserAssertion() == PublicationFeedback.REJECTED)
-							.collect(Collectors.toList()));
-					List<Long> selectedArticles = analysis.getReCiterFeature().getReCiterArticleFeatures().stream().map(article -> article.getPmid()).collect(Collectors.toList());
-					Analysis featureAnalysis = Analysis.performAnalysis(finalArticles, selectedArticles, knownPmids);
-					analysis.getReCiterFeature().setCountSuggestedArticles(analysis.getReCiterFeature().getReCiterArticleFeatures().size());
-					analysis.getReCiterFeature().setPrecision(featureAnalysis.getPrecision());
-					analysis.getReCiterFeature().setRecall(featureAnalysis.getRecall());
-					analysis.getReCiterFeature().setOverallAccuracy(featureAnalysis.getAccuracy());
-				} else if(filterByFeedback == FilterFeedbackType.NULL) {
-					analysis.getReCiterFeature().setReCiterArticleFeatures(analysis.getReCiterFeature().getReCiterArticleFeatures().stream()
-							.filter(reCiterArticleFeature -> reCiterArticleFeature.getTotalArticleScoreStandardized() >= totalScore
-							&&
-							reCiterArticleFeature.getUserAssertion() == PublicationFeedback.NULL)
-							.collect(Collectors.toList()));
-					List<Long> selectedArticles = analysis.getReCiterFeature().getReCiterArticleFeatures().stream().map(article -> article.getPmid()).collect(Collectors.toList());
-					Analysis featureAnalysis = Analysis.performAnalysis(finalArticles, selectedArticles, knownPmids);
-					analysis.getReCiterFeature().setCountSuggestedArticles(analysis.getReCiterFeature().getReCiterArticleFeatures().size());
-					analysis.getReCiterFeature().setPrecision(featureAnalysis.getPrecision());
-					analysis.getReCiterFeature().setRecall(featureAnalysis.getRecall());
-					analysis.getReCiterFeature().setOverallAccuracy(featureAnalysis.getAccuracy());
-				}
+				ReCiterFeature reCiterFeature = analysis.getReCiterFeature();
+				FeedbackFilterView feedbackFilterView = FeedbackFilterView.of(reCiterFeature.getReCiterArticleFeatures());
+				//Count pending pubs
+				reCiterFeature.setCountPendingArticles(feedbackFilterView.countPendingArticles(totalScore));
+				reCiterFeature.setReCiterArticleFeatures(feedbackFilterView.select(filterByFeedback, totalScore));
+				List<Long> selectedArticles = reCiterFeature.getReCiterArticleFeatures().stream().map(article -> article.getPmid()).collect(Collectors.toList());
+				Analysis featureAnalysis = Analysis.performAnalysis(feedbackFilterView.getPmids(), PmidList.of(selectedArticles), knownPmids == null ? null : PmidList.of(knownPmids));
+				reCiterFeature.setCountSuggestedArticles(reCiterFeature.getReCiterArticleFeatures().size());
+				reCiterFeature.setPrecision(featureAnalysis.getPrecision());
+				reCiterFeature.setRecall(featureAnalysis.getRecall());
+				reCiterFeature.setOverallAccuracy(featureAnalysis.getAccuracy());
 			}
 			else if(analysis.getReCiterFeature()!=null)
 			{
+				analysis.getReCiterFeature().setCountPendingArticles(0);
 				analysis.getReCiterFeature().setReCiterArticleFeatures(new ArrayList<reciter.engine.analysis.ReCiterArticleFeature>());
 				analysis.getReCiterFeature().setCountSuggestedArticles(0);
 				analysis.getReCiterFeature().setPrecision(0.0);
@@ -629,15 +727,8 @@ public class ReCiterController {
             log.info(stopWatch.getId() + " took " + stopWatch.getTotalTimeSeconds() + "s");
             return new ResponseEntity<>(analysis.getReCiterFeature(), HttpStatus.OK);
         } else {
-            if (useGoldStandard == null) {
-                strategyParameters.setUseGoldStandardEvidence(true);
-            } else if (useGoldStandard == UseGoldStandard.FOR_TESTING_ONLY) {
-                strategyParameters.setUseGoldStandardEvidence(false);
-            } else if (useGoldStandard == UseGoldStandard.AS_EVIDENCE) {
-                strategyParameters.setUseGoldStandardEvidence(true);
-            }
-
-            parameters = initializeEngineParameters(uid, totalStandardizedArticleScore, retrievalRefreshFlag);
+            boolean useGoldStandardEvidence = useGoldStandard != UseGoldStandard.FOR_TESTING_ONLY;
+            parameters = initializeEngineParameters(uid, totalStandardizedArticleScore, retrievalRefreshFlag, useGoldStandardEvidence);
             if (parameters == null) {
                 stopWatch.stop();
                 log.info(stopWatch.getId() + " took " + stopWatch.getTotalTimeSeconds() + "s");
@@ -656,7 +747,8 @@ public class ReCiterController {
             	filterScore = parameters.getTotalStandardzizedArticleScore();
             }
             Engine engine = new ReCiterEngine();
-            engineOutput = engine.run(parameters, strategyParameters, filterScore, keywordsMax);
+            EngineContext engineContext = EngineContext.of(strategyParameters, useGoldStandard, filterScore, keywordsMax);
+            engineOutput = engine.run(parameters, engineContext);
             originalFeatures.addAll(engineOutput.getReCiterFeature().getReCiterArticleFeatures());
             
             //Store Analysis only in evidence mode
@@ -778,6 +870,65 @@ public class ReCiterController {
         return new ResponseEntity<>(reCiterOutputFeature, HttpStatus.OK);
     }
     
+    @ApiOperation(value = "Feature generation for a group of users.", response = BatchEngineOutput.class, notes = "This api starts a run of the feature generator for the supplied uids, or for every identity matching the personType, organizationalAffiliation and departmentalAffiliation filters, on a bounded pool and stores the results in the Analysis table. It returns right away with the runId of the run; its progress and result are read from /reciter/feature-generator/batch/{runId}.")
+    @ApiImplicitParams({
+    	@ApiImplicitParam(name = "api-key", value = "api-key for this resource", paramType = "header", dataTypeClass = String.class)
+    })
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "The run was started, its status is at the Location header", response = BatchEngineOutput.class),
+            @ApiResponse(code = 401, message = "You are not authorized to view the resource"),
+            @ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(code = 404, message = "The resource you were trying to reach is not found")
+    })
+    @RequestMapping(value = "/reciter/feature-generator/batch", method = RequestMethod.POST, produces = "application/json")
+    @ResponseBody
+    public ResponseEntity runBatchFeatureGenerator(@RequestBody(required = false) List<String> uids, @RequestParam(required = false) List<String> personType, @RequestParam(required = false) List<String> organizationalAffiliation, @RequestParam(required = false) List<String> departmentalAffiliation,
+    		@RequestParam(required = false) Double totalStandardizedArticleScore) {
+        StopWatch stopWatch = new StopWatch("Feature generation for a group of users");
+        stopWatch.start("Feature generation for a group of users");
+        List<Identity> identities;
+        try {
+            if(uids != null && !uids.isEmpty()) {
+                identities = identityService.findByUids(uids);
+            } else {
+                identities = filterIdentities(identityService.findAll(), personType, organizationalAffiliation, departmentalAffiliation);
+            }
+        } catch (Exception ne) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Issue with the request" + ne);
+        }
+        if(identities == null || identities.isEmpty()) {
+            stopWatch.stop();
+            log.info(stopWatch.getId() + " took " + stopWatch.getTotalTimeSeconds() + "s");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("No identities matched the supplied uids or filters.");
+        }
+        BatchEngineOutput batchEngineOutput = reCiterBatchEngine.start(identities, totalStandardizedArticleScore);
+        stopWatch.stop();
+        log.info(stopWatch.getId() + " took " + stopWatch.getTotalTimeSeconds() + "s to start run " + batchEngineOutput.getRunId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(ServletUriComponentsBuilder.fromCurrentRequestUri().path("/{runId}").buildAndExpand(batchEngineOutput.getRunId()).toUri())
+                .body(batchEngineOutput);
+    }
+
+    @ApiOperation(value = "Status of a feature generation run for a group of users.", response = BatchEngineOutput.class, notes = "This api returns the progress of a run started with /reciter/feature-generator/batch: the uids completed and failed so far and, once its status is COMPLETED or FAILED, its final result.")
+    @ApiImplicitParams({
+    	@ApiImplicitParam(name = "api-key", value = "api-key for this resource", paramType = "header", dataTypeClass = String.class)
+    })
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Successfully retrieved the run", response = BatchEngineOutput.class),
+            @ApiResponse(code = 401, message = "You are not authorized to view the resource"),
+            @ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(code = 404, message = "The run is unknown or no longer retained")
+    })
+    @RequestMapping(value = "/reciter/feature-generator/batch/{runId}", method = RequestMethod.GET, produces = "application/json")
+    @ResponseBody
+    public ResponseEntity findBatchFeatureGeneratorRun(@PathVariable String runId) {
+        BatchEngineOutput batchEngineOutput = reCiterBatchEngine.findRun(runId);
+        if(batchEngineOutput == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("No batch feature generation run with runId '" + runId + "' is retained.");
+        }
+        return ResponseEntity.ok(batchEngineOutput);
+    }
+
     @ApiOperation(value = "Article retrieval by UID.", response = ReCiterFeature.class, notes = "This api returns all the publication for a supplied uid.")
     @ApiImplicitParams({
     	@ApiImplicitParam(name = "api-key", value = "api-key for this resource", paramType = "header", dataTypeClass = String.class),
@@ -785,6 +936,7 @@ public class ReCiterController {
     })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Successfully retrieved list", response = ReCiterFeature.class),
+            @ApiResponse(code = 304, message = "The analysis did not change since the entity tag sent in If-None-Match"),
             @ApiResponse(code = 401, message = "You are not authorized to view the resource"),
             @ApiResponse(code = 403, message = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(code = 404, message = "The resource you were trying to reach is not found"),
@@ -792,7 +944,7 @@ public class ReCiterController {
     })
     @RequestMapping(value = "/reciter/article-retrieval/by/uid", method = RequestMethod.GET, produces = "application/json")
     @ResponseBody
-    public ResponseEntity runArticleRetrievalByUid(@RequestParam(value = "uid") String uid, Double totalStandardizedArticleScore, FilterFeedbackType filterByFeedback) {
+    public ResponseEntity runArticleRetrievalByUid(@RequestParam(value = "uid") String uid, Double totalStandardizedArticleScore, FilterFeedbackType filterByFeedback, WebRequest webRequest) {
     	StopWatch stopWatch = new StopWatch("Feature generation for UID");
         stopWatch.start("Feature generation for UID");
         
@@ -813,6 +965,13 @@ public class ReCiterController {
         } catch (NullPointerException n) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("The uid provided '" + uid + "' was not found in the Identity table");
         }
+        AnalysisOutputVersion analysisVersion = analysisService.findVersionByUid(uid.trim());
+        if(analysisVersion != null
+                && webRequest.checkNotModified(analysisEntityTag(analysisVersion, webRequest, totalScore, filterByFeedback), analysisVersion.getUpdatedAt().getTime())) {
+            stopWatch.stop();
+            log.info(stopWatch.getId() + " took " + stopWatch.getTotalTimeSeconds() + "s, analysis not modified");
+            return null;
+        }
         AnalysisOutput analysis = analysisService.findByUid(uid.trim());
         if (analysis != null) {//This was added to ensure to use analysis results only in evidence mode
         	if(analysis.getReCiterFeature() != null) {
@@ -886,7 +1045,7 @@ public class ReCiterController {
     }
 
 
-    private EngineParameters initializeEngineParameters(String uid, Double totalStandardizedArticleScore, RetrievalRefreshFlag retrievalRefreshFlag) {
+    private EngineParameters initializeEngineParameters(String uid, Double totalStandardizedArticleScore, RetrievalRefreshFlag retrievalRefreshFlag, boolean useGoldStandardEvidence) {
         // find identity
         Identity identity = identityService.findByUid(uid);
         ESearchResult eSearchResults = null;
@@ -911,83 +1070,13 @@ public class ReCiterController {
 		 * //This is when Pubmed returns 0 results. if(eSearchResults == null) { return
 		 * null; }
 		 */
-        Set<Long> pmids = new HashSet<>();
-        if(eSearchResults != null && eSearchResults.getESearchPmids() != null) {
-	        for (ESearchPmid eSearchPmid : eSearchResults.getESearchPmids()) {
-	            if (!strategyParameters.isUseGoldStandardEvidence() && StringUtils.equalsIgnoreCase(eSearchPmid.getRetrievalStrategyName(), "GoldStandardRetrievalStrategy")) {
-	                log.info("Running in Testing mode so goldStandardRetreivalStrategy is removed");
-	            } else {
-	                pmids.addAll(eSearchPmid.getPmids());
-	            }
-	        }
-        }
-
-        // create a list of pmids to pass to search
-        List<Long> pmidList = new ArrayList<>(pmids);
-        List<Long> filtered = new ArrayList<>();
-        List<String> filteredString = new ArrayList<>();
-        for (long pmid : pmidList) {
-            filtered.add(pmid);
-            filteredString.add(String.valueOf(pmid));
-        }
-
-        List<PubMedArticle> pubMedArticles = pubMedService.findByPmids(filtered);
-        if (pubMedArticles == null) {
-            return null;
-        }
-        List<ScopusArticle> scopusArticles = scopusService.findByPmids(filteredString);
-
-        // create temporary map to retrieve Scopus articles by PMID (at the stage below)
-        Map<Long, ScopusArticle> map = new HashMap<>();
-
-        if (useScopusArticles) {
-            for (ScopusArticle scopusArticle : scopusArticles) {
-                map.put(scopusArticle.getPubmedId(), scopusArticle);
-            }
-        }
-
-        // combine PubMed and Scopus articles into a list of ReCiterArticle
-        List<ReCiterArticle> reCiterArticles = new ArrayList<>();
-        for (PubMedArticle pubMedArticle : pubMedArticles) {
-            long pmid = pubMedArticle.getMedlinecitation().getMedlinecitationpmid().getPmid();
-            if (map.containsKey(pmid)) {
-                reCiterArticles.add(ArticleTranslator.translate(pubMedArticle, map.get(pmid), nameIgnoredCoAuthors, strategyParameters));
-            } else {
-                reCiterArticles.add(ArticleTranslator.translate(pubMedArticle, null, nameIgnoredCoAuthors, strategyParameters));
-            }
-        }
-        
-        //Sanitize Identity names
-        AuthorNameSanitizationUtils authorNameSanitizationUtils = new AuthorNameSanitizationUtils(strategyParameters);
-        identity.setSanitizedNames(authorNameSanitizationUtils.sanitizeIdentityAuthorNames(identity));
-        
-        //Sanitize Identity Organizational Units(Division and Department)
-        InstitutionSanitizationUtil institutionalSanitizationUtil = new InstitutionSanitizationUtil(strategyParameters);
-        institutionalSanitizationUtil.populateSanitizedIdentityInstitutions(identity);
-        
-        //Find gender probability
-        GenderProbability.getGenderIdentityProbability(identity);
-        
-        // calculate precision and recall
-        EngineParameters parameters = new EngineParameters();
-        parameters.setIdentity(identity);
-        parameters.setPubMedArticles(pubMedArticles);
-        parameters.setScopusArticles(Collections.emptyList());
-        parameters.setReciterArticles(reCiterArticles);
-
         GoldStandard goldStandard = dynamoDbGoldStandardService.findByUid(uid);
-        if (goldStandard == null) {
-            parameters.setKnownPmids(new ArrayList<>());
-            parameters.setRejectedPmids(new ArrayList<>());
-        } else {
-            parameters.setKnownPmids(goldStandard.getKnownPmids());
-            parameters.setRejectedPmids(goldStandard.getRejectedPmids());
-        }
-        if (totalStandardizedArticleScore == null) {
-            parameters.setTotalStandardzizedArticleScore(strategyParameters.getTotalArticleScoreStandardizedDefault());
-        } else {
-            parameters.setTotalStandardzizedArticleScore(totalStandardizedArticleScore);
-        }
-        return parameters;
+        return engineParametersLoader.load(identity, eSearchResults, goldStandard, totalStandardizedArticleScore, useGoldStandardEvidence);
+    }
+
+    private List<Identity> filterIdentities(List<Identity> identities, List<String> personType, List<String> organizationalAffiliation, List<String> departmentalAffiliation) {
+        return identities.parallelStream()
+                .filter(new IdentityFilter(personType, organizationalAffiliation, departmentalAffiliation))
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
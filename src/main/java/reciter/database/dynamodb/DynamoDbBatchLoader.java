@@ -0,0 +1,163 @@
+package reciter.database.dynamodb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchLoadContext;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchLoadRetryStrategy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads many items of one table by key with BatchGetItem. The keys are split in chunks of 100, the most a
+ * BatchGetItem request accepts, and the chunks are loaded concurrently. Keys returned as unprocessed (e.g. when the
+ * table is throttled) are requested again with exponential backoff.
+ * <p>
+ * Loaded items are handed over chunk by chunk as they arrive, so callers can start working on the first items while
+ * the others are still being read.
+ */
+@Slf4j
+@Component
+public class DynamoDbBatchLoader {
+
+	/**
+	 * Maximum number of keys of a BatchGetItem request.
+	 */
+	private static final int BATCH_GET_ITEM_MAX_KEYS = 100;
+
+	@Autowired
+	private AmazonDynamoDB amazonDynamoDB;
+
+	/**
+	 * Maximum number of BatchGetItem requests running at the same time, shared by all the loads.
+	 */
+	@Value("${aws.dynamodb.settings.batchGet.parallelism:4}")
+	private int parallelism;
+
+	@Value("${aws.dynamodb.settings.batchGet.maxRetries:8}")
+	private int maxRetries;
+
+	@Value("${aws.dynamodb.settings.batchGet.baseBackoffMillis:50}")
+	private long baseBackoffMillis;
+
+	@Value("${aws.dynamodb.settings.batchGet.maxBackoffMillis:5000}")
+	private long maxBackoffMillis;
+
+	private DynamoDBMapper dynamoDBMapper;
+
+	private ExecutorService executorService;
+
+	@PostConstruct
+	private void init() {
+		DynamoDBMapperConfig dynamoDBMapperConfig = new DynamoDBMapperConfig.Builder()
+				.withBatchLoadRetryStrategy(new BackoffBatchLoadRetryStrategy())
+				.build();
+		dynamoDBMapper = new DynamoDBMapper(amazonDynamoDB, dynamoDBMapperConfig);
+		AtomicInteger threadCount = new AtomicInteger();
+		executorService = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+			Thread thread = new Thread(runnable, "dynamodb-batch-get-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	private void shutdown() {
+		executorService.shutdownNow();
+	}
+
+	/**
+	 * This function loads the items having the given keys.
+	 * @param itemClass dynamodb item class
+	 * @param keys items of itemClass with only their key attributes set
+	 * @param chunkConsumer receives the loaded items of each chunk on the calling thread, in the order the chunks complete.
+	 * Keys without an item are left out.
+	 */
+	public <T> void load(Class<T> itemClass, List<T> keys, Consumer<List<T>> chunkConsumer) {
+		if(keys.isEmpty()) {
+			return;
+		}
+		CompletionService<List<T>> completionService = new ExecutorCompletionService<>(executorService);
+		int chunks = 0;
+		for(int from = 0; from < keys.size(); from += BATCH_GET_ITEM_MAX_KEYS) {
+			List<T> chunk = keys.subList(from, Math.min(from + BATCH_GET_ITEM_MAX_KEYS, keys.size()));
+			completionService.submit(() -> loadChunk(itemClass, chunk));
+			chunks++;
+		}
+		for(int i = 0; i < chunks; i++) {
+			try {
+				chunkConsumer.accept(completionService.take().get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while loading " + itemClass.getSimpleName() + " items", e);
+			} catch (ExecutionException e) {
+				if(e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+				throw new IllegalStateException("Unable to load " + itemClass.getSimpleName() + " items", e.getCause());
+			}
+		}
+	}
+
+	/**
+	 * This function loads the items having the given keys.
+	 * @see #load(Class, List, Consumer)
+	 */
+	public <T> List<T> load(Class<T> itemClass, List<T> keys) {
+		List<T> items = new ArrayList<>(keys.size());
+		load(itemClass, keys, items::addAll);
+		return items;
+	}
+
+	private <T> List<T> loadChunk(Class<T> itemClass, List<T> chunk) {
+		Map<String, List<Object>> itemsByTable = dynamoDBMapper.batchLoad(chunk);
+		List<T> items = new ArrayList<>(chunk.size());
+		for(List<Object> tableItems: itemsByTable.values()) {
+			for(Object item: tableItems) {
+				items.add(itemClass.cast(item));
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Retries the unprocessed keys of a BatchGetItem request with an exponential backoff and full jitter.
+	 */
+	private class BackoffBatchLoadRetryStrategy implements BatchLoadRetryStrategy {
+
+		@Override
+		public boolean shouldRetry(BatchLoadContext batchLoadContext) {
+			if(batchLoadContext.getRetriesAttempted() >= maxRetries) {
+				log.warn("Giving up on unprocessed keys after " + batchLoadContext.getRetriesAttempted() + " retries");
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		public long getDelayBeforeNextRetry(BatchLoadContext batchLoadContext) {
+			int retries = Math.min(batchLoadContext.getRetriesAttempted(), 30);
+			long backoff = Math.min(maxBackoffMillis, baseBackoffMillis << retries);
+			return ThreadLocalRandom.current().nextLong(backoff + 1);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package reciter.database.dynamodb;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Converts the LastEvaluatedKey of a DynamoDB query or scan to an opaque cursor handed to API clients, and a cursor
+ * back to the ExclusiveStartKey of the next request. Only string and number key attributes are supported, which
+ * covers the keys of all the ReCiter tables.
+ */
+public final class DynamoDbCursor {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private static final TypeReference<Map<String, Map<String, String>>> KEY_TYPE = new TypeReference<Map<String, Map<String, String>>>() {};
+
+	private DynamoDbCursor() {
+	}
+
+	/**
+	 * @param lastEvaluatedKey last evaluated key of a page, may be <code>null</code>
+	 * @return the cursor of the next page, <code>null</code> if there is no next page
+	 */
+	public static String encode(Map<String, AttributeValue> lastEvaluatedKey) {
+		if(lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+			return null;
+		}
+		Map<String, Map<String, String>> key = new LinkedHashMap<>();
+		lastEvaluatedKey.forEach((name, value) -> {
+			Map<String, String> typedValue = new LinkedHashMap<>();
+			if(value.getS() != null) {
+				typedValue.put("S", value.getS());
+			} else if(value.getN() != null) {
+				typedValue.put("N", value.getN());
+			} else {
+				throw new IllegalArgumentException("Unsupported type of key attribute " + name);
+			}
+			key.put(name, typedValue);
+		});
+		try {
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(key));
+		} catch (IOException e) {
+			throw new IllegalStateException("Unable to encode cursor", e);
+		}
+	}
+
+	/**
+	 * @param cursor cursor returned by {@link #encode(Map)}, may be <code>null</code>
+	 * @return the exclusive start key of the page, <code>null</code> for the first page
+	 * @throws IllegalArgumentException if the cursor is not valid
+	 */
+	public static Map<String, AttributeValue> decode(String cursor) {
+		if(cursor == null || cursor.isEmpty()) {
+			return null;
+		}
+		Map<String, Map<String, String>> key;
+		try {
+			key = OBJECT_MAPPER.readValue(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8), KEY_TYPE);
+		} catch (IOException | IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid cursor " + cursor, e);
+		}
+		Map<String, AttributeValue> exclusiveStartKey = new LinkedHashMap<>();
+		key.forEach((name, typedValue) -> {
+			if(typedValue.get("S") != null) {
+				exclusiveStartKey.put(name, new AttributeValue().withS(typedValue.get("S")));
+			} else if(typedValue.get("N") != null) {
+				exclusiveStartKey.put(name, new AttributeValue().withN(typedValue.get("N")));
+			} else {
+				throw new IllegalArgumentException("Invalid cursor " + cursor);
+			}
+		});
+		return exclusiveStartKey;
+	}
+}
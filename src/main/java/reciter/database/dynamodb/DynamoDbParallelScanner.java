@@ -0,0 +1,164 @@
+package reciter.database.dynamodb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBScanExpression;
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads a whole table with a parallel scan. The table is split in totalSegments segments which are scanned
+ * concurrently, each one page after page.
+ * <p>
+ * Scanned items are handed over segment by segment as they complete, so callers can start working on the first
+ * segments while the others are still being read. Scanning into a list keeps the segment order instead, so the items of
+ * an unchanged table always come in the same order. All the scans share one pool, so scans of different tables can run
+ * at the same time without exceeding totalSegments concurrent Scan requests. The time taken by each scan is logged.
+ */
+@Slf4j
+@Component
+public class DynamoDbParallelScanner {
+
+	@Autowired
+	private AmazonDynamoDB amazonDynamoDB;
+
+	/**
+	 * Number of segments a table is split in, and the maximum number of segments scanned at the same time.
+	 */
+	@Value("${aws.dynamodb.settings.scan.totalSegments:8}")
+	private int totalSegments;
+
+	private DynamoDBMapper dynamoDBMapper;
+
+	private ExecutorService executorService;
+
+	@PostConstruct
+	private void init() {
+		totalSegments = Math.max(1, totalSegments);
+		dynamoDBMapper = new DynamoDBMapper(amazonDynamoDB);
+		AtomicInteger threadCount = new AtomicInteger();
+		executorService = Executors.newFixedThreadPool(totalSegments, runnable -> {
+			Thread thread = new Thread(runnable, "dynamodb-scan-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	private void shutdown() {
+		executorService.shutdownNow();
+	}
+
+	/**
+	 * This function scans all the items of a table.
+	 * @param itemClass dynamodb item class
+	 * @param segmentConsumer receives the items of each segment on the calling thread, in the order the segments complete
+	 */
+	public <T> void scan(Class<T> itemClass, Consumer<List<T>> segmentConsumer) {
+		long startTime = System.currentTimeMillis();
+		int itemCount = 0;
+		CompletionService<List<T>> completionService = new ExecutorCompletionService<>(executorService);
+		for(int segment = 0; segment < totalSegments; segment++) {
+			int scannedSegment = segment;
+			completionService.submit(() -> scanSegment(itemClass, scannedSegment));
+		}
+		for(int i = 0; i < totalSegments; i++) {
+			List<T> items = get(itemClass, completionService::take);
+			itemCount += items.size();
+			segmentConsumer.accept(items);
+		}
+		log.info("Scanned " + itemCount + " " + itemClass.getSimpleName() + " items in " + (System.currentTimeMillis() - startTime) + " ms");
+	}
+
+	/**
+	 * This function scans all the items of a table.
+	 * @return the items in segment order, which is the same from one scan to the next as long as the table and the number
+	 * of segments do not change
+	 * @see #scan(Class, Consumer)
+	 */
+	public <T> List<T> scan(Class<T> itemClass) {
+		long startTime = System.currentTimeMillis();
+		List<Future<List<T>>> segmentFutures = new ArrayList<>(totalSegments);
+		for(int segment = 0; segment < totalSegments; segment++) {
+			int scannedSegment = segment;
+			segmentFutures.add(executorService.submit(() -> scanSegment(itemClass, scannedSegment)));
+		}
+		List<T> items = new ArrayList<>();
+		for(Future<List<T>> segmentFuture : segmentFutures) {
+			items.addAll(get(itemClass, () -> segmentFuture));
+		}
+		log.info("Scanned " + items.size() + " " + itemClass.getSimpleName() + " items in " + (System.currentTimeMillis() - startTime) + " ms");
+		return items;
+	}
+
+	@FunctionalInterface
+	private interface SegmentFutureSupplier<T> {
+		Future<List<T>> get() throws InterruptedException;
+	}
+
+	private static <T> List<T> get(Class<T> itemClass, SegmentFutureSupplier<T> segmentFuture) {
+		try {
+			return segmentFuture.get().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while scanning " + itemClass.getSimpleName() + " items", e);
+		} catch (ExecutionException e) {
+			if(e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("Unable to scan " + itemClass.getSimpleName() + " items", e.getCause());
+		}
+	}
+
+	/**
+	 * This function scans one page of a table, without splitting it in segments. It is used to page through a table
+	 * across API calls.
+	 * @param itemClass dynamodb item class
+	 * @param exclusiveStartKey last evaluated key of the previous page, <code>null</code> for the first page
+	 * @param limit maximum number of items read
+	 * @return the page, its last evaluated key is <code>null</code> after the last page
+	 */
+	public <T> ScanResultPage<T> scanPage(Class<T> itemClass, Map<String, AttributeValue> exclusiveStartKey, int limit) {
+		DynamoDBScanExpression scanExpression = new DynamoDBScanExpression()
+				.withExclusiveStartKey(exclusiveStartKey)
+				.withLimit(limit);
+		return dynamoDBMapper.scanPage(itemClass, scanExpression);
+	}
+
+	private <T> List<T> scanSegment(Class<T> itemClass, int segment) {
+		List<T> items = new ArrayList<>();
+		Map<String, AttributeValue> exclusiveStartKey = null;
+		do {
+			DynamoDBScanExpression scanExpression = new DynamoDBScanExpression()
+					.withSegment(segment)
+					.withTotalSegments(totalSegments)
+					.withExclusiveStartKey(exclusiveStartKey);
+			ScanResultPage<T> page = dynamoDBMapper.scanPage(itemClass, scanExpression);
+			items.addAll(page.getResults());
+			exclusiveStartKey = page.getLastEvaluatedKey();
+		} while(exclusiveStartKey != null);
+		log.debug("Scanned " + items.size() + " " + itemClass.getSimpleName() + " items of segment " + segment);
+		return items;
+	}
+}
@@ -1,16 +1,19 @@
 package reciter.database.dynamodb;
 
-import java.io.ByteArrayInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
-import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
@@ -18,14 +21,16 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import lombok.extern.slf4j.Slf4j;
 import reciter.engine.analysis.ReCiterFeature;
 import reciter.model.identity.Identity;
+import reciter.storage.s3.S3MultipartOutputStream;
 
 /**
  * This class allows you to store dynamodb items which exceeds dynamodb item limit of 400kb in s3.
@@ -45,82 +50,129 @@ public class DynamoDbS3Operations {
 	
 	private static final String CONTENT_TYPE = "application/json";
 	
+	private static final String CONTENT_ENCODING_GZIP = "gzip";
+	
+	private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+	
 	/**
-	 * This function stores large object which has size more than 400kb.
+	 * Leaves the target stream open so a failed serialization can abort the upload instead of completing it.
+	 */
+	private static final ObjectWriter LARGE_ITEM_WRITER = OBJECT_MAPPER.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	
+	@Value("${aws.s3.largeItem.compress:true}")
+	private boolean compressLargeItems;
+	
+	@Value("${aws.s3.largeItem.partSizeBytes:8388608}")
+	private int largeItemPartSize;
+	
+	/**
+	 * This function serializes an object to json the same way large items are stored.
+	 * @param object
+	 * @return the json bytes, null if the object cannot be serialized
+	 */
+	public byte[] serialize(Object object) {
+		try {
+			return OBJECT_MAPPER.writeValueAsBytes(object);
+		} catch (JsonProcessingException e) {
+			log.error(e.getMessage());
+		}
+		return null;
+	}
+	
+	/**
+	 * This function stores an already serialized large item compressed with gzip. The object is stored with a gzip content
+	 * encoding so {@link #retrieveLargeItem(String, String, Class)} and any http client reading it decompress it transparently.
+	 * Any previous object stored with the same key is replaced.
+	 * @param bucketName
+	 * @param objectContentBytes json bytes of the item
+	 * @param keyName
+	 * @return true if the object was stored
+	 */
+	public boolean saveCompressedLargeItem(String bucketName, byte[] objectContentBytes, String keyName) {
+		return saveCompressedLargeItem(bucketName, objectContentBytes, keyName, Collections.emptyMap());
+	}
+	
+	/**
+	 * @param userMetadata user metadata stored with the object, read back with {@link #getObjectUserMetadata(String, String)}
+	 * @see #saveCompressedLargeItem(String, byte[], String)
+	 */
+	public boolean saveCompressedLargeItem(String bucketName, byte[] objectContentBytes, String keyName, Map<String, String> userMetadata) {
+		if(s3 == null || bucketName == null || objectContentBytes == null) {
+			return false;
+		}
+		return storeLargeItem(bucketName, keyName, true, userMetadata, outputStream -> outputStream.write(objectContentBytes));
+	}
+	
+	/**
+	 * This function stores large object which has size more than 400kb. The object is serialized straight to S3, part by
+	 * part, and compressed with gzip unless aws.s3.largeItem.compress is false. Any previous object stored with the same key
+	 * is replaced.
 	 * @param bucketName
 	 * @param object
 	 * @param keyName
+	 * @return true if the object was stored
 	 */
-	public void saveLargeItem(String bucketName, Object object, String keyName) {
-		
-		if(s3 != null && bucketName != null && !s3.doesObjectExist(bucketName.toLowerCase(), keyName)) {
-			
-			//AmazonS3Config.createFolder(bucketName, AnalysisOutput.class.getName(), s3);
-			String objectContentString = null;
-			try {
-				objectContentString = OBJECT_MAPPER.writeValueAsString(object);
-			} catch (JsonProcessingException e) {
-				log.error(e.getMessage());
-			}
-			byte[] objectContentBytes = objectContentString.getBytes(StandardCharsets.UTF_8);
-			InputStream fileInputStream = new ByteArrayInputStream(objectContentBytes);
-			ObjectMetadata metadata = new ObjectMetadata();
-			metadata.setContentType(CONTENT_TYPE);
-			metadata.setContentLength(objectContentBytes.length);
-			PutObjectRequest putObjectRequest = new PutObjectRequest(
-					bucketName.toLowerCase(), keyName, fileInputStream, metadata);
-			try{
-				s3.putObject(putObjectRequest);
-			} catch(AmazonServiceException e) {
-				// The call was transmitted successfully, but Amazon S3 couldn't process 
-	            // it, so it returned an error response.
-				log.error(e.getErrorMessage());
-			}
-		} else {
-			log.info("Deleting Object from bucket " + bucketName + " with keyName " + keyName);
-			s3.deleteObject(bucketName.toLowerCase(), keyName);
-			//Delete the object and insert it again
-			String objectContentString = null;
-			try {
-				objectContentString = OBJECT_MAPPER.writeValueAsString(object);
-			} catch (JsonProcessingException e) {
-				log.error(e.getMessage());
-			}
-			byte[] objectContentBytes = objectContentString.getBytes(StandardCharsets.UTF_8);
-			InputStream fileInputStream = new ByteArrayInputStream(objectContentBytes);
-			ObjectMetadata metadata = new ObjectMetadata();
-			metadata.setContentType(CONTENT_TYPE);
-			metadata.setContentLength(objectContentBytes.length);
-			PutObjectRequest putObjectRequest = new PutObjectRequest(
-					bucketName.toLowerCase(), keyName, fileInputStream, metadata);
-			try{
-				s3.putObject(putObjectRequest);
-			}
-			catch(AmazonServiceException e) {
-				// The call was transmitted successfully, but Amazon S3 couldn't process 
-	            // it, so it returned an error response.
-				log.error(e.getErrorMessage());
-			}
+	public boolean saveLargeItem(String bucketName, Object object, String keyName) {
+		return saveLargeItem(bucketName, object, keyName, Collections.emptyMap());
+	}
+	
+	/**
+	 * @param userMetadata user metadata stored with the object, read back with {@link #getObjectUserMetadata(String, String)}
+	 * @see #saveLargeItem(String, Object, String)
+	 */
+	public boolean saveLargeItem(String bucketName, Object object, String keyName, Map<String, String> userMetadata) {
+		if(s3 == null || bucketName == null) {
+			return false;
 		}
+		return storeLargeItem(bucketName, keyName, compressLargeItems, userMetadata, outputStream -> LARGE_ITEM_WRITER.writeValue(outputStream, object));
+	}
+	
+	private boolean storeLargeItem(String bucketName, String keyName, boolean compress, Map<String, String> userMetadata, LargeItemContent content) {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentType(CONTENT_TYPE);
+		metadata.setUserMetadata(userMetadata);
+		if(compress) {
+			metadata.setContentEncoding(CONTENT_ENCODING_GZIP);
+		}
+		S3MultipartOutputStream s3OutputStream = new S3MultipartOutputStream(s3, bucketName.toLowerCase(), keyName, metadata, largeItemPartSize);
+		try {
+			OutputStream outputStream = compress ? new GZIPOutputStream(s3OutputStream, STREAM_BUFFER_SIZE) : new BufferedOutputStream(s3OutputStream, STREAM_BUFFER_SIZE);
+			content.writeTo(outputStream);
+			outputStream.close();
+			return true;
+		} catch (IOException | RuntimeException e) {
+			// Nothing is stored when the object could not be written completely.
+			s3OutputStream.abort();
+			log.error("Unable to store " + keyName + " in bucket " + bucketName + ": " + e.getMessage());
+			return false;
+		}
+	}
+	
+	@FunctionalInterface
+	private interface LargeItemContent {
+		void writeTo(OutputStream outputStream) throws IOException;
 	}
 	
 	/**
-	 * This function retrieves large object from S3
+	 * This function retrieves large object from S3. The json is parsed while it is read from S3, and decompressed first if
+	 * it was stored with a gzip content encoding.
 	 * @param bucketName
 	 * @param keyName
 	 * @param objectClass
 	 * @return
 	 */
 	public <T> Object retrieveLargeItem(String bucketName, String keyName, Class<T> objectClass) {
-		try {
-			S3Object s3Object = s3.getObject(new GetObjectRequest(bucketName.toLowerCase(), keyName));
-			String objectContent = IOUtils.toString(s3Object.getObjectContent(), StandardCharsets.UTF_8);
+		try(S3Object s3Object = s3.getObject(new GetObjectRequest(bucketName.toLowerCase(), keyName))) {
+			InputStream objectContentStream = s3Object.getObjectContent();
+			if(CONTENT_ENCODING_GZIP.equalsIgnoreCase(s3Object.getObjectMetadata().getContentEncoding())) {
+				objectContentStream = new GZIPInputStream(objectContentStream, STREAM_BUFFER_SIZE);
+			}
 			if(objectClass == ReCiterFeature.class) {
-				ReCiterFeature reCiterFeature = OBJECT_MAPPER.readValue(objectContent, ReCiterFeature.class);
+				ReCiterFeature reCiterFeature = OBJECT_MAPPER.readValue(objectContentStream, ReCiterFeature.class);
 				return reCiterFeature;
 			}
 			if(objectClass == Identity.class) {
-				List<Identity> identities = Arrays.asList(OBJECT_MAPPER.readValue(objectContent, Identity[].class));
+				List<Identity> identities = Arrays.asList(OBJECT_MAPPER.readValue(objectContentStream, Identity[].class));
 				return identities;
 			}
 			
@@ -147,15 +199,32 @@ public class DynamoDbS3Operations {
 	 * This function gets the timestamp of the object that was stored. It assumes versioning is turned off for bucket.
 	 * @param bucketName
 	 * @param keyName
-	 * @return date of the object that was stored
+	 * @return date of the object that was stored, null if there is no such object
 	 */
 	public Date getObjectSaveTimestamp(String bucketName, String keyName) {
 		try {
-			S3Object s3Object = s3.getObject(new GetObjectRequest(bucketName.toLowerCase(), keyName));
-			Date lastModifedDate = s3Object.getObjectMetadata().getLastModified();
-			return lastModifedDate;
+			return s3.getObjectMetadata(bucketName.toLowerCase(), keyName).getLastModified();
 		} catch (AmazonServiceException e) {
-			log.error(e.getMessage());
+			if(e.getStatusCode() != 404) {
+				log.error(e.getMessage());
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * This function gets the user metadata of the object that was stored, without reading the object.
+	 * @param bucketName
+	 * @param keyName
+	 * @return user metadata of the object, null if there is no such object
+	 */
+	public Map<String, String> getObjectUserMetadata(String bucketName, String keyName) {
+		try {
+			return s3.getObjectMetadata(bucketName.toLowerCase(), keyName).getUserMetadata();
+		} catch (AmazonServiceException e) {
+			if(e.getStatusCode() != 404) {
+				log.error(e.getMessage());
+			}
 		}
 		return null;
 	}
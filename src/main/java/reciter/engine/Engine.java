@@ -18,11 +18,7 @@
  *******************************************************************************/
 package reciter.engine;
 
-import java.util.List;
-
-import reciter.api.parameters.FilterFeedbackType;
-
 public interface Engine {
 
-	EngineOutput run(EngineParameters parameters, StrategyParameters strategyParameters, double filterScore, double keywordsMax);
+	EngineOutput run(EngineParameters parameters, EngineContext engineContext);
 }
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *******************************************************************************/
+package reciter.engine;
+
+import lombok.Builder;
+import lombok.Getter;
+import reciter.api.parameters.UseGoldStandard;
+
+/**
+ * Immutable settings for a single {@link Engine#run} invocation.
+ *
+ * <p>One instance is built per request and handed to the clusterer, the article scorer and
+ * every strategy, so that several identities can be scored in the same JVM at the same time
+ * without sharing mutable state. The {@link StrategyParameters} bean is only read through here.
+ */
+@Getter
+@Builder
+public class EngineContext {
+
+	private final StrategyParameters strategyParameters;
+
+	private final boolean useGoldStandardEvidence;
+
+	private final double clusterSimilarityThresholdScore;
+
+	private final double clusteringGrantsThreshold;
+
+	private final double filterScore;
+
+	private final double keywordsMax;
+
+	/**
+	 * Number of threads the article scorer may use to score the clusters of this run.
+	 */
+	private final int scoringParallelism;
+
+	/**
+	 * Builds the context for one run, snapshotting the clustering thresholds from the configured strategy parameters.
+	 * @param strategyParameters configured strategy parameters
+	 * @param useGoldStandard gold standard mode requested by the caller, <code>null</code> means {@link UseGoldStandard#AS_EVIDENCE}
+	 * @param filterScore minimum standardized score for an article to be reported
+	 * @param keywordsMax maximum number of keywords to compute per feature
+	 * @return the engine context
+	 */
+	public static EngineContext of(StrategyParameters strategyParameters, UseGoldStandard useGoldStandard, double filterScore, double keywordsMax) {
+		return EngineContext.builder()
+				.strategyParameters(strategyParameters)
+				.useGoldStandardEvidence(useGoldStandard != UseGoldStandard.FOR_TESTING_ONLY)
+				.clusterSimilarityThresholdScore(strategyParameters.getClusterSimilarityThresholdScore())
+				.clusteringGrantsThreshold(strategyParameters.getClusteringGrantsThreshold())
+				.filterScore(filterScore)
+				.keywordsMax(keywordsMax)
+				.scoringParallelism(strategyParameters.getScoringParallelism())
+				.build();
+	}
+
+	public UseGoldStandard getUseGoldStandard() {
+		return useGoldStandardEvidence ? UseGoldStandard.AS_EVIDENCE : UseGoldStandard.FOR_TESTING_ONLY;
+	}
+}
@@ -18,6 +18,7 @@
  *******************************************************************************/
 package reciter.engine;
 
+import reciter.algorithm.evidence.targetauthor.journalcategory.ScienceMetrixIndex;
 import reciter.database.dynamodb.model.Gender;
 import reciter.database.dynamodb.model.ScienceMetrix;
 import reciter.database.dynamodb.model.ScienceMetrixDepartmentCategory;
@@ -25,6 +26,7 @@ import reciter.model.article.ReCiterArticle;
 import reciter.model.identity.Identity;
 import reciter.model.pubmed.PubMedArticle;
 import reciter.model.scopus.ScopusArticle;
+import reciter.utils.GenderProbabilityIndex;
 
 import java.util.List;
 import java.util.Map;
@@ -50,7 +52,11 @@ public class EngineParameters {
     private static List<ScienceMetrixDepartmentCategory> scienceMetrixDepartmentCategories;
 	@Getter
 	@Setter
+    private static ScienceMetrixIndex scienceMetrixIndex;
+	@Getter
     private static List<Gender> genders;
+	@Getter
+    private static GenderProbabilityIndex genderProbabilityIndex;
     private Identity identity;
     private List<PubMedArticle> pubMedArticles;
     private List<ScopusArticle> scopusArticles;
@@ -64,4 +70,12 @@ public class EngineParameters {
     @Getter
 	@Setter
     private static String regexForStopWords;
+
+    /**
+     * Sets the Gender table and builds its name index used by {@link reciter.utils.GenderProbability}.
+     */
+    public static void setGenders(List<Gender> genders) {
+        EngineParameters.genders = genders;
+        EngineParameters.genderProbabilityIndex = genders == null ? null : GenderProbabilityIndex.of(genders);
+    }
 }
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *******************************************************************************/
+package reciter.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import reciter.algorithm.util.ArticleTranslator;
+import reciter.database.dynamodb.model.ESearchPmid;
+import reciter.database.dynamodb.model.ESearchResult;
+import reciter.database.dynamodb.model.GoldStandard;
+import reciter.model.article.ReCiterArticle;
+import reciter.model.identity.Identity;
+import reciter.model.pubmed.PubMedArticle;
+import reciter.model.scopus.ScopusArticle;
+import reciter.service.PubMedService;
+import reciter.service.ScopusService;
+import reciter.utils.AuthorNameSanitizationUtils;
+import reciter.utils.GenderProbability;
+import reciter.utils.InstitutionSanitizationUtil;
+
+/**
+ * Assembles the {@link EngineParameters} for one identity from its candidate search results.
+ * Shared by the feature generator API and the {@link ReCiterBatchEngine} so both score the same input.
+ */
+@Slf4j
+@Component
+public class EngineParametersLoader {
+
+    @Autowired
+    private PubMedService pubMedService;
+
+    @Autowired
+    private ScopusService scopusService;
+
+    @Autowired
+    private StrategyParameters strategyParameters;
+
+    @Value("${use.scopus.articles}")
+    private boolean useScopusArticles;
+
+    @Value("${namesIgnoredCoauthors}")
+    private String nameIgnoredCoAuthors;
+
+    /**
+     * Number of threads translating PubMed articles into ReCiter articles, shared by all identities. 0 uses all available cores.
+     */
+    @Value("${reciter.feature.generator.translation.parallelism:0}")
+    private int translationParallelism;
+
+    private ExecutorService translationExecutor;
+
+    @PostConstruct
+    private void createTranslationExecutor() {
+        int parallelism = translationParallelism > 0 ? translationParallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        translationExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "article-translator-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    private void shutdownTranslationExecutor() {
+        translationExecutor.shutdownNow();
+    }
+
+    /**
+     * Loads the candidate articles referenced by the search results and prepares the identity for scoring.
+     * @param identity the target identity
+     * @param eSearchResults candidate pmids retrieved for the identity, may be <code>null</code>
+     * @param goldStandard accepted and rejected pmids for the identity, may be <code>null</code>
+     * @param totalStandardizedArticleScore score threshold requested by the caller, <code>null</code> uses the default
+     * @param useGoldStandardEvidence <code>false</code> drops the pmids found by the GoldStandardRetrievalStrategy
+     * @return the engine parameters, never <code>null</code>. A failure to load the articles is thrown as the runtime
+     * exception of the failing read or translation
+     */
+    public EngineParameters load(Identity identity, ESearchResult eSearchResults, GoldStandard goldStandard, Double totalStandardizedArticleScore, boolean useGoldStandardEvidence) {
+        Set<Long> pmids = new HashSet<>();
+        if(eSearchResults != null && eSearchResults.getESearchPmids() != null) {
+	        for (ESearchPmid eSearchPmid : eSearchResults.getESearchPmids()) {
+	            if (!useGoldStandardEvidence && StringUtils.equalsIgnoreCase(eSearchPmid.getRetrievalStrategyName(), "GoldStandardRetrievalStrategy")) {
+	                log.info("Running in Testing mode so goldStandardRetreivalStrategy is removed");
+	            } else {
+	                pmids.addAll(eSearchPmid.getPmids());
+	            }
+	        }
+        }
+
+        // create a list of pmids to pass to search
+        List<Long> filtered = new ArrayList<>(pmids);
+        List<String> filteredString = new ArrayList<>(pmids.size());
+        for (long pmid : filtered) {
+            filteredString.add(String.valueOf(pmid));
+        }
+
+        // create temporary map to retrieve Scopus articles by PMID (at the stage below)
+        Map<Long, ScopusArticle> map = new HashMap<>();
+
+        if (useScopusArticles) {
+            List<ScopusArticle> scopusArticles = scopusService.findByPmids(filteredString);
+            for (ScopusArticle scopusArticle : scopusArticles) {
+                map.put(scopusArticle.getPubmedId(), scopusArticle);
+            }
+        }
+
+        // combine PubMed and Scopus articles into a list of ReCiterArticle. Each chunk of PubMed articles is translated
+        // in parallel while the next chunks are loading, and is not referenced anymore once translated.
+        List<CompletableFuture<List<ReCiterArticle>>> translatedChunks = new ArrayList<>();
+        pubMedService.findByPmids(filtered, pubMedArticleChunk ->
+                translatedChunks.add(CompletableFuture.supplyAsync(() -> translate(pubMedArticleChunk, map), translationExecutor)));
+        List<ReCiterArticle> reCiterArticles = new ArrayList<>(filtered.size());
+        for (CompletableFuture<List<ReCiterArticle>> translatedChunk : translatedChunks) {
+            try {
+                reCiterArticles.addAll(translatedChunk.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        //Sanitize Identity names
+        AuthorNameSanitizationUtils authorNameSanitizationUtils = new AuthorNameSanitizationUtils(strategyParameters);
+        identity.setSanitizedNames(authorNameSanitizationUtils.sanitizeIdentityAuthorNames(identity));
+
+        //Sanitize Identity Organizational Units(Division and Department)
+        InstitutionSanitizationUtil institutionalSanitizationUtil = new InstitutionSanitizationUtil(strategyParameters);
+        institutionalSanitizationUtil.populateSanitizedIdentityInstitutions(identity);
+
+        //Find gender probability
+        GenderProbability.getGenderIdentityProbability(identity);
+
+        EngineParameters parameters = new EngineParameters();
+        parameters.setIdentity(identity);
+        // The PubMed articles are only needed for the translation, keeping them would double the memory of the identity.
+        parameters.setPubMedArticles(Collections.emptyList());
+        parameters.setScopusArticles(Collections.emptyList());
+        parameters.setReciterArticles(reCiterArticles);
+
+        if (goldStandard == null) {
+            parameters.setKnownPmids(new ArrayList<>());
+            parameters.setRejectedPmids(new ArrayList<>());
+        } else {
+            parameters.setKnownPmids(goldStandard.getKnownPmids());
+            parameters.setRejectedPmids(goldStandard.getRejectedPmids());
+        }
+        if (totalStandardizedArticleScore == null) {
+            parameters.setTotalStandardzizedArticleScore(strategyParameters.getTotalArticleScoreStandardizedDefault());
+        } else {
+            parameters.setTotalStandardzizedArticleScore(totalStandardizedArticleScore);
+        }
+        return parameters;
+    }
+
+    private List<ReCiterArticle> translate(List<PubMedArticle> pubMedArticles, Map<Long, ScopusArticle> scopusArticles) {
+        List<ReCiterArticle> reCiterArticles = new ArrayList<>(pubMedArticles.size());
+        for (PubMedArticle pubMedArticle : pubMedArticles) {
+            long pmid = pubMedArticle.getMedlinecitation().getMedlinecitationpmid().getPmid();
+            reCiterArticles.add(ArticleTranslator.translate(pubMedArticle, scopusArticles.get(pmid), nameIgnoredCoAuthors, strategyParameters));
+        }
+        return reCiterArticles;
+    }
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *******************************************************************************/
+package reciter.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import reciter.api.parameters.FilterFeedbackType;
+import reciter.engine.analysis.ReCiterArticleFeature;
+import reciter.engine.analysis.ReCiterArticleFeature.PublicationFeedback;
+import reciter.utils.PmidList;
+
+/**
+ * Articles of a stored analysis partitioned by user assertion, so that every <code>filterByFeedback</code> and
+ * <code>totalStandardizedArticleScore</code> combination of the feature generator is answered from one pass over the
+ * partitions it selects.
+ * <p>
+ * Each partition keeps the articles in their stored order together with their position in the analysis, and the
+ * selected partitions are merged back in that order. The view is built for each request, so counting the pending
+ * articles above a threshold only reads the pending partition instead of preparing an index over it.
+ */
+public final class FeedbackFilterView {
+
+	private final Partition accepted;
+
+	private final Partition rejected;
+
+	private final Partition pending;
+
+	private final List<Long> pmids;
+
+	private FeedbackFilterView(Partition accepted, Partition rejected, Partition pending, List<Long> pmids) {
+		this.accepted = accepted;
+		this.rejected = rejected;
+		this.pending = pending;
+		this.pmids = pmids;
+	}
+
+	/**
+	 * @param reCiterArticleFeatures articles of an analysis in their stored order
+	 */
+	public static FeedbackFilterView of(List<ReCiterArticleFeature> reCiterArticleFeatures) {
+		Partition accepted = new Partition();
+		Partition rejected = new Partition();
+		Partition pending = new Partition();
+		List<Long> pmids = new ArrayList<>(reCiterArticleFeatures.size());
+		int position = 0;
+		for(ReCiterArticleFeature reCiterArticleFeature: reCiterArticleFeatures) {
+			pmids.add(reCiterArticleFeature.getPmid());
+			if(reCiterArticleFeature.getUserAssertion() == PublicationFeedback.ACCEPTED) {
+				accepted.add(reCiterArticleFeature, position);
+			} else if(reCiterArticleFeature.getUserAssertion() == PublicationFeedback.REJECTED) {
+				rejected.add(reCiterArticleFeature, position);
+			} else if(reCiterArticleFeature.getUserAssertion() == PublicationFeedback.NULL) {
+				pending.add(reCiterArticleFeature, position);
+			}
+			position++;
+		}
+		return new FeedbackFilterView(accepted, rejected, pending, PmidList.of(pmids));
+	}
+
+	/**
+	 * @return the pmids of all the articles of the analysis in their stored order, as a {@link PmidList}
+	 */
+	public List<Long> getPmids() {
+		return pmids;
+	}
+
+	/**
+	 * @return the number of pending articles scored at least totalScore
+	 */
+	public long countPendingArticles(double totalScore) {
+		long count = 0;
+		for(ReCiterArticleFeature reCiterArticleFeature: pending.articles) {
+			if(reCiterArticleFeature.getTotalArticleScoreStandardized() >= totalScore) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Selects the articles returned for a feedback filter. Pending articles are only selected when scored at least
+	 * totalScore, accepted and rejected articles regardless of their score.
+	 * @param filterByFeedback feedback filter, <code>null</code> means {@link FilterFeedbackType#ALL}
+	 * @return the selected articles in their stored order
+	 */
+	public List<ReCiterArticleFeature> select(FilterFeedbackType filterByFeedback, double totalScore) {
+		boolean includeAccepted = false;
+		boolean includeRejected = false;
+		boolean includePending = false;
+		if(filterByFeedback == null || filterByFeedback == FilterFeedbackType.ALL) {
+			includeAccepted = includeRejected = includePending = true;
+		} else if(filterByFeedback == FilterFeedbackType.ACCEPTED_ONLY) {
+			includeAccepted = true;
+		} else if(filterByFeedback == FilterFeedbackType.REJECTED_ONLY) {
+			includeRejected = true;
+		} else if(filterByFeedback == FilterFeedbackType.ACCEPTED_AND_NULL) {
+			includeAccepted = includePending = true;
+		} else if(filterByFeedback == FilterFeedbackType.REJECTED_AND_NULL) {
+			includeRejected = includePending = true;
+		} else if(filterByFeedback == FilterFeedbackType.ACCEPTED_AND_REJECTED) {
+			includeAccepted = includeRejected = true;
+		} else if(filterByFeedback == FilterFeedbackType.NULL) {
+			includePending = true;
+		}
+		int acceptedCount = includeAccepted ? accepted.size() : 0;
+		int rejectedCount = includeRejected ? rejected.size() : 0;
+		int pendingCount = includePending ? pending.size() : 0;
+		List<ReCiterArticleFeature> selected = new ArrayList<>(acceptedCount + rejectedCount + pendingCount);
+		int a = 0;
+		int r = 0;
+		int p = nextPending(0, pendingCount, totalScore);
+		while(a < acceptedCount || r < rejectedCount || p < pendingCount) {
+			int acceptedPosition = a < acceptedCount ? accepted.positions[a] : Integer.MAX_VALUE;
+			int rejectedPosition = r < rejectedCount ? rejected.positions[r] : Integer.MAX_VALUE;
+			int pendingPosition = p < pendingCount ? pending.positions[p] : Integer.MAX_VALUE;
+			if(acceptedPosition < rejectedPosition && acceptedPosition < pendingPosition) {
+				selected.add(accepted.articles.get(a++));
+			} else if(rejectedPosition < pendingPosition) {
+				selected.add(rejected.articles.get(r++));
+			} else {
+				selected.add(pending.articles.get(p));
+				p = nextPending(p + 1, pendingCount, totalScore);
+			}
+		}
+		return selected;
+	}
+
+	private int nextPending(int from, int pendingCount, double totalScore) {
+		int p = from;
+		while(p < pendingCount && !(pending.articles.get(p).getTotalArticleScoreStandardized() >= totalScore)) {
+			p++;
+		}
+		return p;
+	}
+
+	/**
+	 * Articles having one user assertion, with their position in the analysis.
+	 */
+	private static final class Partition {
+
+		private final List<ReCiterArticleFeature> articles = new ArrayList<>();
+
+		private int[] positions = new int[8];
+
+		private void add(ReCiterArticleFeature reCiterArticleFeature, int position) {
+			if(articles.size() == positions.length) {
+				positions = Arrays.copyOf(positions, positions.length * 2);
+			}
+			positions[articles.size()] = position;
+			articles.add(reCiterArticleFeature);
+		}
+
+		private int size() {
+			return articles.size();
+		}
+	}
+}
@@ -0,0 +1,351 @@
+/*******************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *******************************************************************************/
+package reciter.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import reciter.algorithm.evidence.targetauthor.TargetAuthorSelection;
+import reciter.api.parameters.UseGoldStandard;
+import reciter.database.dynamodb.model.AnalysisOutput;
+import reciter.database.dynamodb.model.ESearchResult;
+import reciter.database.dynamodb.model.GoldStandard;
+import reciter.engine.analysis.ReCiterArticleFeature;
+import reciter.engine.analysis.ReCiterArticleFeature.PublicationFeedback;
+import reciter.engine.analysis.ReCiterFeature;
+import reciter.model.identity.Identity;
+import reciter.service.AnalysisService;
+import reciter.service.ESearchResultService;
+import reciter.service.dynamo.IDynamoDbGoldStandardService;
+
+/**
+ * Runs the feature generator for many identities in one JVM.
+ *
+ * <p>Scoring runs on a bounded work-stealing pool sized to the available cores. The candidate
+ * search results, gold standard and PubMed articles of upcoming identities are loaded on a
+ * separate pool while the current ones are being scored, and at most {@code parallelism + prefetch}
+ * identities are held in memory at any time. Results are stored in the Analysis table the same
+ * way the feature generator API stores them in evidence mode.
+ *
+ * <p>Runs started with {@link #start(List, Double)} are queued and executed one at a time in the
+ * background; their progress is kept in memory for the last {@code retainedRuns} runs and can be
+ * polled with {@link #findRun(String)}.
+ */
+@Slf4j
+@Component
+public class ReCiterBatchEngine {
+
+    @Autowired
+    private ESearchResultService eSearchResultService;
+
+    @Autowired
+    private IDynamoDbGoldStandardService dynamoDbGoldStandardService;
+
+    @Autowired
+    private AnalysisService analysisService;
+
+    @Autowired
+    private EngineParametersLoader engineParametersLoader;
+
+    @Autowired
+    private StrategyParameters strategyParameters;
+
+    @Value("${reciter.feature.generator.keywordCountMax}")
+    private double keywordsMax;
+
+    @Value("${reciter.feature.generator.batch.parallelism:0}")
+    private int parallelism;
+
+    @Value("${reciter.feature.generator.batch.prefetch:0}")
+    private int prefetch;
+
+    @Value("${reciter.feature.generator.batch.progressInterval:100}")
+    private int progressInterval;
+
+    @Value("${reciter.feature.generator.batch.retainedRuns:20}")
+    private int retainedRuns;
+
+    /**
+     * Runs started in the background, oldest first. Guarded by itself.
+     */
+    private final Map<String, BatchRun> runs = new LinkedHashMap<>();
+
+    private ExecutorService runExecutor;
+
+    @PostConstruct
+    private void createRunExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        runExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "batch-feature-generator-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    private void shutdownRunExecutor() {
+        runExecutor.shutdownNow();
+    }
+
+    /**
+     * Queues a run scoring every identity and storing its analysis, and returns right away.
+     * @param identities identities to score
+     * @param totalStandardizedArticleScore score threshold, <code>null</code> uses the default
+     * @return the queued run, its runId can be passed to {@link #findRun(String)}
+     */
+    public BatchEngineOutput start(List<Identity> identities, Double totalStandardizedArticleScore) {
+        BatchRun batchRun = new BatchRun(identities.size());
+        synchronized (runs) {
+            runs.put(batchRun.runId, batchRun);
+            Iterator<BatchRun> iterator = runs.values().iterator();
+            while (runs.size() > Math.max(1, retainedRuns) && iterator.hasNext()) {
+                if (iterator.next().isFinished()) {
+                    iterator.remove();
+                }
+            }
+        }
+        runExecutor.execute(() -> run(identities, totalStandardizedArticleScore, batchRun));
+        return batchRun.toOutput();
+    }
+
+    /**
+     * @return the progress of a run started with {@link #start(List, Double)}, <code>null</code> if it is unknown or no
+     * longer retained
+     */
+    public BatchEngineOutput findRun(String runId) {
+        BatchRun batchRun;
+        synchronized (runs) {
+            batchRun = runs.get(runId);
+        }
+        return batchRun == null ? null : batchRun.toOutput();
+    }
+
+    /**
+     * Scores every identity and stores its analysis on the calling thread.
+     * @param identities identities to score
+     * @param totalStandardizedArticleScore score threshold, <code>null</code> uses the default
+     * @return the uids that completed and failed along with the throughput of the run
+     */
+    public BatchEngineOutput run(List<Identity> identities, Double totalStandardizedArticleScore) {
+        BatchRun batchRun = new BatchRun(identities.size());
+        run(identities, totalStandardizedArticleScore, batchRun);
+        return batchRun.toOutput();
+    }
+
+    private void run(List<Identity> identities, Double totalStandardizedArticleScore, BatchRun batchRun) {
+        final int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        final int lookahead = prefetch > 0 ? prefetch : workers;
+
+        ForkJoinPool scoringPool = new ForkJoinPool(workers);
+        ExecutorService prefetchPool = Executors.newFixedThreadPool(lookahead);
+        Semaphore inFlight = new Semaphore(workers + lookahead);
+
+        List<String> completedUids = batchRun.completedUids;
+        Map<String, String> failedUids = batchRun.failedUids;
+        AtomicInteger processed = batchRun.processed;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(identities.size());
+
+        log.info("Starting batch feature generation run {} for {} identities with parallelism={} prefetch={}", batchRun.runId, identities.size(), workers, lookahead);
+        batchRun.started(workers);
+        final long startTime = batchRun.startNanos;
+        try {
+            for (Identity identity : identities) {
+                inFlight.acquire();
+                final String uid = identity.getUid();
+                futures.add(CompletableFuture
+                        .supplyAsync(() -> loadEngineParameters(identity, totalStandardizedArticleScore), prefetchPool)
+                        .thenAcceptAsync(this::scoreAndStore, scoringPool)
+                        .handle((result, throwable) -> {
+                            inFlight.release();
+                            if (throwable == null) {
+                                completedUids.add(uid);
+                            } else {
+                                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                                log.error("Batch feature generation failed for uid=[" + uid + "]", cause);
+                                failedUids.put(uid, String.valueOf(cause.getMessage()));
+                            }
+                            int count = processed.incrementAndGet();
+                            if (count % progressInterval == 0) {
+                                log.info("Batch feature generation processed {} of {} identities ({} identities/min)", count, identities.size(),
+                                        String.format("%.1f", identitiesPerMinute(count, System.nanoTime() - startTime)));
+                            }
+                            return null;
+                        }));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            batchRun.finished(BatchEngineOutput.Status.COMPLETED, null);
+        } catch (InterruptedException e) {
+            log.error("Thread interrupted while waiting for batch feature generation to finish.");
+            batchRun.finished(BatchEngineOutput.Status.FAILED, "Interrupted before all the identities were processed");
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Batch feature generation run " + batchRun.runId + " failed", e);
+            batchRun.finished(BatchEngineOutput.Status.FAILED, String.valueOf(e.getMessage()));
+        } finally {
+            prefetchPool.shutdown();
+            scoringPool.shutdown();
+        }
+
+        long elapsedNanos = batchRun.elapsedNanos;
+        log.info("Batch feature generation completed {} of {} identities ({} failed) in {}s - {} identities/min",
+                completedUids.size(), identities.size(), failedUids.size(), TimeUnit.NANOSECONDS.toSeconds(elapsedNanos),
+                String.format("%.1f", identitiesPerMinute(completedUids.size(), elapsedNanos)));
+    }
+
+    private EngineParameters loadEngineParameters(Identity identity, Double totalStandardizedArticleScore) {
+        String uid = identity.getUid();
+        ESearchResult eSearchResults = eSearchResultService.findByUid(uid);
+        if (eSearchResults == null) {
+            throw new IllegalStateException("The uid provided '" + uid + "' does not have any candidate records in ESearchResult table.");
+        }
+        GoldStandard goldStandard = dynamoDbGoldStandardService.findByUid(uid);
+        EngineParameters parameters = engineParametersLoader.load(identity, eSearchResults, goldStandard, totalStandardizedArticleScore, true);
+        if (parameters == null) {
+            throw new IllegalStateException("Unable to load the candidate articles for uid '" + uid + "'.");
+        }
+        return parameters;
+    }
+
+    private void scoreAndStore(EngineParameters parameters) {
+        TargetAuthorSelection t = new TargetAuthorSelection();
+        t.identifyTargetAuthor(parameters.getReciterArticles(), parameters.getIdentity());
+
+        double minimumStorageThreshold = strategyParameters.getMinimumStorageThreshold();
+        double filterScore = Math.min(parameters.getTotalStandardzizedArticleScore(), minimumStorageThreshold);
+
+        Engine engine = new ReCiterEngine();
+        EngineContext engineContext = EngineContext.of(strategyParameters, UseGoldStandard.AS_EVIDENCE, filterScore, keywordsMax);
+        EngineOutput engineOutput = engine.run(parameters, engineContext);
+
+        ReCiterFeature reCiterFeature = engineOutput.getReCiterFeature();
+        if (reCiterFeature == null) {
+            return;
+        }
+        if (filterScore != minimumStorageThreshold) {
+            //Enforce Strict Minimum Storage Threshold
+            List<ReCiterArticleFeature> reCiterFilteredArticles = reCiterFeature.getReCiterArticleFeatures()
+                    .stream()
+                    .filter(reCiterArticleFeature -> reCiterArticleFeature.getTotalArticleScoreStandardized() >= minimumStorageThreshold
+                    ||
+                    reCiterArticleFeature.getUserAssertion() == PublicationFeedback.ACCEPTED
+                    ||
+                    reCiterArticleFeature.getUserAssertion() == PublicationFeedback.REJECTED)
+                    .collect(Collectors.toList());
+            reCiterFeature.setReCiterArticleFeatures(reCiterFilteredArticles);
+            reCiterFeature.setCountSuggestedArticles(reCiterFilteredArticles.size());
+        }
+        AnalysisOutput analysisOutput = new AnalysisOutput();
+        analysisOutput.setUid(parameters.getIdentity().getUid());
+        analysisOutput.setReCiterFeature(reCiterFeature);
+        analysisService.save(analysisOutput);
+    }
+
+    private static double identitiesPerMinute(int count, long elapsedNanos) {
+        if (elapsedNanos <= 0) {
+            return 0;
+        }
+        return count * 60_000_000_000d / elapsedNanos;
+    }
+
+    /**
+     * Progress of one run, updated by the scoring threads and read by {@link #findRun(String)}.
+     */
+    private static final class BatchRun {
+
+        private final String runId = UUID.randomUUID().toString();
+        private final int identitiesRequested;
+        private final List<String> completedUids = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, String> failedUids = new ConcurrentHashMap<>();
+        private final AtomicInteger processed = new AtomicInteger();
+        private volatile BatchEngineOutput.Status status = BatchEngineOutput.Status.QUEUED;
+        private volatile String error;
+        private volatile int parallelism;
+        private volatile long startNanos;
+        private volatile long elapsedNanos;
+
+        private BatchRun(int identitiesRequested) {
+            this.identitiesRequested = identitiesRequested;
+        }
+
+        private void started(int workers) {
+            parallelism = workers;
+            startNanos = System.nanoTime();
+            status = BatchEngineOutput.Status.RUNNING;
+        }
+
+        private void finished(BatchEngineOutput.Status finalStatus, String finalError) {
+            elapsedNanos = System.nanoTime() - startNanos;
+            error = finalError;
+            status = finalStatus;
+        }
+
+        private boolean isFinished() {
+            return status == BatchEngineOutput.Status.COMPLETED || status == BatchEngineOutput.Status.FAILED;
+        }
+
+        private BatchEngineOutput toOutput() {
+            BatchEngineOutput.Status currentStatus = status;
+            long currentElapsedNanos;
+            if (currentStatus == BatchEngineOutput.Status.QUEUED) {
+                currentElapsedNanos = 0;
+            } else if (currentStatus == BatchEngineOutput.Status.RUNNING) {
+                currentElapsedNanos = System.nanoTime() - startNanos;
+            } else {
+                currentElapsedNanos = elapsedNanos;
+            }
+            BatchEngineOutput batchEngineOutput = new BatchEngineOutput();
+            batchEngineOutput.setRunId(runId);
+            batchEngineOutput.setStatus(currentStatus);
+            batchEngineOutput.setError(error);
+            batchEngineOutput.setIdentitiesRequested(identitiesRequested);
+            batchEngineOutput.setIdentitiesProcessed(processed.get());
+            synchronized (completedUids) {
+                batchEngineOutput.setCompletedUids(new ArrayList<>(completedUids));
+            }
+            batchEngineOutput.setFailedUids(new LinkedHashMap<>(failedUids));
+            batchEngineOutput.setParallelism(parallelism);
+            batchEngineOutput.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(currentElapsedNanos));
+            batchEngineOutput.setIdentitiesPerMinute(identitiesPerMinute(batchEngineOutput.getCompletedUids().size(), currentElapsedNanos));
+            return batchEngineOutput;
+        }
+    }
+}
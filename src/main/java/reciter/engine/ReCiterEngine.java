@@ -24,7 +24,6 @@ import reciter.algorithm.cluster.ReCiterClusterer;
 import reciter.algorithm.cluster.article.scorer.ArticleScorer;
 import reciter.algorithm.cluster.article.scorer.ReCiterArticleScorer;
 import reciter.algorithm.cluster.model.ReCiterCluster;
-import reciter.api.parameters.UseGoldStandard;
 import reciter.engine.analysis.ReCiterFeature;
 import reciter.engine.erroranalysis.Analysis;
 import reciter.model.article.ReCiterArticle;
@@ -36,26 +35,20 @@ import java.util.List;
 @Slf4j
 public class ReCiterEngine implements Engine {
 
-    public static double clusterSimilarityThresholdScore;
-
-    public static double clutseringGrantsThreshold;
-
     @Override
-    public EngineOutput run(EngineParameters parameters, StrategyParameters strategyParameters, double filterScore, double keywordsMax) {
+    public EngineOutput run(EngineParameters parameters, EngineContext engineContext) {
 
         Identity identity = parameters.getIdentity();
-        clusterSimilarityThresholdScore = strategyParameters.getClusterSimilarityThresholdScore();
-        clutseringGrantsThreshold = strategyParameters.getClusteringGrantsThreshold();
 
         List<ReCiterArticle> reCiterArticles = parameters.getReciterArticles();
 
         Analysis.assignGoldStandard(reCiterArticles, parameters.getKnownPmids(), parameters.getRejectedPmids());
 
         // Perform Phase 1 clustering.
-        Clusterer clusterer = new ReCiterClusterer(identity, reCiterArticles);
+        Clusterer clusterer = new ReCiterClusterer(identity, reCiterArticles, engineContext);
         clusterer.cluster();
 
-        ArticleScorer articleScorer = new ReCiterArticleScorer(clusterer.getClusters(), identity, strategyParameters);
+        ArticleScorer articleScorer = new ReCiterArticleScorer(clusterer.getClusters(), identity, engineContext);
         articleScorer.runArticleScorer(clusterer.getClusters(), identity);
 
         log.info(clusterer.toString());
@@ -68,15 +61,9 @@ public class ReCiterEngine implements Engine {
         }
         engineOutput.setReCiterClusters(reCiterClusters);
         ReCiterFeatureGenerator reCiterFeatureGenerator = new ReCiterFeatureGenerator();
-        UseGoldStandard mode;
-        if (strategyParameters.isUseGoldStandardEvidence()) {
-            mode = UseGoldStandard.AS_EVIDENCE;
-        } else {
-            mode = UseGoldStandard.FOR_TESTING_ONLY;
-        }
 
         ReCiterFeature reCiterFeature = reCiterFeatureGenerator.computeFeatures(
-                mode, filterScore, keywordsMax,
+                engineContext.getUseGoldStandard(), engineContext.getFilterScore(), engineContext.getKeywordsMax(),
                 clusterer, parameters.getKnownPmids(), parameters.getRejectedPmids());
         engineOutput.setReCiterFeature(reCiterFeature);
         return engineOutput;
@@ -40,6 +40,7 @@ import reciter.model.article.ReCiterCites;
 import reciter.model.identity.Identity;
 import reciter.model.scopus.Affiliation;
 import reciter.model.scopus.Author;
+import reciter.utils.PmidList;
 
 @Data
 @Slf4j
@@ -128,7 +129,8 @@ public class ReCiterFeatureGenerator {
         
         List<Long> filteredArticles = selectedArticles.stream().map(article -> article.getArticleId()).collect(Collectors.toList());
         
-        Analysis analysis = Analysis.performAnalysis(finalArticles, filteredArticles, goldStandardPmids);
+        Analysis analysis = Analysis.performAnalysis(PmidList.of(finalArticles), PmidList.of(filteredArticles),
+                goldStandardPmids == null ? null : PmidList.of(goldStandardPmids));
         
         log.info("Analysis for uid=[" + identity.getUid() + "]");
         log.info("Precision=" + analysis.getPrecision());
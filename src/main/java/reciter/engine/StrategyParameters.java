@@ -105,8 +105,6 @@ public class StrategyParameters {
     @Value("${strategy.mesh.major}")
     private boolean isMeshMajor;
 
-    private boolean useGoldStandardEvidence;
-    
     @NotEmpty(message = "namesIgnoredCoauthors should not be empty. Its a list of authors separated by commas who are two common in publications. We found these ones which can be ignored \"Wang Y, Wang J, Smith J, Kim S, Lee S, Lee J\". Notice the format is <lastName><space><firstInitial>.")
     @Value("${namesIgnoredCoauthors}")
     private String nameIgnoredCoAuthors;
@@ -122,6 +120,10 @@ public class StrategyParameters {
     @Positive(message = "clusteringGrants-threshold score needs to be a positive integer number.")
     @Value("${clusteringGrants-threshold}")
     private double clusteringGrantsThreshold;
+    
+    @Positive(message = "reciter.feature.generator.scoring.parallelism needs to be a positive integer number.")
+    @Value("${reciter.feature.generator.scoring.parallelism:1}")
+    private int scoringParallelism;
 
     @Value("${nameMatchFirstType.full-exact}")
     private double nameMatchFirstTypeFullExactScore;
@@ -21,6 +21,7 @@ package reciter.pubmed.retriever;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
+import reciter.configuration.RetrievalHttpClientConfig;
 import reciter.model.pubmed.PubMedArticle;
 
 import java.util.Arrays;
@@ -41,7 +42,7 @@ public class PubMedArticleRetriever {
             return Collections.emptyList();
         }
         String nodeUrl = PUBMED_SERVICE.endsWith("/pubmed")?PUBMED_SERVICE + "/query-complex/" :PUBMED_SERVICE + "/pubmed/query-complex/";
-        RestTemplate restTemplate = new RestTemplate();
+        RestTemplate restTemplate = RetrievalHttpClientConfig.getRetrievalRestTemplate();
         log.info("Sending web request: for query: " + pubMedQuery + ":" + nodeUrl);
         ResponseEntity<PubMedArticle[]> responseEntity = null;
         try {
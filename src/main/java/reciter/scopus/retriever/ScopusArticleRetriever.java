@@ -22,6 +22,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.web.client.RestTemplate;
+import reciter.configuration.RetrievalHttpClientConfig;
 import reciter.model.scopus.ScopusArticle;
 import reciter.model.scopus.ScopusQuery;
 
@@ -56,7 +57,7 @@ public class ScopusArticleRetriever<T> {
             return Collections.emptyList();
         }
         String nodeUrl = SCOPUS_SERVICE.endsWith("/scopus")?SCOPUS_SERVICE + "/query/": SCOPUS_SERVICE + "/scopus/query/";
-        RestTemplate restTemplate = new RestTemplate();
+        RestTemplate restTemplate = RetrievalHttpClientConfig.getRetrievalRestTemplate();
         log.info("Sending web request for query " + queryParams + " modifier:" + queryModifier + ":" + nodeUrl);
         List<Object> pmidList = new ArrayList<>();
         for (T t : queryParams) {
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *******************************************************************************/
+package reciter.service;
+
+import java.util.Date;
+
+/**
+ * Stamp of the stored analysis of a person: a hash of its content and when it was stored. It is read without the
+ * analysis itself, so API clients can revalidate their copy of an analysis cheaply.
+ */
+public class AnalysisOutputVersion {
+
+	private final String contentHash;
+
+	private final Date updatedAt;
+
+	public AnalysisOutputVersion(String contentHash, Date updatedAt) {
+		this.contentHash = contentHash;
+		this.updatedAt = updatedAt;
+	}
+
+	public String getContentHash() {
+		return contentHash;
+	}
+
+	public Date getUpdatedAt() {
+		return updatedAt;
+	}
+}
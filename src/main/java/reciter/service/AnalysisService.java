@@ -29,6 +29,12 @@ public interface AnalysisService {
 	
 	AnalysisOutput findByUid(String uid);
 	
+	/**
+	 * @return the version of the stored analysis of uid, read without the analysis itself. <code>null</code> if there is
+	 * no analysis or it was stored before versions were kept.
+	 */
+	AnalysisOutputVersion findVersionByUid(String uid);
+	
 	List<AnalysisOutput> findByUids(List<String> uids);
 	
 	void deleteAll();
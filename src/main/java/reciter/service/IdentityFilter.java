@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *******************************************************************************/
+package reciter.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import reciter.model.identity.Identity;
+import reciter.model.identity.OrganizationalUnit;
+
+/**
+ * Selects identities by person type, institution and organizational unit label. A criterion left <code>null</code>
+ * matches every identity, otherwise the identity must have at least one of the given values.
+ */
+public class IdentityFilter implements Predicate<Identity> {
+
+	private final List<String> personType;
+
+	private final List<String> organizationalAffiliation;
+
+	private final List<String> departmentalAffiliation;
+
+	public IdentityFilter(List<String> personType, List<String> organizationalAffiliation, List<String> departmentalAffiliation) {
+		this.personType = personType;
+		this.organizationalAffiliation = organizationalAffiliation;
+		this.departmentalAffiliation = departmentalAffiliation;
+	}
+
+	@Override
+	public boolean test(Identity identity) {
+		return ((personType == null)?
+				true:
+				(identity.getPersonTypes() != null
+				&&
+				!identity.getPersonTypes().isEmpty() && !Collections.disjoint(identity.getPersonTypes(), personType)))
+				&&
+				((organizationalAffiliation == null)?
+				true:
+				(identity.getInstitutions() != null
+				&&
+				!identity.getInstitutions().isEmpty()
+				&&
+				!Collections.disjoint(identity.getInstitutions(), organizationalAffiliation)))
+				&&
+				((departmentalAffiliation == null)?
+				true:
+				(identity.getOrganizationalUnits() != null
+				&&
+				!identity.getOrganizationalUnits().isEmpty()
+				&&
+				!Collections.disjoint(identity.getOrganizationalUnits().stream()
+						.map(OrganizationalUnit::getOrganizationalUnitLabel)
+						.collect(Collectors.toList()), departmentalAffiliation)));
+	}
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *******************************************************************************/
+package reciter.service;
+
+import java.util.List;
+
+import reciter.model.identity.Identity;
+
+/**
+ * One page of identities and the cursor of the next page.
+ */
+public class IdentityPage {
+
+	/**
+	 * Response header carrying the cursor of the next page of a paged API call, absent after the last page.
+	 */
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+	private final List<Identity> identities;
+
+	private final String nextCursor;
+
+	public IdentityPage(List<Identity> identities, String nextCursor) {
+		this.identities = identities;
+		this.nextCursor = nextCursor;
+	}
+
+	public List<Identity> getIdentities() {
+		return identities;
+	}
+
+	/**
+	 * @return the cursor of the next page, <code>null</code> after the last page
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+}
@@ -20,6 +20,7 @@ package reciter.service;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
 
 import reciter.model.identity.Identity;
 
@@ -34,6 +35,15 @@ public interface IdentityService {
 	Identity findByUid(String uid);
 
 	List<Identity> findAll();
+
+	/**
+	 * Finds the identities of one page, in the order of the Identity table.
+	 * @param pageSize maximum number of identities of the page
+	 * @param cursor cursor returned with the previous page, <code>null</code> for the first page
+	 * @param filter identities to keep, the page may have less than pageSize identities when some do not match
+	 * @throws IllegalArgumentException if the cursor is not valid
+	 */
+	IdentityPage findPage(int pageSize, String cursor, Predicate<Identity> filter);
 	
 	void deleteAll();
 
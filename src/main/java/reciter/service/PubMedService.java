@@ -20,6 +20,7 @@ package reciter.service;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import reciter.model.pubmed.PubMedArticle;
 
@@ -29,5 +30,10 @@ public interface PubMedService {
 	
 	List<PubMedArticle> findByPmids(List<Long> pmids);
 	
+	/**
+	 * Loads the articles in chunks and hands each chunk to the consumer as soon as it is loaded.
+	 */
+	void findByPmids(List<Long> pmids, Consumer<List<PubMedArticle>> chunkConsumer);
+	
 	PubMedArticle findByPmid(Long pmid);
 }
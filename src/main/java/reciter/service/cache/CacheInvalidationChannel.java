@@ -0,0 +1,27 @@
+package reciter.service.cache;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidations to every running ReCiter instance, so an item changed through one instance is not served
+ * stale from the in-memory cache of another one.
+ * <p>
+ * {@link InProcessCacheInvalidationChannel} only reaches the current instance. A deployment running several instances
+ * can declare a <code>@Primary</code> bean backed by a shared channel (e.g. SNS, SQS or Redis pub/sub).
+ */
+public interface CacheInvalidationChannel {
+
+    /**
+     * Invalidates keys of a cache on every instance, including this one.
+     * @param cacheName name of the cache
+     * @param keys keys to invalidate, an empty collection invalidates the whole cache
+     */
+    void publish(String cacheName, Collection<String> keys);
+
+    /**
+     * @param cacheName name of the cache
+     * @param listener receives the invalidated keys, an empty collection meaning the whole cache
+     */
+    void subscribe(String cacheName, Consumer<Collection<String>> listener);
+}
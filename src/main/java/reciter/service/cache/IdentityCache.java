@@ -0,0 +1,162 @@
+package reciter.service.cache;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import reciter.model.identity.Identity;
+
+/**
+ * Bounded in-memory cache of identities by uid, with a time to live.
+ * <p>
+ * Identities are kept as json and every lookup returns a new copy, because callers modify the identity they get (e.g.
+ * the sanitized names set before scoring). Parsing a few kilobytes of json is still much cheaper than a DynamoDB
+ * GetItem. Entries are dropped when the invalidation channel reports a change; a lookup that started loading before an
+ * invalidation does not cache what it loaded.
+ */
+@Slf4j
+public class IdentityCache {
+
+    public static final String CACHE_NAME = "identity";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Map<String, Entry> entries;
+
+    private final long ttlMillis;
+
+    private final CacheInvalidationChannel invalidationChannel;
+
+    /**
+     * Incremented by every invalidation, so loads that overlap an invalidation are not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public IdentityCache(int maxSize, long ttlMillis, CacheInvalidationChannel invalidationChannel) {
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.ttlMillis = ttlMillis;
+        this.invalidationChannel = invalidationChannel;
+        invalidationChannel.subscribe(CACHE_NAME, this::invalidateLocally);
+    }
+
+    /**
+     * @param loader loads the identity when it is not cached, may return <code>null</code>
+     * @return a copy of the cached identity, or the loaded one
+     */
+    public Identity get(String uid, Function<String, Identity> loader) {
+        byte[] json = getJson(uid);
+        if (json != null) {
+            Identity identity = fromJson(json);
+            if (identity != null) {
+                return identity;
+            }
+        }
+        long loadGeneration = generation.get();
+        Identity identity = loader.apply(uid);
+        if (identity != null) {
+            put(uid, identity, loadGeneration);
+        }
+        return identity;
+    }
+
+    /**
+     * @return a copy of the cached identity, <code>null</code> if it is not cached
+     */
+    public Identity getIfPresent(String uid) {
+        byte[] json = getJson(uid);
+        return json == null ? null : fromJson(json);
+    }
+
+    /**
+     * @return the current generation, to pass to {@link #put(String, Identity, long)} after loading an identity
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a loaded identity unless an invalidation happened since loadGeneration.
+     */
+    public void put(String uid, Identity identity, long loadGeneration) {
+        byte[] json;
+        try {
+            json = OBJECT_MAPPER.writeValueAsBytes(identity);
+        } catch (JsonProcessingException e) {
+            log.warn("Unable to cache identity " + uid + ": " + e.getMessage());
+            return;
+        }
+        synchronized (entries) {
+            if (generation.get() == loadGeneration) {
+                entries.put(uid, new Entry(json, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+    }
+
+    /**
+     * Invalidates the identities on every instance.
+     * @param uids uids to invalidate, an empty collection invalidates all the identities
+     */
+    public void invalidate(Collection<String> uids) {
+        invalidationChannel.publish(CACHE_NAME, uids);
+    }
+
+    private void invalidateLocally(Collection<String> uids) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            if (uids.isEmpty()) {
+                entries.clear();
+            } else {
+                entries.keySet().removeAll(uids);
+            }
+        }
+    }
+
+    private byte[] getJson(String uid) {
+        synchronized (entries) {
+            Entry entry = entries.get(uid);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt < System.currentTimeMillis()) {
+                entries.remove(uid);
+                return null;
+            }
+            return entry.json;
+        }
+    }
+
+    private static Identity fromJson(byte[] json) {
+        try {
+            return OBJECT_MAPPER.readValue(json, Identity.class);
+        } catch (IOException e) {
+            log.warn("Unable to read cached identity: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static final class Entry {
+
+        private final byte[] json;
+
+        private final long expiresAt;
+
+        private Entry(byte[] json, long expiresAt) {
+            this.json = json;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
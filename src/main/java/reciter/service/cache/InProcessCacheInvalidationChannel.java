@@ -0,0 +1,31 @@
+package reciter.service.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers invalidations synchronously to the listeners of this instance only.
+ */
+@Component
+public class InProcessCacheInvalidationChannel implements CacheInvalidationChannel {
+
+    private final Map<String, List<Consumer<Collection<String>>>> listenersByCache = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String cacheName, Collection<String> keys) {
+        for (Consumer<Collection<String>> listener : listenersByCache.getOrDefault(cacheName, List.of())) {
+            listener.accept(keys);
+        }
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<Collection<String>> listener) {
+        listenersByCache.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+}
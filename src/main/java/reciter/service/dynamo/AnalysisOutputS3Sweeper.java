@@ -0,0 +1,118 @@
+package reciter.service.dynamo;
+
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import reciter.database.dynamodb.DynamoDbS3Operations;
+import reciter.database.dynamodb.model.AnalysisOutput;
+import reciter.database.dynamodb.repository.AnalysisOutputRepository;
+import reciter.service.AnalysisOutputVersion;
+import reciter.storage.s3.AmazonS3Config;
+
+/**
+ * Removes the S3 copy of an analysis that is stored in DynamoDB again, because its size went back under the item
+ * limit. This runs in the background after the save instead of on every read of the analysis.
+ * <p>
+ * The usingS3 flag of the item marks where the analysis is stored. The S3 object is only deleted while the item
+ * still says it is stored in DynamoDB and the object is older than that save, so a later save that moved the
+ * analysis back to S3 is never undone. An object stored within the clock skew margin of the save cannot be told apart
+ * from one stored by a later save, so the sweep is retried once the margin has passed and deletes it then if the item
+ * still has the version the save wrote: every save to S3 removes that version before storing its object.
+ * <p>
+ * A save to S3 can still store its object between the checks and the delete. The save stores its object again when
+ * it finds it missing after flipping usingS3, and the sweep re-reads the item after deleting and logs the analysis
+ * that was lost if the save had already passed that check.
+ */
+@Slf4j
+@Component
+public class AnalysisOutputS3Sweeper {
+
+	@Autowired
+	private AnalysisOutputRepository analysisOutputRepository;
+
+	@Autowired
+	private AnalysisOutputVersionStore analysisOutputVersionStore;
+
+	@Autowired(required=false)
+	private DynamoDbS3Operations ddbs3;
+
+	/**
+	 * Margin for the clock difference between this host and S3 when comparing the save date with the object date.
+	 */
+	@Value("${aws.s3.analysisOutput.sweep.clockSkewMillis:60000}")
+	private long clockSkewMillis;
+
+	private ScheduledExecutorService retryExecutor;
+
+	@PostConstruct
+	private void init() {
+		retryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "analysis-s3-sweep-retry");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@PreDestroy
+	private void shutdown() {
+		retryExecutor.shutdownNow();
+	}
+
+	/**
+	 * Deletes the S3 copy of the analysis of uid if there is a stale one.
+	 * @param uid
+	 * @param storedInDynamoDbAt when the analysis was saved in DynamoDB
+	 * @param storedVersion the version written by that save, <code>null</code> if it has none
+	 */
+	@Async
+	public void sweep(String uid, Date storedInDynamoDbAt, AnalysisOutputVersion storedVersion) {
+		sweep(uid, storedInDynamoDbAt, storedVersion, false);
+	}
+
+	private void sweep(String uid, Date storedInDynamoDbAt, AnalysisOutputVersion storedVersion, boolean retry) {
+		if(ddbs3 == null) {
+			return;
+		}
+		String keyName = AnalysisOutput.class.getSimpleName() + "/" + uid;
+		try {
+			AnalysisOutput analysisOutput = analysisOutputRepository.findById(uid).orElseGet(() -> null);
+			if(analysisOutput == null || analysisOutput.isUsingS3()) {
+				return;
+			}
+			Date objectStoredAt = ddbs3.getObjectSaveTimestamp(AmazonS3Config.BUCKET_NAME, keyName);
+			if(objectStoredAt == null) {
+				return;
+			}
+			if(!objectStoredAt.before(new Date(storedInDynamoDbAt.getTime() - clockSkewMillis))) {
+				if(!retry) {
+					retryExecutor.schedule(() -> sweep(uid, storedInDynamoDbAt, storedVersion, true), clockSkewMillis, TimeUnit.MILLISECONDS);
+					return;
+				}
+				if(!analysisOutputVersionStore.isUnchangedSince(uid, storedVersion)) {
+					log.debug("Keeping s3 copy of analysis for " + uid + " since the analysis was saved again");
+					return;
+				}
+			}
+			ddbs3.deleteLargeItem(AmazonS3Config.BUCKET_NAME, keyName);
+			log.debug("Removed stale s3 copy of analysis for " + uid);
+
+			analysisOutput = analysisOutputRepository.findById(uid).orElseGet(() -> null);
+			if(analysisOutput != null && analysisOutput.isUsingS3() && ddbs3.getObjectSaveTimestamp(AmazonS3Config.BUCKET_NAME, keyName) == null) {
+				log.error("The s3 copy of analysis for " + uid + " was removed while the analysis was saved to s3 again, the analysis has to be generated again");
+			}
+		} catch(RuntimeException e) {
+			log.warn("Unable to sweep s3 copy of analysis for " + uid, e);
+		}
+	}
+}
@@ -0,0 +1,257 @@
+package reciter.service.dynamo;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperTableModel;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.UpdateItemRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import reciter.database.dynamodb.model.AnalysisOutput;
+import reciter.service.AnalysisOutputVersion;
+
+/**
+ * Keeps the version of each analysis in two extra attributes of its AnalysisOutput item: a hash of the serialized
+ * ReCiterFeature and the time it was stored. The AnalysisOutput model has no such fields, so the item is written and
+ * read here with plain UpdateItem and GetItem requests built from the mapper table model.
+ * <p>
+ * A version is only ever written for content known to be stored, so a failed or concurrent save leaves an analysis
+ * without a version rather than with a wrong one:
+ * <ul>
+ * <li>An analysis kept in DynamoDB is written together with its version in a single UpdateItem.</li>
+ * <li>An analysis kept in S3 first has its version removed ({@link #invalidate(String)}). Once the S3 object is stored,
+ * the item is written with a save token instead of a version ({@link #saveAwaitingVersion(AnalysisOutput)}) and the
+ * version is then set only if no other save replaced that token meanwhile ({@link #stamp(String, String, String)}).</li>
+ * </ul>
+ * Reading a version only fetches these two attributes, never the analysis, wherever the analysis is stored.
+ */
+@Slf4j
+@Component
+public class AnalysisOutputVersionStore {
+
+	/**
+	 * Name of the S3 user metadata holding the content hash of an analysis stored in S3.
+	 */
+	static final String CONTENT_HASH_METADATA = "content-hash";
+
+	private static final String CONTENT_HASH_ATTRIBUTE = "contentHash";
+
+	private static final String CONTENT_UPDATED_AT_ATTRIBUTE = "contentUpdatedAt";
+
+	private static final String SAVE_TOKEN_ATTRIBUTE = "contentSaveToken";
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	@Autowired
+	private AmazonDynamoDB amazonDynamoDB;
+
+	private DynamoDBMapperTableModel<AnalysisOutput> tableModel;
+
+	private String tableName;
+
+	private String hashKeyName;
+
+	@PostConstruct
+	private void init() {
+		tableName = DynamoDBMapperConfig.DefaultTableNameResolver.INSTANCE.getTableName(AnalysisOutput.class, DynamoDBMapperConfig.DEFAULT);
+		tableModel = new DynamoDBMapper(amazonDynamoDB).getTableModel(AnalysisOutput.class);
+		hashKeyName = tableModel.hashKey().name();
+	}
+
+	/**
+	 * Saves an analysis kept in DynamoDB along with its version, the same way the mapper saves it: null attributes are
+	 * removed and attributes outside the model are left in place.
+	 * @param reCiterFeatureJson the ReCiterFeature of the analysis already serialized, <code>null</code> to serialize it here
+	 * @return the version written, <code>null</code> if the analysis could not be hashed and has no version
+	 */
+	public AnalysisOutputVersion saveWithVersion(AnalysisOutput analysis, byte[] reCiterFeatureJson) {
+		Map<String, AttributeValue> versionAttributes = new HashMap<>();
+		AnalysisOutputVersion version = null;
+		try {
+			byte[] json = (reCiterFeatureJson != null) ? reCiterFeatureJson : OBJECT_MAPPER.writeValueAsBytes(analysis.getReCiterFeature());
+			version = new AnalysisOutputVersion(contentHash(json), new Date());
+			versionAttributes.put(CONTENT_HASH_ATTRIBUTE, new AttributeValue().withS(version.getContentHash()));
+			versionAttributes.put(CONTENT_UPDATED_AT_ATTRIBUTE, new AttributeValue().withN(String.valueOf(version.getUpdatedAt().getTime())));
+		} catch (JsonProcessingException e) {
+			log.warn("Unable to hash the analysis for " + analysis.getUid() + ", it is stored without a version: " + e.getMessage());
+			versionAttributes.put(CONTENT_HASH_ATTRIBUTE, null);
+			versionAttributes.put(CONTENT_UPDATED_AT_ATTRIBUTE, null);
+		}
+		// Any save of the same analysis waiting to stamp its version loses its token.
+		versionAttributes.put(SAVE_TOKEN_ATTRIBUTE, null);
+		writeItem(analysis, versionAttributes);
+		return version;
+	}
+
+	/**
+	 * Removes the version of the stored analysis of uid before its content is replaced outside of the item. Any save of
+	 * the same analysis waiting to stamp its version loses its token.
+	 */
+	public void invalidate(String uid) {
+		try {
+			amazonDynamoDB.updateItem(new UpdateItemRequest()
+					.withTableName(tableName)
+					.withKey(keyOf(uid))
+					.withUpdateExpression("REMOVE #hash, #updatedAt SET #token = :token")
+					.withConditionExpression("attribute_exists(#key)")
+					.withExpressionAttributeNames(Map.of("#key", hashKeyName, "#hash", CONTENT_HASH_ATTRIBUTE, "#updatedAt", CONTENT_UPDATED_AT_ATTRIBUTE, "#token", SAVE_TOKEN_ATTRIBUTE))
+					.withExpressionAttributeValues(Map.of(":token", new AttributeValue().withS(UUID.randomUUID().toString()))));
+		} catch (ConditionalCheckFailedException e) {
+			log.debug("No analysis stored for " + uid + ", there is no version to remove");
+		}
+	}
+
+	/**
+	 * Saves an analysis whose content was just stored outside of the item, without a version.
+	 * @return the token to pass to {@link #stamp(String, String, String)} once the stored content is known
+	 */
+	public String saveAwaitingVersion(AnalysisOutput analysis) {
+		String saveToken = UUID.randomUUID().toString();
+		Map<String, AttributeValue> versionAttributes = new HashMap<>();
+		versionAttributes.put(CONTENT_HASH_ATTRIBUTE, null);
+		versionAttributes.put(CONTENT_UPDATED_AT_ATTRIBUTE, null);
+		versionAttributes.put(SAVE_TOKEN_ATTRIBUTE, new AttributeValue().withS(saveToken));
+		writeItem(analysis, versionAttributes);
+		return saveToken;
+	}
+
+	/**
+	 * Sets the version of the analysis of uid, unless another save of it started since saveToken was issued.
+	 * @param contentHash hash of the content as it is stored, see {@link #contentHash(byte[])}
+	 */
+	public void stamp(String uid, String saveToken, String contentHash) {
+		try {
+			amazonDynamoDB.updateItem(new UpdateItemRequest()
+					.withTableName(tableName)
+					.withKey(keyOf(uid))
+					.withUpdateExpression("SET #hash = :hash, #updatedAt = :updatedAt REMOVE #token")
+					.withConditionExpression("#token = :token")
+					.withExpressionAttributeNames(Map.of("#hash", CONTENT_HASH_ATTRIBUTE, "#updatedAt", CONTENT_UPDATED_AT_ATTRIBUTE, "#token", SAVE_TOKEN_ATTRIBUTE))
+					.withExpressionAttributeValues(Map.of(
+							":hash", new AttributeValue().withS(contentHash),
+							":updatedAt", new AttributeValue().withN(String.valueOf(System.currentTimeMillis())),
+							":token", new AttributeValue().withS(saveToken))));
+		} catch (ConditionalCheckFailedException e) {
+			log.debug("The analysis for " + uid + " was saved again meanwhile, its version is left to that save");
+		} catch (AmazonClientException e) {
+			log.warn("Unable to store the version of the analysis for " + uid + ", it is served without one until saved again: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * @return the version of the analysis of uid, <code>null</code> if there is no analysis or it has no version
+	 */
+	public AnalysisOutputVersion find(String uid) {
+		return find(uid, false);
+	}
+
+	/**
+	 * @return true if the analysis of uid still has the given version, which no save of it since the one that wrote the
+	 * version leaves in place
+	 */
+	boolean isUnchangedSince(String uid, AnalysisOutputVersion version) {
+		AnalysisOutputVersion currentVersion = find(uid, true);
+		return version != null && currentVersion != null
+				&& version.getContentHash().equals(currentVersion.getContentHash())
+				&& version.getUpdatedAt().equals(currentVersion.getUpdatedAt());
+	}
+
+	private AnalysisOutputVersion find(String uid, boolean consistentRead) {
+		GetItemResult result = amazonDynamoDB.getItem(new GetItemRequest()
+				.withTableName(tableName)
+				.withKey(keyOf(uid))
+				.withConsistentRead(consistentRead)
+				.withProjectionExpression("#hash, #updatedAt")
+				.withExpressionAttributeNames(Map.of("#hash", CONTENT_HASH_ATTRIBUTE, "#updatedAt", CONTENT_UPDATED_AT_ATTRIBUTE)));
+		Map<String, AttributeValue> item = result.getItem();
+		if(item == null || item.get(CONTENT_HASH_ATTRIBUTE) == null || item.get(CONTENT_UPDATED_AT_ATTRIBUTE) == null) {
+			return null;
+		}
+		return new AnalysisOutputVersion(item.get(CONTENT_HASH_ATTRIBUTE).getS(), new Date(Long.parseLong(item.get(CONTENT_UPDATED_AT_ATTRIBUTE).getN())));
+	}
+
+	/**
+	 * Writes the modeled attributes of analysis and the given version attributes in one UpdateItem.
+	 * @param versionAttributes attributes outside the model to set, the ones mapped to <code>null</code> are removed
+	 */
+	private void writeItem(AnalysisOutput analysis, Map<String, AttributeValue> versionAttributes) {
+		Map<String, AttributeValue> item = tableModel.convert(analysis);
+		Map<String, AttributeValue> attributes = new LinkedHashMap<>();
+		for(DynamoDBMapperFieldModel<AnalysisOutput, Object> field: tableModel.fields()) {
+			if(!field.name().equals(hashKeyName)) {
+				attributes.put(field.name(), item.get(field.name()));
+			}
+		}
+		attributes.putAll(versionAttributes);
+		Map<String, String> names = new HashMap<>();
+		Map<String, AttributeValue> values = new HashMap<>();
+		List<String> setActions = new ArrayList<>();
+		List<String> removeActions = new ArrayList<>();
+		int index = 0;
+		for(Map.Entry<String, AttributeValue> attribute: attributes.entrySet()) {
+			String name = "#a" + index;
+			names.put(name, attribute.getKey());
+			if(attribute.getValue() == null) {
+				removeActions.add(name);
+			} else {
+				values.put(":a" + index, attribute.getValue());
+				setActions.add(name + " = :a" + index);
+			}
+			index++;
+		}
+		String updateExpression = "SET " + String.join(", ", setActions);
+		if(!removeActions.isEmpty()) {
+			updateExpression += " REMOVE " + String.join(", ", removeActions);
+		}
+		amazonDynamoDB.updateItem(new UpdateItemRequest()
+				.withTableName(tableName)
+				.withKey(Collections.singletonMap(hashKeyName, item.get(hashKeyName)))
+				.withUpdateExpression(updateExpression)
+				.withExpressionAttributeNames(names)
+				.withExpressionAttributeValues(values));
+	}
+
+	private Map<String, AttributeValue> keyOf(String uid) {
+		return Collections.singletonMap(hashKeyName, new AttributeValue().withS(uid));
+	}
+
+	/**
+	 * @return hash of the serialized ReCiterFeature of an analysis
+	 */
+	static String contentHash(byte[] json) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+			StringBuilder hash = new StringBuilder();
+			for(int i = 0; i < 16; i++) {
+				hash.append(String.format("%02x", digest[i]));
+			}
+			return hash.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -1,8 +1,11 @@
 package reciter.service.dynamo;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import com.amazonaws.services.dynamodbv2.model.AmazonDynamoDBException;
 
@@ -15,6 +18,7 @@ import reciter.database.dynamodb.DynamoDbS3Operations;
 import reciter.database.dynamodb.model.AnalysisOutput;
 import reciter.database.dynamodb.repository.AnalysisOutputRepository;
 import reciter.engine.analysis.ReCiterFeature;
+import reciter.service.AnalysisOutputVersion;
 import reciter.service.AnalysisService;
 import reciter.storage.s3.AmazonS3Config;
 
@@ -28,23 +32,49 @@ public class AnalysisServiceImpl implements AnalysisService{
 	@Autowired(required=false)
 	private DynamoDbS3Operations ddbs3;
 	
+	@Autowired
+	private AnalysisOutputS3Sweeper analysisOutputS3Sweeper;
+	
+	@Autowired
+	private AnalysisOutputVersionStore analysisOutputVersionStore;
+	
     @Value("${aws.s3.use}")
     private boolean isS3Use;
     
     @Value("${aws.dynamoDb.local}")
     private boolean isDynamoDbLocal;
+    
+    /**
+     * Analyses whose serialized ReCiterFeature is larger than this are stored in S3 without trying DynamoDB first.
+     */
+    @Value("${aws.dynamodb.settings.analysisOutput.maxItemBytes:380000}")
+    private int maxDynamoDbItemBytes;
 
 	@Override
 	public void save(AnalysisOutput analysis) {
+		byte[] reCiterFeatureJson = null;
+		if(isS3Use && !isDynamoDbLocal && ddbs3 != null) {
+			reCiterFeatureJson = ddbs3.serialize(analysis.getReCiterFeature());
+			if(reCiterFeatureJson != null && reCiterFeatureJson.length > maxDynamoDbItemBytes) {
+				log.info("Storing item in s3 since its size of " + reCiterFeatureJson.length + " bytes exceeds the dynamodb item limit");
+				saveInS3(analysis, reCiterFeatureJson);
+				return;
+			}
+		}
 		try{
-			analysisOutputRepository.save(analysis);
+			Date storedInDynamoDbAt = new Date();
+			analysis.setUsingS3(false);
+			AnalysisOutputVersion storedVersion = analysisOutputVersionStore.saveWithVersion(analysis, reCiterFeatureJson);
+			if(isS3Use && !isDynamoDbLocal) {
+				analysisOutputS3Sweeper.sweep(analysis.getUid(), storedInDynamoDbAt, storedVersion);
+			}
 		} catch(AmazonDynamoDBException addbe) {
 			if(isS3Use && !isDynamoDbLocal) {
 				log.info("Storing item in s3 since it item size exceeds more than 400kb");
-				ddbs3.saveLargeItem(AmazonS3Config.BUCKET_NAME, analysis.getReCiterFeature(), AnalysisOutput.class.getSimpleName() + "/" + analysis.getUid());
-				analysis.setReCiterFeature(null);
-				analysis.setUsingS3(true);
-				analysisOutputRepository.save(analysis);
+				if(reCiterFeatureJson == null) {
+					reCiterFeatureJson = ddbs3.serialize(analysis.getReCiterFeature());
+				}
+				saveInS3(analysis, reCiterFeatureJson);
 			} else if(isDynamoDbLocal){
 				log.info("You are running dynamodb in local mode. Add AWS access key and secret key to environment variable to enable S3 storage.");
 			} else {
@@ -57,7 +87,6 @@ public class AnalysisServiceImpl implements AnalysisService{
 	@Override
 	public AnalysisOutput findByUid(String uid) {
 		AnalysisOutput analysisOutput = analysisOutputRepository.findById(uid).orElseGet(() -> null);
-		performResourceCleanup(analysisOutput);
 		if(analysisOutput != null 
 				&&
 				analysisOutput.isUsingS3()) {
@@ -68,6 +97,11 @@ public class AnalysisServiceImpl implements AnalysisService{
 		return analysisOutput;
 	}
 
+	@Override
+	public AnalysisOutputVersion findVersionByUid(String uid) {
+		return analysisOutputVersionStore.find(uid);
+	}
+
 	@Override
 	public void deleteAll() {
 		 analysisOutputRepository.deleteAll();
@@ -97,21 +131,36 @@ public class AnalysisServiceImpl implements AnalysisService{
         return analysisOutputs;
 	}
 	
-	private void performResourceCleanup(AnalysisOutput analysisOutput) {
-		if(analysisOutput != null) {
-			//Case where Size has increased 400kb and reciterFeature needs to be null in dynamoDB
-			if(analysisOutput.isUsingS3() && analysisOutput.getReCiterFeature() != null) {
-				analysisOutput.setReCiterFeature(null);
-				log.debug("Performing cleanup for analysis size > 400 kb for " + analysisOutput.getUid());
-				analysisOutputRepository.save(analysisOutput);
-			}
-			//case when size decreases < 400kb then remove object from S3
-			//Might Have to change it when isUsingS3 == true - ToDo
-			//Does increase 1 more api call to check - only will increase for objects stored in dynamodb.
-			if((!analysisOutput.isUsingS3() || analysisOutput.isUsingS3()) && analysisOutput.getReCiterFeature() != null) {
-				log.debug("Performing cleanup for analysis size < 400 kb for " + analysisOutput.getUid());
-				ddbs3.deleteLargeItem(AmazonS3Config.BUCKET_NAME, AnalysisOutput.class.getSimpleName() + "/" + analysisOutput.getUid());
+	/**
+	 * Stores the ReCiterFeature compressed in S3 and the analysis without it in DynamoDB. The version of the analysis is
+	 * removed first and set again from the hash stored with the S3 object once both writes succeeded, so it always
+	 * matches the content actually stored even when saves of the same analysis overlap.
+	 * <p>
+	 * The object is stored again if it is gone once the item says the analysis is in S3, since the
+	 * {@link AnalysisOutputS3Sweeper} of an earlier save kept in DynamoDB may have removed it in between.
+	 */
+	private void saveInS3(AnalysisOutput analysis, byte[] reCiterFeatureJson) {
+		String keyName = AnalysisOutput.class.getSimpleName() + "/" + analysis.getUid();
+		Map<String, String> contentMetadata = Collections.singletonMap(AnalysisOutputVersionStore.CONTENT_HASH_METADATA, AnalysisOutputVersionStore.contentHash(reCiterFeatureJson));
+		analysisOutputVersionStore.invalidate(analysis.getUid());
+		if(!ddbs3.saveCompressedLargeItem(AmazonS3Config.BUCKET_NAME, reCiterFeatureJson, keyName, contentMetadata)) {
+			log.error("Unable to store the analysis for " + analysis.getUid() + " in s3, the previous analysis is kept");
+			return;
+		}
+		analysis.setReCiterFeature(null);
+		analysis.setUsingS3(true);
+		String saveToken = analysisOutputVersionStore.saveAwaitingVersion(analysis);
+		Map<String, String> userMetadata = ddbs3.getObjectUserMetadata(AmazonS3Config.BUCKET_NAME, keyName);
+		if(userMetadata == null) {
+			log.warn("The s3 copy of analysis for " + analysis.getUid() + " was removed during its save, storing it again");
+			if(!ddbs3.saveCompressedLargeItem(AmazonS3Config.BUCKET_NAME, reCiterFeatureJson, keyName, contentMetadata)) {
+				log.error("Unable to store the analysis for " + analysis.getUid() + " in s3 again, it has to be generated again");
+				return;
 			}
+			userMetadata = ddbs3.getObjectUserMetadata(AmazonS3Config.BUCKET_NAME, keyName);
+		}
+		if(userMetadata != null && userMetadata.get(AnalysisOutputVersionStore.CONTENT_HASH_METADATA) != null) {
+			analysisOutputVersionStore.stamp(analysis.getUid(), saveToken, userMetadata.get(AnalysisOutputVersionStore.CONTENT_HASH_METADATA));
 		}
 	}
 
@@ -2,14 +2,13 @@ package reciter.service.dynamo;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import reciter.database.dynamodb.DynamoDbParallelScanner;
 import reciter.database.dynamodb.model.InstitutionAfid;
 import reciter.database.dynamodb.model.MeshTerm;
 import reciter.database.dynamodb.repository.DynamoDbInstitutionAfidRepository;
 import reciter.model.identity.Identity;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 @Service("dynamoDbInstitutionAfidService")
@@ -18,6 +17,9 @@ public class DynamoDbInstitutionAfidService implements IDynamoDbInstitutionAfidS
     @Autowired
     private DynamoDbInstitutionAfidRepository dynamoDbInstitutionAfidRepository;
 
+    @Autowired
+    private DynamoDbParallelScanner dynamoDbParallelScanner;
+
     @Override
     public void save(Collection<InstitutionAfid> institutionAfids) {
         dynamoDbInstitutionAfidRepository.saveAll(institutionAfids);
@@ -30,14 +32,7 @@ public class DynamoDbInstitutionAfidService implements IDynamoDbInstitutionAfidS
     
     @Override
     public List<InstitutionAfid> findAll() {
-    	Iterable<InstitutionAfid> institutionsAfidIterable = dynamoDbInstitutionAfidRepository.findAll();
-        List<InstitutionAfid> institutionAfids = new ArrayList<>();
-        Iterator<InstitutionAfid> iterator = institutionsAfidIterable.iterator();
-        while (iterator.hasNext()) {
-        	InstitutionAfid institutionAfid = iterator.next();
-        	institutionAfids.add(institutionAfid);
-        }
-        return institutionAfids;
+        return dynamoDbParallelScanner.scan(InstitutionAfid.class);
     }
     
     @Override
@@ -2,12 +2,11 @@ package reciter.service.dynamo;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import reciter.database.dynamodb.DynamoDbParallelScanner;
 import reciter.database.dynamodb.model.MeshTerm;
 import reciter.database.dynamodb.repository.DynamoMeshTermRepository;
 import reciter.service.IDynamoDbMeshTermService;
 
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 @Service("dynamoDbMeshTermService")
@@ -16,6 +15,9 @@ public class DynamoDbMeshTermService implements IDynamoDbMeshTermService {
     @Autowired
     private DynamoMeshTermRepository dynamoMeshTermRepository;
 
+    @Autowired
+    private DynamoDbParallelScanner dynamoDbParallelScanner;
+
     @Override
     public void save(List<MeshTerm> meshTerms) {
         dynamoMeshTermRepository.saveAll(meshTerms);
@@ -23,14 +25,7 @@ public class DynamoDbMeshTermService implements IDynamoDbMeshTermService {
 
     @Override
     public List<MeshTerm> findAll() {
-        Iterable<MeshTerm> meshTermIterable = dynamoMeshTermRepository.findAll();
-        List<MeshTerm> meshTerms = new ArrayList<>();
-        Iterator<MeshTerm> iterator = meshTermIterable.iterator();
-        while (iterator.hasNext()) {
-            MeshTerm meshTerm = iterator.next();
-            meshTerms.add(meshTerm);
-        }
-        return meshTerms;
+        return dynamoDbParallelScanner.scan(MeshTerm.class);
     }
 
 	@Override
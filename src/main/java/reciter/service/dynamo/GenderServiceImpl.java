@@ -1,13 +1,12 @@
 package reciter.service.dynamo;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import reciter.database.dynamodb.DynamoDbParallelScanner;
 import reciter.database.dynamodb.model.Gender;
 import reciter.database.dynamodb.repository.GenderRepository;
 import reciter.service.GenderService;
@@ -18,6 +17,9 @@ public class GenderServiceImpl implements GenderService {
 	@Autowired
 	private GenderRepository genderRepository;
 
+	@Autowired
+	private DynamoDbParallelScanner dynamoDbParallelScanner;
+
 	@Override
 	public void save(Gender gender) {
 		genderRepository.save(gender);
@@ -37,14 +39,7 @@ public class GenderServiceImpl implements GenderService {
 
 	@Override
 	public List<Gender> findAll() {
-		Iterable<Gender> genderIterable = genderRepository.findAll();
-        List<Gender> genders = new ArrayList<>();
-        Iterator<Gender> iterator = genderIterable.iterator();
-        while (iterator.hasNext()) {
-        	Gender gender = iterator.next();
-        	genders.add(gender);
-        }
-        return genders;
+		return dynamoDbParallelScanner.scan(Gender.class);
 	}
 
 	@Override
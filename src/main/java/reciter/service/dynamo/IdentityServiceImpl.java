@@ -5,21 +5,28 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
+import com.amazonaws.services.dynamodbv2.datamodeling.ScanResultPage;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+
 import lombok.extern.slf4j.Slf4j;
-import reciter.database.dynamodb.DynamoDbS3Operations;
+import reciter.database.dynamodb.DynamoDbCursor;
+import reciter.database.dynamodb.DynamoDbParallelScanner;
 import reciter.database.dynamodb.repository.IdentityRepository;
 import reciter.model.identity.Identity;
+import reciter.service.IdentityPage;
 import reciter.service.IdentityService;
-import reciter.storage.s3.AmazonS3Config;
+import reciter.service.cache.CacheInvalidationChannel;
+import reciter.service.cache.IdentityCache;
 
-import java.time.Duration;
-import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
 
 @Slf4j
 @Primary
@@ -29,9 +36,6 @@ public class IdentityServiceImpl implements IdentityService {
     @Autowired
     private IdentityRepository identityRepository;
 
-    @Autowired(required=true)
-    private DynamoDbS3Operations ddbs3;
-    
     @Value("${aws.s3.use}")
     private boolean isS3Use;
     
@@ -41,8 +45,30 @@ public class IdentityServiceImpl implements IdentityService {
     @Value("${aws.s3.use.cached.identityAll}")
     private boolean isIdentityAllS3Caching;
 
-    @Value("${aws.s3.use.cached.identityAll.cacheTime}")
-    private long s3CachingDays;
+    @Autowired
+    private CacheInvalidationChannel cacheInvalidationChannel;
+
+    @Value("${reciter.identity.cache.maxSize:10000}")
+    private int identityCacheMaxSize;
+
+    @Value("${reciter.identity.cache.ttlSeconds:300}")
+    private long identityCacheTtlSeconds;
+
+    @Autowired
+    private IdentitySnapshot identitySnapshot;
+
+    @Autowired
+    private DynamoDbParallelScanner dynamoDbParallelScanner;
+
+    @Value("${reciter.identity.page.maxScannedItems:5000}")
+    private int pageMaxScannedItems;
+
+    private IdentityCache identityCache;
+
+    @PostConstruct
+    private void init() {
+        identityCache = new IdentityCache(identityCacheMaxSize, identityCacheTtlSeconds * 1000, cacheInvalidationChannel);
+    }
 
     @Override
     public void save(Collection<Identity> identities) {
@@ -54,6 +80,10 @@ public class IdentityServiceImpl implements IdentityService {
             identitiesDynamos.add(identityDynamo);
         }
         identityRepository.saveAll(identitiesDynamos);
+        identityCache.invalidate(identities.stream().map(Identity::getUid).collect(Collectors.toList()));
+        if (isIdentitySnapshotUsed()) {
+            identitySnapshot.update(identities, Collections.emptyList());
+        }
     }
 
     @Override
@@ -62,17 +92,40 @@ public class IdentityServiceImpl implements IdentityService {
                 identity.getUid(), identity
         );
         identityRepository.save(identityDynamo);
+        identityCache.invalidate(Collections.singletonList(identity.getUid()));
+        if (isIdentitySnapshotUsed()) {
+            identitySnapshot.update(Collections.singletonList(identity), Collections.emptyList());
+        }
     }
 
     @Override
     public List<Identity> findByUids(List<String> uids) {
         List<Identity> identities = new ArrayList<>();
-        identityRepository.findAllById(uids).forEach(e -> identities.add(e.getIdentity()));
+        List<String> missingUids = new ArrayList<>();
+        for (String uid : uids) {
+            Identity identity = identityCache.getIfPresent(uid);
+            if (identity != null) {
+                identities.add(identity);
+            } else {
+                missingUids.add(uid);
+            }
+        }
+        if (!missingUids.isEmpty()) {
+            long generation = identityCache.generation();
+            identityRepository.findAllById(missingUids).forEach(e -> {
+                identityCache.put(e.getIdentity().getUid(), e.getIdentity(), generation);
+                identities.add(e.getIdentity());
+            });
+        }
         return identities;
     }
 
     @Override
     public Identity findByUid(String uid) {
+        return identityCache.get(uid, this::loadByUid);
+    }
+
+    private Identity loadByUid(String uid) {
         reciter.database.dynamodb.model.Identity identity = identityRepository.findById(uid).orElseGet(() -> null);
         if (identity != null) {
             return identity.getIdentity();
@@ -82,62 +135,58 @@ public class IdentityServiceImpl implements IdentityService {
 
     @Override
     public List<Identity> findAll() {
-        List<Identity> identities = null;
-        if(isS3Use && !isDynamoDbLocal && isIdentityAllS3Caching) {
-            log.info("Getting all identity information from S3");
-            Date lastModifiedDate = ddbs3.getObjectSaveTimestamp(AmazonS3Config.BUCKET_NAME, Identity.class.getSimpleName() + "/" + "identityAll");
-            if(lastModifiedDate != null) {
-                long daysBetween = Duration.between(lastModifiedDate.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().atStartOfDay(), LocalDate.now().atStartOfDay()).toDays();
-                if(daysBetween >= this.s3CachingDays) {
-                    log.info("Storing all identity information in S3 since cache time of " + this.s3CachingDays + " days has been invalidated");
-                    log.info("Scanning Identity table for all identities");
-                    Iterable<reciter.database.dynamodb.model.Identity> it = identityRepository.findAll();
-                    identities = new ArrayList<>();
-                    Iterator<reciter.database.dynamodb.model.Identity> iterator = it.iterator();
-                    while (iterator.hasNext()) {
-                        Identity identity = iterator.next().getIdentity();
-                        identities.add(identity);
-                    }
-                    ddbs3.saveLargeItem(AmazonS3Config.BUCKET_NAME, identities, Identity.class.getSimpleName() + "/" + "identityAll");
-                } else {
-                    identities = (List<Identity>) ddbs3.retrieveLargeItem(AmazonS3Config.BUCKET_NAME,
-                    Identity.class.getSimpleName() + "/" + "identityAll", Identity.class);
-                }
-            } 
-            if(identities == null || lastModifiedDate == null) {
-                log.info("Scanning Identity table for all identities");
-                Iterable<reciter.database.dynamodb.model.Identity> it = identityRepository.findAll();
-                identities = new ArrayList<>();
-                Iterator<reciter.database.dynamodb.model.Identity> iterator = it.iterator();
-                while (iterator.hasNext()) {
-                    Identity identity = iterator.next().getIdentity();
-                    identities.add(identity);
-                }
-                //Case when putting the object for first time
-                log.info("Storing all identity information for first time in S3");
-                ddbs3.saveLargeItem(AmazonS3Config.BUCKET_NAME, identities, Identity.class.getSimpleName() + "/" + "identityAll");
-            }
-        } else if (!isS3Use || !isIdentityAllS3Caching || isDynamoDbLocal) {
-            log.info("Using Dynamodb scanning of identities since s3 caching is disabled or using dynamodb local.\nTo enable caching set both aws.s3.use and aws.s3.use.cached.identityAll flag to true");
-            Iterable<reciter.database.dynamodb.model.Identity> it = identityRepository.findAll();
-            identities = new ArrayList<>();
-            Iterator<reciter.database.dynamodb.model.Identity> iterator = it.iterator();
-            while (iterator.hasNext()) {
-                Identity identity = iterator.next().getIdentity();
-                identities.add(identity);
-            }
+        if(isIdentitySnapshotUsed()) {
+            log.info("Getting all identity information from the S3 snapshot");
+            return identitySnapshot.load();
         }
+        log.info("Using Dynamodb scanning of identities since s3 caching is disabled or using dynamodb local.\nTo enable caching set both aws.s3.use and aws.s3.use.cached.identityAll flag to true");
+        List<Identity> identities = new ArrayList<>();
+        dynamoDbParallelScanner.scan(reciter.database.dynamodb.model.Identity.class,
+                items -> items.forEach(item -> identities.add(item.getIdentity())));
         return identities;
     }
 
+    @Override
+    public IdentityPage findPage(int pageSize, String cursor, Predicate<Identity> filter) {
+        Map<String, AttributeValue> exclusiveStartKey = DynamoDbCursor.decode(cursor);
+        List<Identity> identities = new ArrayList<>();
+        int scannedItems = 0;
+        // Pages are read until pageSize identities match, or pageMaxScannedItems were read so a selective filter
+        // returns a short page instead of scanning the whole table in one call.
+        do {
+            ScanResultPage<reciter.database.dynamodb.model.Identity> page = dynamoDbParallelScanner.scanPage(
+                    reciter.database.dynamodb.model.Identity.class, exclusiveStartKey, pageSize - identities.size());
+            for (reciter.database.dynamodb.model.Identity item : page.getResults()) {
+                if (filter.test(item.getIdentity())) {
+                    identities.add(item.getIdentity());
+                }
+            }
+            scannedItems += page.getResults().size();
+            exclusiveStartKey = page.getLastEvaluatedKey();
+        } while (exclusiveStartKey != null && identities.size() < pageSize && scannedItems < pageMaxScannedItems);
+        return new IdentityPage(identities, DynamoDbCursor.encode(exclusiveStartKey));
+    }
+
+    private boolean isIdentitySnapshotUsed() {
+        return isS3Use && !isDynamoDbLocal && isIdentityAllS3Caching;
+    }
+
     @Override
     public void deleteAll() {
         identityRepository.deleteAll();
+        identityCache.invalidate(Collections.emptyList());
+        if (isIdentitySnapshotUsed()) {
+            identitySnapshot.clear();
+        }
     }
 
     @Override
     public void delete(String uid) {
         identityRepository.deleteById(uid);
+        identityCache.invalidate(Collections.singletonList(uid));
+        if (isIdentitySnapshotUsed()) {
+            identitySnapshot.update(Collections.emptyList(), Collections.singletonList(uid));
+        }
     }
     
     @Override
@@ -0,0 +1,371 @@
+package reciter.service.dynamo;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import reciter.database.dynamodb.DynamoDbParallelScanner;
+import reciter.database.dynamodb.DynamoDbS3Operations;
+import reciter.model.identity.Identity;
+import reciter.storage.s3.AmazonS3Config;
+
+/**
+ * Copy of the Identity table in S3, split by uid in segments stored as separate objects.
+ * <p>
+ * The segments are read concurrently and each one is parsed while it is downloaded. Each segment records in its S3
+ * user metadata when it was last rebuilt from the Identity table: a segment missing or rebuilt longer ago than the cache
+ * time is rebuilt from a parallel scan of the Identity table while the other segments are used as they are. Identities
+ * saved or deleted through ReCiter are queued and applied to their segment in the background, so only the changed
+ * identities are written again and a save does not wait for S3; these patches keep the rebuild time of the segment.
+ * Identities changed directly in DynamoDB are therefore picked up when their segment expires, however often it is
+ * patched. A patch that fails deletes its segment, which is then rebuilt by the next {@link #load()}.
+ * <p>
+ * A rebuild reads the whole Identity table whatever the number of stale segments, so the segments expiring together
+ * after a full rebuild are rebuilt together by a single scan.
+ * <p>
+ * Changes to a segment made while it is being rebuilt are recorded and applied to the scanned identities before the
+ * rebuilt segment is stored, so a rebuild never brings back an identity older than one saved during the scan.
+ * <p>
+ * The number of segments is part of the object keys, so changing it starts a new snapshot instead of mixing layouts.
+ */
+@Slf4j
+@Component
+public class IdentitySnapshot {
+
+    /**
+     * Name of the S3 user metadata holding when a segment was last rebuilt from the Identity table, in epoch millis.
+     */
+    private static final String REBUILT_AT_METADATA = "rebuilt-at";
+
+    @Autowired(required=false)
+    private DynamoDbS3Operations ddbs3;
+
+    @Autowired
+    private DynamoDbParallelScanner dynamoDbParallelScanner;
+
+    @Value("${aws.s3.use.cached.identityAll.cacheTime}")
+    private long cacheDays;
+
+    @Value("${aws.s3.use.cached.identityAll.segments:16}")
+    private int segments;
+
+    /**
+     * Maximum number of segments downloaded or stored at the same time.
+     */
+    @Value("${aws.s3.use.cached.identityAll.parallelism:8}")
+    private int parallelism;
+
+    private Object[] segmentLocks;
+
+    /**
+     * Per segment, the changes made while it is rebuilt and the number of rebuilds running. Guarded by the segment lock.
+     */
+    private List<Map<String, Identity>> rebuildChanges;
+
+    private int[] runningRebuilds;
+
+    /**
+     * Per segment, the changes not yet applied by a patch, <code>null</code> when no patch is scheduled. Guarded by
+     * itself; a patch takes the changes while holding the segment lock, so patches apply them in order.
+     */
+    private List<Map<String, Identity>> pendingChanges;
+
+    private ExecutorService executorService;
+
+    @PostConstruct
+    private void init() {
+        segments = Math.max(1, segments);
+        segmentLocks = new Object[segments];
+        rebuildChanges = new ArrayList<>(segments);
+        pendingChanges = new ArrayList<>(segments);
+        for (int segment = 0; segment < segments; segment++) {
+            segmentLocks[segment] = new Object();
+            rebuildChanges.add(null);
+            pendingChanges.add(null);
+        }
+        runningRebuilds = new int[segments];
+        AtomicInteger threadCount = new AtomicInteger();
+        executorService = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "identity-snapshot-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * @return all the identities, with the missing or expired segments rebuilt from the Identity table
+     */
+    public List<Identity> load() {
+        List<CompletableFuture<List<Identity>>> segmentFutures = new ArrayList<>(segments);
+        for (int segment = 0; segment < segments; segment++) {
+            int loadedSegment = segment;
+            segmentFutures.add(CompletableFuture.supplyAsync(() -> loadSegment(loadedSegment), executorService));
+        }
+        Map<Integer, List<Identity>> identitiesBySegment = new LinkedHashMap<>();
+        List<Integer> staleSegments = new ArrayList<>();
+        for (int segment = 0; segment < segments; segment++) {
+            List<Identity> identities = join(segmentFutures.get(segment));
+            if (identities == null) {
+                staleSegments.add(segment);
+            }
+            identitiesBySegment.put(segment, identities);
+        }
+        if (!staleSegments.isEmpty()) {
+            identitiesBySegment.putAll(rebuild(staleSegments));
+        }
+        List<Identity> identities = new ArrayList<>();
+        identitiesBySegment.values().forEach(identities::addAll);
+        return identities;
+    }
+
+    /**
+     * Queues saved and deleted identities to be applied to their segments in the background, changes queued for the
+     * same segment before its patch starts are applied together. Changes to segments being rebuilt are applied by the
+     * rebuild, segments that are missing or expired are left to be rebuilt by the next {@link #load()}.
+     * @param savedIdentities identities saved in the Identity table
+     * @param deletedUids uids deleted from the Identity table
+     */
+    public void update(Collection<Identity> savedIdentities, Collection<String> deletedUids) {
+        Map<Integer, Map<String, Identity>> changesBySegment = new HashMap<>();
+        for (Identity identity : savedIdentities) {
+            changesBySegment.computeIfAbsent(segmentOf(identity.getUid()), segment -> new LinkedHashMap<>()).put(identity.getUid(), identity);
+        }
+        for (String uid : deletedUids) {
+            changesBySegment.computeIfAbsent(segmentOf(uid), segment -> new LinkedHashMap<>()).put(uid, null);
+        }
+        changesBySegment.forEach((segment, changes) -> {
+            boolean schedule;
+            synchronized (pendingChanges) {
+                schedule = pendingChanges.get(segment) == null;
+                if (schedule) {
+                    pendingChanges.set(segment, new LinkedHashMap<>());
+                }
+                pendingChanges.get(segment).putAll(changes);
+            }
+            if (schedule) {
+                executorService.execute(() -> patchSegment(segment));
+            }
+        });
+    }
+
+    /**
+     * Deletes all the segments, so the next {@link #load()} rebuilds the whole snapshot.
+     */
+    public void clear() {
+        if (ddbs3 == null) {
+            return;
+        }
+        for (int segment = 0; segment < segments; segment++) {
+            ddbs3.deleteLargeItem(AmazonS3Config.BUCKET_NAME, keyOf(segment));
+        }
+    }
+
+    private void patchSegment(int segment) {
+        synchronized (segmentLocks[segment]) {
+            Map<String, Identity> changes;
+            synchronized (pendingChanges) {
+                changes = pendingChanges.get(segment);
+                pendingChanges.set(segment, null);
+            }
+            if (changes == null) {
+                return;
+            }
+            try {
+                updateSegment(segment, changes);
+            } catch (RuntimeException e) {
+                log.error("Unable to apply " + changes.size() + " identity changes to identity snapshot segment " + segment + ", it will be rebuilt", e);
+                markStale(segment);
+            }
+        }
+    }
+
+    private void updateSegment(int segment, Map<String, Identity> changes) {
+        if (runningRebuilds[segment] > 0) {
+            rebuildChanges.get(segment).putAll(changes);
+            return;
+        }
+        Long rebuiltAt = rebuiltAt(segment);
+        if (rebuiltAt == null) {
+            return;
+        }
+        List<Identity> identities = retrieveSegment(segment);
+        if (identities == null) {
+            // Unreadable or deleted since its rebuild time was read, so it is left to be rebuilt.
+            markStale(segment);
+            return;
+        }
+        Map<String, Identity> identitiesByUid = new LinkedHashMap<>();
+        identities.forEach(identity -> identitiesByUid.put(identity.getUid(), identity));
+        applyChanges(identitiesByUid, changes);
+        if (!storeSegment(segment, new ArrayList<>(identitiesByUid.values()), rebuiltAt)) {
+            markStale(segment);
+        }
+    }
+
+    /**
+     * Deletes a segment that could not be patched, so it is not read again without the changes.
+     */
+    private void markStale(int segment) {
+        try {
+            ddbs3.deleteLargeItem(AmazonS3Config.BUCKET_NAME, keyOf(segment));
+        } catch (RuntimeException e) {
+            log.error("Unable to delete identity snapshot segment " + segment, e);
+        }
+    }
+
+    private Map<Integer, List<Identity>> rebuild(List<Integer> staleSegments) {
+        log.info("Rebuilding " + staleSegments.size() + " of " + segments + " identity snapshot segments from the Identity table");
+        // Taken before the scan starts, so anything changed directly in DynamoDB during the scan is picked up next time.
+        long rebuiltAt = System.currentTimeMillis();
+        Map<Integer, Map<String, Identity>> identitiesBySegment = new HashMap<>();
+        for (int segment : staleSegments) {
+            identitiesBySegment.put(segment, new LinkedHashMap<>());
+            synchronized (segmentLocks[segment]) {
+                if (runningRebuilds[segment]++ == 0) {
+                    rebuildChanges.set(segment, new HashMap<>());
+                }
+            }
+        }
+        try {
+            dynamoDbParallelScanner.scan(reciter.database.dynamodb.model.Identity.class, items -> {
+                for (reciter.database.dynamodb.model.Identity item : items) {
+                    Identity identity = item.getIdentity();
+                    Map<String, Identity> segmentIdentities = identitiesBySegment.get(segmentOf(identity.getUid()));
+                    if (segmentIdentities != null) {
+                        segmentIdentities.put(identity.getUid(), identity);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            staleSegments.forEach(this::endRebuild);
+            throw e;
+        }
+        Map<Integer, List<Identity>> rebuiltSegments = new HashMap<>();
+        List<CompletableFuture<Void>> saves = new ArrayList<>(staleSegments.size());
+        identitiesBySegment.forEach((segment, identitiesByUid) -> saves.add(CompletableFuture.runAsync(() -> {
+            synchronized (segmentLocks[segment]) {
+                applyChanges(identitiesByUid, rebuildChanges.get(segment));
+                endRebuild(segment);
+                List<Identity> identities = new ArrayList<>(identitiesByUid.values());
+                if (ddbs3 != null) {
+                    storeSegment(segment, identities, rebuiltAt);
+                }
+                synchronized (rebuiltSegments) {
+                    rebuiltSegments.put(segment, identities);
+                }
+            }
+        }, executorService)));
+        saves.forEach(IdentitySnapshot::join);
+        return rebuiltSegments;
+    }
+
+    /**
+     * Stops recording the changes of a segment once its last running rebuild has applied them.
+     */
+    private void endRebuild(int segment) {
+        synchronized (segmentLocks[segment]) {
+            if (--runningRebuilds[segment] == 0) {
+                rebuildChanges.set(segment, null);
+            }
+        }
+    }
+
+    private static void applyChanges(Map<String, Identity> identitiesByUid, Map<String, Identity> changes) {
+        changes.forEach((uid, identity) -> {
+            if (identity == null) {
+                identitiesByUid.remove(uid);
+            } else {
+                identitiesByUid.put(uid, identity);
+            }
+        });
+    }
+
+    /**
+     * @return the identities of the segment, <code>null</code> if the segment is missing or expired
+     */
+    private List<Identity> loadSegment(int segment) {
+        if (rebuiltAt(segment) == null) {
+            return null;
+        }
+        return retrieveSegment(segment);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Identity> retrieveSegment(int segment) {
+        return (List<Identity>) ddbs3.retrieveLargeItem(AmazonS3Config.BUCKET_NAME, keyOf(segment), Identity.class);
+    }
+
+    private boolean storeSegment(int segment, List<Identity> identities, long rebuiltAt) {
+        return ddbs3.saveLargeItem(AmazonS3Config.BUCKET_NAME, identities, keyOf(segment), Collections.singletonMap(REBUILT_AT_METADATA, String.valueOf(rebuiltAt)));
+    }
+
+    /**
+     * @return when the segment was last rebuilt, <code>null</code> if the segment is missing, expired or stored without a
+     * rebuild time
+     */
+    private Long rebuiltAt(int segment) {
+        if (ddbs3 == null) {
+            return null;
+        }
+        Map<String, String> userMetadata = ddbs3.getObjectUserMetadata(AmazonS3Config.BUCKET_NAME, keyOf(segment));
+        if (userMetadata == null || userMetadata.get(REBUILT_AT_METADATA) == null) {
+            return null;
+        }
+        try {
+            long rebuiltAt = Long.parseLong(userMetadata.get(REBUILT_AT_METADATA));
+            return isExpired(new Date(rebuiltAt)) ? null : rebuiltAt;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private boolean isExpired(Date savedAt) {
+        long daysBetween = Duration.between(savedAt.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().atStartOfDay(), LocalDate.now().atStartOfDay()).toDays();
+        return daysBetween >= cacheDays;
+    }
+
+    private int segmentOf(String uid) {
+        return Math.floorMod(uid.hashCode(), segments);
+    }
+
+    private String keyOf(int segment) {
+        return Identity.class.getSimpleName() + "/identitySnapshot/" + segments + "/segment-" + segment;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
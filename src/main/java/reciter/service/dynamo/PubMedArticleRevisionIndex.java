@@ -0,0 +1,110 @@
+package reciter.service.dynamo;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reciter.model.pubmed.PubMedArticle;
+
+/**
+ * Remembers which revision of each PubMed article was last written to the PubMedArticle table by this process, so
+ * articles retrieved again for another strategy or another identity are not rewritten when they did not change.
+ * <p>
+ * The revision is a 64 bit fingerprint of the JSON form of the article, so any change made to the record in PubMed
+ * (e.g. new MeSH headings or a corrected author list) gives a new revision and the article is written again. The
+ * index keeps the most recently written articles up to its maximum size.
+ * <p>
+ * It also tells which articles were written during the retrieval runs in progress ({@link #beginRun()}), whose stored
+ * copy is as recent as a download from PubMed, so a run can read them back instead of downloading them again. Runs
+ * overlapping each other share one window, which closes when the last of them ends.
+ */
+@Component
+public class PubMedArticleRevisionIndex {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final class WrittenRevision {
+        private final long revision;
+        private final long run;
+
+        private WrittenRevision(long revision, long run) {
+            this.revision = revision;
+            this.run = run;
+        }
+    }
+
+    private final Map<Long, WrittenRevision> revisionByPmid;
+
+    private int activeRuns;
+
+    private long run;
+
+    public PubMedArticleRevisionIndex(@Value("${reciter.pubmed.revisionIndex.maxSize:500000}") int maxSize) {
+        this.revisionByPmid = Collections.synchronizedMap(new LinkedHashMap<Long, WrittenRevision>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, WrittenRevision> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Starts a retrieval run. Articles written from the first of the overlapping runs on are written in the run.
+     */
+    public synchronized void beginRun() {
+        if (activeRuns++ == 0) {
+            run++;
+        }
+    }
+
+    public synchronized void endRun() {
+        activeRuns = Math.max(0, activeRuns - 1);
+    }
+
+    /**
+     * @return the revision of the article, <code>null</code> if it cannot be serialized
+     */
+    public Long revisionOf(PubMedArticle pubMedArticle) {
+        byte[] json;
+        try {
+            json = OBJECT_MAPPER.writeValueAsBytes(pubMedArticle);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+        CRC32 crc32 = new CRC32();
+        crc32.update(json);
+        return ((long) Arrays.hashCode(json) << 32) | crc32.getValue();
+    }
+
+    /**
+     * @return whether this revision of the article is the one last written
+     */
+    public boolean isWritten(long pmid, Long revision) {
+        WrittenRevision writtenRevision = revisionByPmid.get(pmid);
+        return revision != null && writtenRevision != null && revision.longValue() == writtenRevision.revision;
+    }
+
+    /**
+     * @return whether the article was written or found stored unchanged during the retrieval runs in progress
+     */
+    public synchronized boolean isWrittenInRun(long pmid) {
+        WrittenRevision writtenRevision = revisionByPmid.get(pmid);
+        return activeRuns > 0 && writtenRevision != null && writtenRevision.run == run;
+    }
+
+    public synchronized void markWritten(long pmid, Long revision) {
+        if (revision != null) {
+            revisionByPmid.put(pmid, new WrittenRevision(revision, run));
+        }
+    }
+}
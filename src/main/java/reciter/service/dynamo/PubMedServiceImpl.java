@@ -1,19 +1,25 @@
 package reciter.service.dynamo;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.amazonaws.services.dynamodbv2.model.AmazonDynamoDBException;
 
 import lombok.extern.slf4j.Slf4j;
+import reciter.database.dynamodb.DynamoDbBatchLoader;
 import reciter.database.dynamodb.repository.PubMedArticleRepository;
 import reciter.model.pubmed.PubMedArticle;
 import reciter.service.PubMedService;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service("pubMedService")
@@ -22,18 +28,64 @@ public class PubMedServiceImpl implements PubMedService {
     @Autowired
     private PubMedArticleRepository pubMedRepository;
 
+    @Autowired
+    private PubMedArticleRevisionIndex pubMedArticleRevisionIndex;
+
+    @Autowired
+    private DynamoDbBatchLoader dynamoDbBatchLoader;
+
+    /**
+     * Also compare the articles not found in the revision index with the stored ones before writing them. Reading an
+     * item costs fewer capacity units than writing it, which pays off when most retrieved articles are already stored,
+     * as in every retrieval after the first one of an identity.
+     */
+    @Value("${reciter.pubmed.save.compareWithStored:true}")
+    private boolean compareWithStored;
+
+    /**
+     * Saves the articles, skipping the ones whose current revision was already written.
+     */
     @Override
     public void save(Collection<PubMedArticle> pubMedArticles) {
-        List<reciter.database.dynamodb.model.PubMedArticle> pubmedArticlesDb = new ArrayList<>();
+        Map<Long, PubMedArticle> changedArticles = new LinkedHashMap<>();
+        Map<Long, Long> revisions = new HashMap<>();
         for (PubMedArticle pubMedArticle : pubMedArticles) {
+            long pmid = pubMedArticle.getMedlinecitation().getMedlinecitationpmid().getPmid();
+            Long revision = pubMedArticleRevisionIndex.revisionOf(pubMedArticle);
+            if (!pubMedArticleRevisionIndex.isWritten(pmid, revision)) {
+                changedArticles.put(pmid, pubMedArticle);
+                revisions.put(pmid, revision);
+            }
+        }
+        if (compareWithStored && !changedArticles.isEmpty()) {
+            for (reciter.database.dynamodb.model.PubMedArticle storedArticle : pubMedRepository.findAllById(new ArrayList<>(changedArticles.keySet()))) {
+                PubMedArticle storedPubMedArticle = storedArticle.getPubMedArticle();
+                long pmid = storedPubMedArticle.getMedlinecitation().getMedlinecitationpmid().getPmid();
+                Long revision = revisions.get(pmid);
+                if (revision != null && revision.equals(pubMedArticleRevisionIndex.revisionOf(storedPubMedArticle))) {
+                    changedArticles.remove(pmid);
+                    pubMedArticleRevisionIndex.markWritten(pmid, revision);
+                }
+            }
+        }
+        if (changedArticles.size() < pubMedArticles.size()) {
+            log.debug("Skipping " + (pubMedArticles.size() - changedArticles.size()) + " unchanged PubMed articles out of " + pubMedArticles.size());
+        }
+        if (changedArticles.isEmpty()) {
+            return;
+        }
+
+        List<reciter.database.dynamodb.model.PubMedArticle> pubmedArticlesDb = new ArrayList<>();
+        for (Map.Entry<Long, PubMedArticle> entry : changedArticles.entrySet()) {
             reciter.database.dynamodb.model.PubMedArticle pubMedArticleDb = new reciter.database.dynamodb.model.PubMedArticle(
-                    pubMedArticle.getMedlinecitation().getMedlinecitationpmid().getPmid(),
-                    pubMedArticle
+                    entry.getKey(),
+                    entry.getValue()
             );
             pubmedArticlesDb.add(pubMedArticleDb);
         }
         try{
         	pubMedRepository.saveAll(pubmedArticlesDb);
+        	changedArticles.keySet().forEach(pmid -> pubMedArticleRevisionIndex.markWritten(pmid, revisions.get(pmid)));
         } catch(Exception e) { //This is to skip over articles with huge list of authors e.g. yiwang - 29547300
         	log.info(e.getMessage());
         }
@@ -41,15 +93,26 @@ public class PubMedServiceImpl implements PubMedService {
 
     @Override
     public List<PubMedArticle> findByPmids(List<Long> pmids) {
-        List<PubMedArticle> pubMedArticles = null;
-        Iterator<reciter.database.dynamodb.model.PubMedArticle> iterator = pubMedRepository.findAllById(pmids).iterator();
-        pubMedArticles = new ArrayList<>(pmids.size());
-        while (iterator.hasNext()) {
-            pubMedArticles.add(iterator.next().getPubMedArticle());
-        }
+        List<PubMedArticle> pubMedArticles = new ArrayList<>(pmids.size());
+        findByPmids(pmids, pubMedArticles::addAll);
         return pubMedArticles;
     }
 
+    @Override
+    public void findByPmids(List<Long> pmids, Consumer<List<PubMedArticle>> chunkConsumer) {
+        List<reciter.database.dynamodb.model.PubMedArticle> keys = new ArrayList<>(pmids.size());
+        for (Long pmid : new LinkedHashSet<>(pmids)) {
+            keys.add(new reciter.database.dynamodb.model.PubMedArticle(pmid, null));
+        }
+        dynamoDbBatchLoader.load(reciter.database.dynamodb.model.PubMedArticle.class, keys, pubMedArticlesDb -> {
+            List<PubMedArticle> pubMedArticles = new ArrayList<>(pubMedArticlesDb.size());
+            for (reciter.database.dynamodb.model.PubMedArticle pubMedArticleDb : pubMedArticlesDb) {
+                pubMedArticles.add(pubMedArticleDb.getPubMedArticle());
+            }
+            chunkConsumer.accept(pubMedArticles);
+        });
+    }
+
     @Override
     public PubMedArticle findByPmid(Long pmid) {
         reciter.database.dynamodb.model.PubMedArticle pubMedArticle = pubMedRepository.findById(pmid).orElseGet(() -> null);
@@ -1,13 +1,12 @@
 package reciter.service.dynamo;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import reciter.database.dynamodb.DynamoDbParallelScanner;
 import reciter.database.dynamodb.model.ScienceMetrix;
 import reciter.database.dynamodb.model.ScienceMetrixDepartmentCategory;
 import reciter.database.dynamodb.repository.ScienceMetrixDepartmentCategoryRepository;
@@ -20,6 +19,9 @@ public class ScienceMetrixDepartmentCategoryServiceImpl implements ScienceMetrix
 	@Autowired
 	private ScienceMetrixDepartmentCategoryRepository scienceMetrixDepartmentCategoryRepository;
 
+	@Autowired
+	private DynamoDbParallelScanner dynamoDbParallelScanner;
+
 	@Override
 	public List<ScienceMetrixDepartmentCategory> findByScienceMetrixJournalSubfieldId(Long subfieldId) {
 		return scienceMetrixDepartmentCategoryRepository.findByScienceMetrixJournalSubfieldId(subfieldId);
@@ -27,14 +29,7 @@ public class ScienceMetrixDepartmentCategoryServiceImpl implements ScienceMetrix
 	
 	@Override
     public List<ScienceMetrixDepartmentCategory> findAll() {
-    	Iterable<ScienceMetrixDepartmentCategory> scienceMetrixDeptCatgIterable = scienceMetrixDepartmentCategoryRepository.findAll();
-        List<ScienceMetrixDepartmentCategory> scienceMetrixDeptCategories = new ArrayList<>();
-        Iterator<ScienceMetrixDepartmentCategory> iterator = scienceMetrixDeptCatgIterable.iterator();
-        while (iterator.hasNext()) {
-        	ScienceMetrixDepartmentCategory scienceMetrix = iterator.next();
-        	scienceMetrixDeptCategories.add(scienceMetrix);
-        }
-        return scienceMetrixDeptCategories;
+        return dynamoDbParallelScanner.scan(ScienceMetrixDepartmentCategory.class);
     }
 	
 	@Override
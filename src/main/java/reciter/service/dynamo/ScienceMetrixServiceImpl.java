@@ -3,15 +3,14 @@ package reciter.service.dynamo;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import reciter.database.dynamodb.DynamoDbParallelScanner;
 import reciter.database.dynamodb.model.InstitutionAfid;
 import reciter.database.dynamodb.model.ScienceMetrix;
 import reciter.database.dynamodb.model.ScienceMetrixDepartmentCategory;
 import reciter.database.dynamodb.repository.ScienceMetrixRepository;
 import reciter.service.ScienceMetrixService;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 
 @Service
@@ -20,6 +19,9 @@ public class ScienceMetrixServiceImpl implements ScienceMetrixService {
     @Autowired
     private ScienceMetrixRepository scienceMetrixRepository;
 
+    @Autowired
+    private DynamoDbParallelScanner dynamoDbParallelScanner;
+
     @Override
     public ScienceMetrix findByEissn(String eissn) {
         return scienceMetrixRepository.findByEissn(eissn);
@@ -37,14 +39,7 @@ public class ScienceMetrixServiceImpl implements ScienceMetrixService {
     
     @Override
     public List<ScienceMetrix> findAll() {
-    	Iterable<ScienceMetrix> scienceMetrixIterable = scienceMetrixRepository.findAll();
-        List<ScienceMetrix> scienceMetrixJournals = new ArrayList<>();
-        Iterator<ScienceMetrix> iterator = scienceMetrixIterable.iterator();
-        while (iterator.hasNext()) {
-        	ScienceMetrix scienceMetrix = iterator.next();
-        	scienceMetrixJournals.add(scienceMetrix);
-        }
-        return scienceMetrixJournals;
+        return dynamoDbParallelScanner.scan(ScienceMetrix.class);
     }
     
     @Override
@@ -3,13 +3,14 @@ package reciter.service.dynamo;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import reciter.database.dynamodb.DynamoDbBatchLoader;
 import reciter.database.dynamodb.repository.ScopusArticleRepository;
 import reciter.model.scopus.ScopusArticle;
 import reciter.service.ScopusService;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 @Slf4j
@@ -19,6 +20,9 @@ public class ScopusServiceImpl implements ScopusService {
     @Autowired
     private ScopusArticleRepository scopusRepository;
 
+    @Autowired
+    private DynamoDbBatchLoader dynamoDbBatchLoader;
+
     @Override
     public void save(Collection<ScopusArticle> scopusArticles) {
         List<reciter.database.dynamodb.model.ScopusArticle> dbScopusArticles = new ArrayList<>();
@@ -52,11 +56,13 @@ public class ScopusServiceImpl implements ScopusService {
 
     @Override
     public List<ScopusArticle> findByPmids(List<String> pmids) {
-        List<ScopusArticle> scopusArticles = null;
-        Iterator<reciter.database.dynamodb.model.ScopusArticle> iterator = scopusRepository.findAllById(pmids).iterator();
-        scopusArticles = new ArrayList<>(pmids.size());
-        while (iterator.hasNext()) {
-            scopusArticles.add(iterator.next().getScopusArticle());
+        List<reciter.database.dynamodb.model.ScopusArticle> keys = new ArrayList<>(pmids.size());
+        for (String pmid : new LinkedHashSet<>(pmids)) {
+            keys.add(new reciter.database.dynamodb.model.ScopusArticle(pmid, null));
+        }
+        List<ScopusArticle> scopusArticles = new ArrayList<>(pmids.size());
+        for (reciter.database.dynamodb.model.ScopusArticle scopusArticleDb : dynamoDbBatchLoader.load(reciter.database.dynamodb.model.ScopusArticle.class, keys)) {
+            scopusArticles.add(scopusArticleDb.getScopusArticle());
         }
         return scopusArticles;
     }
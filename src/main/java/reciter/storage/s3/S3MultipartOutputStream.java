@@ -0,0 +1,187 @@
+package reciter.storage.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Output stream writing an S3 object part by part, so an object can be serialized straight to S3 while only one part
+ * is held in memory.
+ * <p>
+ * Content smaller than one part is stored with a single put. Otherwise a multipart upload is started with the first
+ * full part and completed by {@link #close()}. The part buffer starts small and grows with the content up to the part
+ * size, so small objects do not pay for a whole part. If writing fails, {@link #abort()} must be called instead of close so
+ * the partial upload is discarded and no incomplete object is stored.
+ */
+@Slf4j
+public class S3MultipartOutputStream extends OutputStream {
+
+	/**
+	 * Smallest part size accepted by S3 for all parts but the last one.
+	 */
+	public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+	private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+	private final AmazonS3 s3;
+
+	private final String bucketName;
+
+	private final String keyName;
+
+	private final ObjectMetadata metadata;
+
+	private final int partSize;
+
+	private byte[] buffer;
+
+	private int count;
+
+	private String uploadId;
+
+	private final List<PartETag> partETags = new ArrayList<>();
+
+	private boolean closed;
+
+	/**
+	 * @param metadata metadata of the stored object, its content length is set by this stream
+	 * @param partSize size of the parts uploaded, at least {@link #MIN_PART_SIZE}
+	 */
+	public S3MultipartOutputStream(AmazonS3 s3, String bucketName, String keyName, ObjectMetadata metadata, int partSize) {
+		this.s3 = s3;
+		this.bucketName = bucketName;
+		this.keyName = keyName;
+		this.metadata = metadata;
+		this.partSize = Math.max(partSize, MIN_PART_SIZE);
+		this.buffer = new byte[INITIAL_BUFFER_SIZE];
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		ensureOpen();
+		if (count == partSize) {
+			uploadPart();
+		}
+		ensureCapacity(count + 1);
+		buffer[count++] = (byte) b;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		ensureOpen();
+		while (len > 0) {
+			if (count == partSize) {
+				uploadPart();
+			}
+			int length = Math.min(len, partSize - count);
+			ensureCapacity(count + length);
+			System.arraycopy(b, off, buffer, count, length);
+			count += length;
+			off += length;
+			len -= length;
+		}
+	}
+
+	/**
+	 * Stores the remaining content and completes the upload.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			if (uploadId == null) {
+				metadata.setContentLength(count);
+				s3.putObject(new PutObjectRequest(bucketName, keyName, new ByteArrayInputStream(buffer, 0, count), metadata));
+			} else {
+				if (count > 0) {
+					uploadPart();
+				}
+				s3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, keyName, uploadId, partETags));
+			}
+		} catch (AmazonClientException e) {
+			abortUpload();
+			throw new IOException("Unable to store s3 object " + keyName, e);
+		}
+	}
+
+	/**
+	 * Discards the content written so far without storing the object.
+	 */
+	public void abort() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		abortUpload();
+	}
+
+	private void uploadPart() throws IOException {
+		try {
+			if (uploadId == null) {
+				uploadId = s3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, keyName, metadata)).getUploadId();
+			}
+			UploadPartRequest uploadPartRequest = new UploadPartRequest()
+					.withBucketName(bucketName)
+					.withKey(keyName)
+					.withUploadId(uploadId)
+					.withPartNumber(partETags.size() + 1)
+					.withInputStream(new ByteArrayInputStream(buffer, 0, count))
+					.withPartSize(count);
+			partETags.add(s3.uploadPart(uploadPartRequest).getPartETag());
+			count = 0;
+		} catch (AmazonClientException e) {
+			closed = true;
+			abortUpload();
+			throw new IOException("Unable to upload part of s3 object " + keyName, e);
+		}
+	}
+
+	/**
+	 * Grows the buffer, by doubling it up to the part size, so it holds at least minCapacity bytes.
+	 */
+	private void ensureCapacity(int minCapacity) {
+		if (minCapacity <= buffer.length) {
+			return;
+		}
+		int capacity = buffer.length;
+		while (capacity < minCapacity) {
+			capacity = (int) Math.min((long) capacity * 2, partSize);
+		}
+		buffer = Arrays.copyOf(buffer, capacity);
+	}
+
+	private void abortUpload() {
+		if (uploadId == null) {
+			return;
+		}
+		try {
+			s3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, keyName, uploadId));
+		} catch (AmazonClientException e) {
+			log.error("Unable to abort multipart upload of s3 object " + keyName, e);
+		}
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) {
+			throw new IOException("Stream closed");
+		}
+	}
+}
@@ -1,14 +1,13 @@
 package reciter.utils;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import reciter.database.dynamodb.model.Gender;
-import reciter.database.dynamodb.model.GenderEnum;
 import reciter.engine.EngineParameters;
 import reciter.model.article.ReCiterArticle;
 import reciter.model.article.ReCiterAuthor;
@@ -26,8 +25,7 @@ public class GenderProbability {
 	 * Finds the Gender Name and the probability from Gender table and assigns to identity
 	 */
 	public static void getGenderIdentityProbability(Identity identity) {
-		List<Gender> genders = EngineParameters.getGenders();
-		List<Gender> matchingGenders = new ArrayList<Gender>();
+		GenderProbabilityIndex genderProbabilityIndex = EngineParameters.getGenderProbabilityIndex();
 		Set<String> identityNames = new HashSet<String>();
 		if(identity.getPrimaryName() != null) {
 			if(identity.getPrimaryName().getFirstName() != null
@@ -90,22 +88,10 @@ public class GenderProbability {
 		}
 		if(!identityNames.isEmpty()
 				&&
-				genders != null
-				&&
-				!genders.isEmpty()) {
-			matchingGenders = genders
-				.parallelStream()
-				.filter(gender ->
-				identityNames.contains(gender.getName().toLowerCase())
-				).collect(Collectors.toList());
-			if(!matchingGenders.isEmpty()) {
-					List<Gender> matchingGendersCopy = new ArrayList<Gender>();
-					matchingGenders.forEach(matchGender -> {
-						matchingGendersCopy
-						.add(new Gender(matchGender.getUniqueId(), matchGender.getName(), matchGender.getGender(), ((matchGender.getGender() == GenderEnum.F)?(1 - matchGender.getProbability()):matchGender.getProbability())));
-					});
-					Double avgProbability = matchingGendersCopy.stream().mapToDouble(Gender::getProbability).average().getAsDouble();
-					identity.setGender(new Gender(null, null, null, avgProbability));
+				genderProbabilityIndex != null) {
+			Double avgProbability = genderProbabilityIndex.getAverageProbability(identityNames);
+			if(avgProbability != null) {
+				identity.setGender(new Gender(null, null, null, avgProbability));
 			}
 		}
 	}
@@ -115,15 +101,13 @@ public class GenderProbability {
 	 * @return Gender match for article
 	 */
 	public static Gender getGenderArticleProbability(ReCiterArticle reCiterArticle) {
-		List<Gender> genders = EngineParameters.getGenders();
-		List<Gender> matchingGenders = new ArrayList<Gender>();
+		GenderProbabilityIndex genderProbabilityIndex = EngineParameters.getGenderProbabilityIndex();
+		Double avgProbability = null;
 		if(reCiterArticle.getArticleCoAuthors().getAuthors() != null 
 				&& 
 				!reCiterArticle.getArticleCoAuthors().getAuthors().isEmpty()
 				&&
-				genders != null
-				&&
-				!genders.isEmpty()) {
+				genderProbabilityIndex != null) {
 			List<ReCiterAuthor> targetAuthorList = reCiterArticle.getArticleCoAuthors().getAuthors()
 			.stream()
 			.filter(reCiterAuthor -> reCiterAuthor.isTargetAuthor())
@@ -133,35 +117,19 @@ public class GenderProbability {
 				return null;
 			} else {
 				if(targetAuthorList.get(0) != null && targetAuthorList.get(0).getAuthorName().getFirstName() != null) {
-					if(targetAuthorList.get(0).getAuthorName().getFirstName().contains(" ") || targetAuthorList.get(0).getAuthorName().getFirstName().contains("-")) {
-					String targetAuthor[] = targetAuthorList.get(0).getAuthorName().getFirstName().split("\\s+|-");
-					List<String> targetAuthorSplitList = Arrays.asList(targetAuthor);
-					matchingGenders = genders
-							.parallelStream()
-							.filter(gender ->
-							targetAuthorSplitList.stream().anyMatch(split -> split.length() >= 2 &&  split.equalsIgnoreCase(gender.getName().trim())
-							))
-							.collect(Collectors.toList());
-					} else {
-						matchingGenders = genders
-								.parallelStream()
-								.filter(gender ->
-										targetAuthorList.get(0).getAuthorName().getFirstName() != null
-										&&
-										targetAuthorList.get(0).getAuthorName().getFirstName().length() >= 2
-										&& 
-										targetAuthorList.get(0).getAuthorName().getFirstName().equalsIgnoreCase(gender.getName())).collect(Collectors.toList());
+					String firstName = targetAuthorList.get(0).getAuthorName().getFirstName();
+					if(firstName.contains(" ") || firstName.contains("-")) {
+						List<String> targetAuthorSplitList = Arrays.stream(firstName.split("\\s+|-"))
+								.filter(split -> split.length() >= 2)
+								.collect(Collectors.toList());
+						avgProbability = genderProbabilityIndex.getAverageProbability(targetAuthorSplitList);
+					} else if(firstName.length() >= 2) {
+						avgProbability = genderProbabilityIndex.getAverageProbability(Collections.singletonList(firstName));
 					}
 				}
 			}
 		}
-		if(!matchingGenders.isEmpty()) {
-			List<Gender> matchingGendersCopy = new ArrayList<Gender>();
-			matchingGenders.forEach(matchGender -> {
-				matchingGendersCopy
-				.add(new Gender(matchGender.getUniqueId(), matchGender.getName(), matchGender.getGender(), ((matchGender.getGender() == GenderEnum.F)?(1 - matchGender.getProbability()):matchGender.getProbability())));
-			});
-			Double avgProbability = matchingGendersCopy.stream().mapToDouble(Gender::getProbability).average().getAsDouble();
+		if(avgProbability != null) {
 			return new Gender(null, null, null, avgProbability);
 		}
 		return null;
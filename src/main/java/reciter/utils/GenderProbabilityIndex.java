@@ -0,0 +1,72 @@
+package reciter.utils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import reciter.database.dynamodb.model.Gender;
+import reciter.database.dynamodb.model.GenderEnum;
+
+/**
+ * Immutable index of the Gender table keyed by the lower cased, trimmed name. For each name it keeps the sum and
+ * the number of the male probabilities of its rows (a female row with probability p counts as 1 - p), so the
+ * average over all rows matching a set of names is a few hash lookups instead of a scan of the whole table.
+ */
+public final class GenderProbabilityIndex {
+
+	private final Map<String, NameProbability> probabilityByName;
+
+	private GenderProbabilityIndex(Map<String, NameProbability> probabilityByName) {
+		this.probabilityByName = probabilityByName;
+	}
+
+	public static GenderProbabilityIndex of(List<Gender> genders) {
+		Map<String, NameProbability> probabilityByName = new HashMap<>();
+		for (Gender gender : genders) {
+			if (gender.getName() == null) {
+				continue;
+			}
+			double probability = (gender.getGender() == GenderEnum.F) ? (1 - gender.getProbability()) : gender.getProbability();
+			probabilityByName.computeIfAbsent(normalize(gender.getName()), name -> new NameProbability()).add(probability);
+		}
+		return new GenderProbabilityIndex(probabilityByName);
+	}
+
+	/**
+	 * @param names first or middle names, compared ignoring case
+	 * @return the average male probability of all the rows matching any of the names, <code>null</code> if no row matches
+	 */
+	public Double getAverageProbability(Collection<String> names) {
+		Set<String> normalizedNames = new HashSet<>();
+		double probabilitySum = 0;
+		int count = 0;
+		for (String name : names) {
+			String normalizedName = normalize(name);
+			NameProbability nameProbability = probabilityByName.get(normalizedName);
+			if (nameProbability != null && normalizedNames.add(normalizedName)) {
+				probabilitySum += nameProbability.probabilitySum;
+				count += nameProbability.count;
+			}
+		}
+		return count == 0 ? null : probabilitySum / count;
+	}
+
+	private static String normalize(String name) {
+		return name.trim().toLowerCase();
+	}
+
+	private static final class NameProbability {
+
+		private double probabilitySum;
+
+		private int count;
+
+		private void add(double probability) {
+			probabilitySum += probability;
+			count++;
+		}
+	}
+}
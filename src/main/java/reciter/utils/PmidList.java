@@ -0,0 +1,93 @@
+package reciter.utils;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of pmids backed by a <code>long[]</code>, with an open addressing hash table of the same pmids so
+ * that {@link #contains(Object)} is a constant time lookup instead of a scan of the list.
+ * <p>
+ * Code written against <code>List&lt;Long&gt;</code> that checks the membership of every element of one list in
+ * another one, like {@link reciter.engine.erroranalysis.Analysis#performAnalysis}, becomes linear instead of
+ * quadratic when given these lists. Null pmids are left out.
+ */
+public final class PmidList extends AbstractList<Long> implements RandomAccess {
+
+	private static final long EMPTY = 0L;
+
+	private final long[] pmids;
+
+	private final long[] table;
+
+	private final int mask;
+
+	/**
+	 * The empty slot marker is 0, so a 0 pmid is tracked separately.
+	 */
+	private final boolean containsZero;
+
+	private PmidList(long[] pmids) {
+		this.pmids = pmids;
+		int capacity = Integer.highestOneBit(Math.max(2, pmids.length * 2 - 1)) << 1;
+		this.table = new long[capacity];
+		this.mask = capacity - 1;
+		boolean zero = false;
+		for(long pmid: pmids) {
+			if(pmid == EMPTY) {
+				zero = true;
+				continue;
+			}
+			int slot = slotOf(pmid);
+			while(table[slot] != EMPTY && table[slot] != pmid) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = pmid;
+		}
+		this.containsZero = zero;
+	}
+
+	/**
+	 * @param pmids pmids in the order the list returns them, duplicates are kept
+	 */
+	public static PmidList of(Collection<Long> pmids) {
+		if(pmids instanceof PmidList) {
+			return (PmidList) pmids;
+		}
+		return new PmidList(pmids.stream().filter(pmid -> pmid != null).mapToLong(Long::longValue).toArray());
+	}
+
+	@Override
+	public Long get(int index) {
+		return pmids[index];
+	}
+
+	@Override
+	public int size() {
+		return pmids.length;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return o instanceof Long && contains(((Long) o).longValue());
+	}
+
+	public boolean contains(long pmid) {
+		if(pmid == EMPTY) {
+			return containsZero;
+		}
+		int slot = slotOf(pmid);
+		while(table[slot] != EMPTY) {
+			if(table[slot] == pmid) {
+				return true;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return false;
+	}
+
+	private int slotOf(long pmid) {
+		long hash = pmid * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32)) & mask;
+	}
+}
@@ -20,15 +20,12 @@ package reciter.xml.retriever.engine;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Date;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import reciter.api.parameters.RetrievalRefreshFlag;
-import reciter.database.dynamodb.model.ESearchPmid;
-import reciter.database.dynamodb.model.ESearchResult;
 import reciter.database.dynamodb.model.QueryType;
 import reciter.model.pubmed.PubMedArticle;
 import reciter.service.ESearchResultService;
@@ -93,11 +90,12 @@ public abstract class AbstractReCiterRetrievalEngine implements ReCiterRetrieval
 	protected GrantRetrievalStrategy grantRetrievalStrategy;
 	
 	/**
-	 * Save the PubMed articles and the ESearch results.
+	 * Save the PubMed articles and add their pmids to the ESearch result of the retrieval session. The ESearch result
+	 * is written when the session is committed.
 	 * @param pubMedArticles
-	 * @param uid
+	 * @param eSearchResultSession
 	 */
-	protected void savePubMedArticles(Collection<PubMedArticle> pubMedArticles, String uid, String retrievalStrategyName, List<PubMedQueryResult> pubMedQueryResults, QueryType queryType, RetrievalRefreshFlag refreshFlag) {
+	protected void savePubMedArticles(Collection<PubMedArticle> pubMedArticles, ESearchResultSession eSearchResultSession, String retrievalStrategyName, List<PubMedQueryResult> pubMedQueryResults, QueryType queryType, RetrievalRefreshFlag refreshFlag) {
 		// Save the articles.
 		List<PubMedArticle> pubMedArticleList = new ArrayList<>(pubMedArticles);
 		pubMedService.save(pubMedArticleList);
@@ -107,39 +105,6 @@ public abstract class AbstractReCiterRetrievalEngine implements ReCiterRetrieval
 		for (PubMedArticle pubMedArticle : pubMedArticles) {
 			pmids.add(pubMedArticle.getMedlinecitation().getMedlinecitationpmid().getPmid());
 		}
-		ESearchPmid eSearchPmid = null;
-		if(!pmids.isEmpty()){
-			reciter.database.dynamodb.model.ESearchPmid.RetrievalRefreshFlag eSearchPmidRefreshFlag;
-			if(refreshFlag == RetrievalRefreshFlag.ALL_PUBLICATIONS) {
-				eSearchPmidRefreshFlag = reciter.database.dynamodb.model.ESearchPmid.RetrievalRefreshFlag.ALL_PUBLICATIONS;
-			} else if(refreshFlag == RetrievalRefreshFlag.ONLY_NEWLY_ADDED_PUBLICATIONS) {
-				eSearchPmidRefreshFlag = reciter.database.dynamodb.model.ESearchPmid.RetrievalRefreshFlag.ONLY_NEWLY_ADDED_PUBLICATIONS;
-			} else {
-				eSearchPmidRefreshFlag = reciter.database.dynamodb.model.ESearchPmid.RetrievalRefreshFlag.FALSE;
-			}
-			eSearchPmid = new ESearchPmid(pmids, retrievalStrategyName, new Date(), eSearchPmidRefreshFlag);
-		}
-		ESearchResult eSearchResultDb = eSearchResultService.findByUid(uid);
-		if (eSearchResultDb == null) {
-			List<ESearchPmid> eSearchPmids = new ArrayList<>();
-			if(eSearchPmid != null) {
-				eSearchPmids.add(eSearchPmid);
-			}
-			if(!eSearchPmids.isEmpty()) {
-				eSearchResultService.save(new ESearchResult(uid, new Date(), eSearchPmids, queryType));
-			}
-		} else {
-			List<ESearchPmid> eSearchPmids = eSearchResultDb.getESearchPmids();
-			if(eSearchPmid != null) {
-				eSearchPmids.add(eSearchPmid);
-			}
-			if(!eSearchPmids.isEmpty()) {
-				eSearchResultService.save(new ESearchResult(uid, new Date(), eSearchPmids, queryType));
-			} else {
-				eSearchResultDb.setRetrievalDate(new Date());
-				eSearchResultDb.setQueryType(queryType);
-				eSearchResultService.save(eSearchResultDb);
-			}
-		}
+		eSearchResultSession.add(retrievalStrategyName, pmids, queryType, refreshFlag);
 	}
 }
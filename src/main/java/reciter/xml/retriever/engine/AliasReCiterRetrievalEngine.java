@@ -19,10 +19,17 @@
 package reciter.xml.retriever.engine;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,9 +48,11 @@ import reciter.model.pubmed.PubMedArticle;
 import reciter.model.scopus.ScopusArticle;
 import reciter.service.ESearchResultService;
 import reciter.service.dynamo.IDynamoDbGoldStandardService;
+import reciter.service.dynamo.PubMedArticleRevisionIndex;
 import reciter.utils.AuthorNameUtils;
 import reciter.utils.ThreadDelay;
 import reciter.xml.retriever.pubmed.AbstractRetrievalStrategy.RetrievalResult;
+import reciter.xml.retriever.pubmed.RetrievalStrategy;
 
 @Component("aliasReCiterRetrievalEngine")
 public class AliasReCiterRetrievalEngine extends AbstractReCiterRetrievalEngine {
@@ -62,6 +71,31 @@ public class AliasReCiterRetrievalEngine extends AbstractReCiterRetrievalEngine
 	@Autowired
 	private ESearchResultService eSearchResultService;
 	
+	@Autowired
+	private PubMedArticleRevisionIndex pubMedArticleRevisionIndex;
+	
+	/**
+	 * Maximum number of retrieval strategies running at the same time, shared by all the identities being retrieved.
+	 */
+	@Value("${reciter.retrieval.strategy.concurrency:8}")
+	private int strategyConcurrency;
+	
+	/**
+	 * Read the ESearchResult again before writing it at the end of a retrieval, in case it changed during the retrieval.
+	 */
+	@Value("${reciter.retrieval.esearchresult.verifyBeforeWrite:false}")
+	private boolean verifyESearchResultBeforeWrite;
+	
+	private ExecutorService strategyExecutor;
+	
+	/**
+	 * Runs one retrieval strategy for an identity, either for all its publications or for a date range.
+	 */
+	@FunctionalInterface
+	private interface StrategyRetrieval {
+		RetrievalResult retrieve(RetrievalStrategy retrievalStrategy, Map<IdentityNameType, Set<AuthorName>> identityNames, boolean useStrictQueryOnly) throws IOException;
+	}
+	
 	public enum IdentityNameType {
 		ORIGINAL,
 		DERIVED
@@ -104,26 +138,57 @@ public class AliasReCiterRetrievalEngine extends AbstractReCiterRetrievalEngine
 	@Override
 	public boolean retrieveArticlesByDateRange(List<Identity> identities, Date startDate, Date endDate, RetrievalRefreshFlag refreshFlag) throws IOException {
 		ExecutorService executorService = Executors.newWorkStealingPool(15);//Executors.newFixedThreadPool(10);
-		for (Identity identity : identities) {
-			executorService.execute(new AsyncRetrievalEngine(identity, startDate, endDate, refreshFlag));
-		}
-		executorService.shutdown();
+		// Gold standard articles already written during the run are read back instead of downloaded again.
+		pubMedArticleRevisionIndex.beginRun();
 		try {
-			executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
-		} catch (InterruptedException e) {
-			slf4jLogger.error("Thread interrupted while waiting for retrieval to finish.");
-			return false;
+			for (Identity identity : identities) {
+				executorService.execute(new AsyncRetrievalEngine(identity, startDate, endDate, refreshFlag));
+			}
+			executorService.shutdown();
+			try {
+				executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				slf4jLogger.error("Thread interrupted while waiting for retrieval to finish.");
+				return false;
+			}
+			return true;
+		} finally {
+			pubMedArticleRevisionIndex.endRun();
 		}
-		return true;
 	}
 	
 	private Set<Long> retrieveData(Identity identity, RetrievalRefreshFlag refreshFlag) throws IOException {
+		return retrieve(identity, refreshFlag, 
+				(retrievalStrategy, identityNames, useStrictQueryOnly) -> retrievalStrategy.retrievePubMedArticles(identity, identityNames, useStrictQueryOnly), 
+				true);
+	}
+	
+	public void retrieveDataByDateRange(Identity identity, Date startDate, Date endDate, RetrievalRefreshFlag refreshFlag) throws IOException {
+		retrieve(identity, refreshFlag, 
+				(retrievalStrategy, identityNames, useStrictQueryOnly) -> retrievalStrategy.retrievePubMedArticles(identity, identityNames, startDate, endDate, useStrictQueryOnly), 
+				false);
+	}
+	
+	/**
+	 * Runs the retrieval strategies for an identity.
+	 * <p>
+	 * The gold standard, email and first name initial strategies do not depend on each other and run concurrently. Once
+	 * the first name initial count decides between the lenient and the strict lookup, the remaining strategies run
+	 * concurrently as well. Results are merged and saved in the same strategy order as when the strategies ran one after
+	 * another, so the ESearchResult and the query type end up the same. The ESearchResult is written once after the
+	 * last strategy. If a strategy fails, the strategies not finished yet are cancelled, the ESearchResult is written
+	 * with the pmids of the strategies already saved and the failure is rethrown.
+	 * 
+	 * @param strategyRetrieval runs a strategy for the full or the date range retrieval
+	 * @param strictWhenExceedsThreshold switch the remaining strategies to strict queries when the first name initial
+	 * count exceeds the lenient threshold
+	 * @return pmids retrieved for the identity
+	 */
+	private Set<Long> retrieve(Identity identity, RetrievalRefreshFlag refreshFlag, StrategyRetrieval strategyRetrieval, boolean strictWhenExceedsThreshold) throws IOException {
 		Set<Long> uniquePmids = new HashSet<>();
 		
 		QueryType queryType = null;
 		
-		//eSearchResultService.delete();
-		
 		String uid = identity.getUid();
 		
 		Map<IdentityNameType, Set<AuthorName>> identityNames = new LinkedHashMap<IdentityNameType, Set<AuthorName>>();
@@ -134,397 +199,212 @@ public class AliasReCiterRetrievalEngine extends AbstractReCiterRetrievalEngine
 			queryType = QueryType.STRICT_COMPOUND_NAME_LOOKUP;
 		}
 		
-		//Retreive by GoldStandard
-		Map<Long, PubMedArticle> pubMedArticles = null;
-		GoldStandard goldStandard = dynamoDbGoldStandardService.findByUid(identity.getUid().trim());
-		if(goldStandard != null && goldStandard.getKnownPmids() != null && !goldStandard.getKnownPmids().isEmpty()) {
-			RetrievalResult goldStandardRetrievalResult = goldStandardRetrievalStrategy.retrievePubMedArticles(identity, identityNames, useStrictQueryOnly);
-			pubMedArticles = goldStandardRetrievalResult.getPubMedArticles();
-			savePubMedArticles(pubMedArticles.values(), uid, goldStandardRetrievalStrategy.getRetrievalStrategyName(), goldStandardRetrievalResult.getPubMedQueryResults(), queryType, refreshFlag);
-			uniquePmids.addAll(pubMedArticles.keySet());
-		}
-		// Retrieve by email.
-		RetrievalResult retrievalResult = emailRetrievalStrategy.retrievePubMedArticles(identity, identityNames, useStrictQueryOnly);
-		pubMedArticles = retrievalResult.getPubMedArticles();
+		ESearchResultSession eSearchResultSession = ESearchResultSession.open(uid, eSearchResultService);
 		
-		/*if (pubMedArticles.size() > 0) {
-			Map<Long, AuthorName> aliasSet = AuthorNameUtils.calculatePotentialAlias(identity, pubMedArticles.values());
-
-			slf4jLogger.info("Found " + aliasSet.size() + " new alias for uid=[" + uid + "]");
-			 
-			// Update alias.
-			List<PubMedAlias> pubMedAliases = new ArrayList<>();
-			for (Map.Entry<Long, AuthorName> entry : aliasSet.entrySet()) {
-				PubMedAlias pubMedAlias = new PubMedAlias();
-				pubMedAlias.setAuthorName(entry.getValue());
-				pubMedAlias.setPmid(entry.getKey());
-				slf4jLogger.info("new alias for uid=[" + identity.getUid() + "], alias=[" + entry.getValue() + "] from pmid=[" + entry.getKey() + "]");
-				pubMedAliases.add(pubMedAlias);
+		Map<Long, PubMedArticle> pubMedArticles = new HashMap<>();
+		List<CompletableFuture<RetrievalResult>> strategyFutures = new ArrayList<>();
+		try {
+			//Retreive by GoldStandard, email and first name initial concurrently
+			CompletableFuture<RetrievalResult> goldStandardFuture = null;
+			GoldStandard goldStandard = dynamoDbGoldStandardService.findByUid(identity.getUid().trim());
+			if(goldStandard != null && goldStandard.getKnownPmids() != null && !goldStandard.getKnownPmids().isEmpty()) {
+				goldStandardFuture = retrieveAsync(goldStandardRetrievalStrategy, identityNames, useStrictQueryOnly, strategyRetrieval);
+				strategyFutures.add(goldStandardFuture);
 			}
-
-			identity.setPubMedAlias(pubMedAliases);
-			Date date = new Date();
-			identity.setDateInitialRun(date);
-			identity.setDateLastRun(date);
-			identityService.save(identity);
-      
-			uniquePmids.addAll(pubMedArticles.keySet());
-		}*/
+			CompletableFuture<RetrievalResult> emailFuture = retrieveAsync(emailRetrievalStrategy, identityNames, useStrictQueryOnly, strategyRetrieval);
+			// The first name initial strategy always starts with the lenient query, its count decides the lookup type.
+			CompletableFuture<RetrievalResult> firstNameInitialFuture = retrieveAsync(firstNameInitialRetrievalStrategy, identityNames, false, strategyRetrieval);
+			strategyFutures.add(emailFuture);
+			strategyFutures.add(firstNameInitialFuture);
 		
-		// TODO parallelize by putting save in a separate thread.
-		savePubMedArticles(pubMedArticles.values(), uid, emailRetrievalStrategy.getRetrievalStrategyName(), retrievalResult.getPubMedQueryResults(), queryType, refreshFlag);
-		uniquePmids.addAll(pubMedArticles.keySet());
-
-		RetrievalResult r1;
-		if(useStrictQueryOnly) {
-			r1 = firstNameInitialRetrievalStrategy.retrievePubMedArticles(identity, identityNames, false);
-		} else {
-			r1 = firstNameInitialRetrievalStrategy.retrievePubMedArticles(identity, identityNames, useStrictQueryOnly);
-		}
-		//if (r1.getPubMedArticles().size() > 0) {
-		if(r1.getPubMedQueryResults() != null
-				&&
-				r1.getPubMedQueryResults().size() > 0
-				&&
-				r1.getPubMedQueryResults().get(0).getNumResult() < searchStrategyLeninentThreshold) {
-			if(queryType == null) {
-				queryType = QueryType.LENIENT_LOOKUP;
+			if(goldStandardFuture != null) {
+				RetrievalResult goldStandardRetrievalResult = join(goldStandardFuture);
+				savePubMedArticles(goldStandardRetrievalResult.getPubMedArticles().values(), eSearchResultSession, goldStandardRetrievalStrategy.getRetrievalStrategyName(), goldStandardRetrievalResult.getPubMedQueryResults(), queryType, refreshFlag);
+				uniquePmids.addAll(goldStandardRetrievalResult.getPubMedArticles().keySet());
 			}
-			pubMedArticles.putAll(r1.getPubMedArticles());
-			savePubMedArticles(r1.getPubMedArticles().values(), uid, firstNameInitialRetrievalStrategy.getRetrievalStrategyName(), r1.getPubMedQueryResults(), queryType, refreshFlag);
-			uniquePmids.addAll(r1.getPubMedArticles().keySet());
-		} 
-		//toggle useStrictQUery as true if results from Last Name First Initial Strategy is larger than lenientStrategy
-		if(r1.getPubMedQueryResults().get(0).getNumResult() > searchStrategyLeninentThreshold) {
-			useStrictQueryOnly = true;
-			queryType = QueryType.STRICT_EXCEEDS_THRESHOLD_LOOKUP;
-		}
 		
-		if(r1.getPubMedQueryResults() != null
-				&&
-				r1.getPubMedQueryResults().size() > 0
-				&&
-				r1.getPubMedQueryResults().get(0).getNumResult() > searchStrategyLeninentThreshold
-				||
-				useStrictQueryOnly) {
-			//Check to see if there is an actual need to do query for all steps
-			if(identity.getInstitutions() != null && !identity.getInstitutions().isEmpty()) {
-				RetrievalResult r2 = affiliationInDbRetrievalStrategy.retrievePubMedArticles(identity, identityNames, useStrictQueryOnly);
-				pubMedArticles.putAll(r2.getPubMedArticles());
-				savePubMedArticles(r2.getPubMedArticles().values(), uid, affiliationInDbRetrievalStrategy.getRetrievalStrategyName(), r2.getPubMedQueryResults(), queryType, refreshFlag);
-				uniquePmids.addAll(r2.getPubMedArticles().keySet());
-				
-			} else {
-				slf4jLogger.info("Skipping " + affiliationInDbRetrievalStrategy.getRetrievalStrategyName() + " since no affiliation for " + identity.getUid());
+			// Retrieve by email.
+			RetrievalResult retrievalResult = join(emailFuture);
+			pubMedArticles.putAll(retrievalResult.getPubMedArticles());
+			savePubMedArticles(retrievalResult.getPubMedArticles().values(), eSearchResultSession, emailRetrievalStrategy.getRetrievalStrategyName(), retrievalResult.getPubMedQueryResults(), queryType, refreshFlag);
+			uniquePmids.addAll(retrievalResult.getPubMedArticles().keySet());
+
+			RetrievalResult r1 = join(firstNameInitialFuture);
+			boolean hasFirstNameInitialCount = r1.getPubMedQueryResults() != null && r1.getPubMedQueryResults().size() > 0;
+			if(hasFirstNameInitialCount
+					&&
+					r1.getPubMedQueryResults().get(0).getNumResult() < searchStrategyLeninentThreshold) {
+				if(queryType == null) {
+					queryType = QueryType.LENIENT_LOOKUP;
+				}
+				pubMedArticles.putAll(r1.getPubMedArticles());
+				savePubMedArticles(r1.getPubMedArticles().values(), eSearchResultSession, firstNameInitialRetrievalStrategy.getRetrievalStrategyName(), r1.getPubMedQueryResults(), queryType, refreshFlag);
+				uniquePmids.addAll(r1.getPubMedArticles().keySet());
 			}
-			
-			RetrievalResult r3 = affiliationRetrievalStrategy.retrievePubMedArticles(identity, identityNames, useStrictQueryOnly);
-			pubMedArticles.putAll(r3.getPubMedArticles());
-			savePubMedArticles(r3.getPubMedArticles().values(), uid, affiliationRetrievalStrategy.getRetrievalStrategyName(), r3.getPubMedQueryResults(), queryType, refreshFlag);
-			uniquePmids.addAll(r3.getPubMedArticles().keySet());
-			
-			if(identity.getOrganizationalUnits() != null && !identity.getOrganizationalUnits().isEmpty()) {
-				RetrievalResult r4 = departmentRetrievalStrategy.retrievePubMedArticles(identity, identityNames, useStrictQueryOnly);
-				pubMedArticles.putAll(r4.getPubMedArticles());
-				savePubMedArticles(r4.getPubMedArticles().values(), uid, departmentRetrievalStrategy.getRetrievalStrategyName(), r4.getPubMedQueryResults(), queryType, refreshFlag);
-				uniquePmids.addAll(r4.getPubMedArticles().keySet());
-				
-			} else {
-				slf4jLogger.info("Skipping " + departmentRetrievalStrategy.getRetrievalStrategyName() + " since no departments for " + identity.getUid());
+			//toggle useStrictQUery as true if results from Last Name First Initial Strategy is larger than lenientStrategy
+			if(hasFirstNameInitialCount
+					&&
+					r1.getPubMedQueryResults().get(0).getNumResult() > searchStrategyLeninentThreshold) {
+				if(strictWhenExceedsThreshold) {
+					useStrictQueryOnly = true;
+				}
+				queryType = QueryType.STRICT_EXCEEDS_THRESHOLD_LOOKUP;
 			}
+		
+			if(hasFirstNameInitialCount
+					&&
+					r1.getPubMedQueryResults().get(0).getNumResult() > searchStrategyLeninentThreshold
+					||
+					useStrictQueryOnly) {
+				//Check to see if there is an actual need to do query for all steps
+				List<RetrievalStrategy> retrievalStrategies = new ArrayList<>();
+				if(identity.getInstitutions() != null && !identity.getInstitutions().isEmpty()) {
+					retrievalStrategies.add(affiliationInDbRetrievalStrategy);
+				} else {
+					slf4jLogger.info("Skipping " + affiliationInDbRetrievalStrategy.getRetrievalStrategyName() + " since no affiliation for " + identity.getUid());
+				}
+				retrievalStrategies.add(affiliationRetrievalStrategy);
+				if(identity.getOrganizationalUnits() != null && !identity.getOrganizationalUnits().isEmpty()) {
+					retrievalStrategies.add(departmentRetrievalStrategy);
+				} else {
+					slf4jLogger.info("Skipping " + departmentRetrievalStrategy.getRetrievalStrategyName() + " since no departments for " + identity.getUid());
+				}
+				if(identity.getGrants() != null && !identity.getGrants().isEmpty()) {
+					retrievalStrategies.add(grantRetrievalStrategy);
+				} else {
+					slf4jLogger.info("Skipping " + grantRetrievalStrategy.getRetrievalStrategyName() + " since no grants for " + identity.getUid());
+				}
+				retrievalStrategies.add(fullNameRetrievalStrategy);
+				if(identity.getKnownRelationships() != null && !identity.getKnownRelationships().isEmpty()) {
+					retrievalStrategies.add(knownRelationshipRetrievalStrategy);
+				} else {
+					slf4jLogger.info("Skipping " + knownRelationshipRetrievalStrategy.getRetrievalStrategyName() + " since no Known Relationships for " + identity.getUid());
+				}
+				retrievalStrategies.add(secondIntialRetrievalStrategy);
 			
-			if(identity.getGrants() != null && !identity.getGrants().isEmpty()) {
-				RetrievalResult r5 = grantRetrievalStrategy.retrievePubMedArticles(identity, identityNames, useStrictQueryOnly);
-				pubMedArticles.putAll(r5.getPubMedArticles());
-				savePubMedArticles(r5.getPubMedArticles().values(), uid, grantRetrievalStrategy.getRetrievalStrategyName(), r5.getPubMedQueryResults(), queryType, refreshFlag);
-				uniquePmids.addAll(r5.getPubMedArticles().keySet());
-				
-			} else {
-				slf4jLogger.info("Skipping " + grantRetrievalStrategy.getRetrievalStrategyName() + " since no grants for " + identity.getUid());
+				List<CompletableFuture<RetrievalResult>> futures = new ArrayList<>(retrievalStrategies.size());
+				for(RetrievalStrategy retrievalStrategy: retrievalStrategies) {
+					futures.add(retrieveAsync(retrievalStrategy, identityNames, useStrictQueryOnly, strategyRetrieval));
+				}
+				strategyFutures.addAll(futures);
+				for(int i = 0; i < retrievalStrategies.size(); i++) {
+					RetrievalResult result = join(futures.get(i));
+					pubMedArticles.putAll(result.getPubMedArticles());
+					savePubMedArticles(result.getPubMedArticles().values(), eSearchResultSession, retrievalStrategies.get(i).getRetrievalStrategyName(), result.getPubMedQueryResults(), queryType, refreshFlag);
+					uniquePmids.addAll(result.getPubMedArticles().keySet());
+				}
 			}
-			
-			RetrievalResult r6 = fullNameRetrievalStrategy.retrievePubMedArticles(identity, identityNames, useStrictQueryOnly);
-			pubMedArticles.putAll(r6.getPubMedArticles());
-			savePubMedArticles(r6.getPubMedArticles().values(), uid, fullNameRetrievalStrategy.getRetrievalStrategyName(), r6.getPubMedQueryResults(), queryType, refreshFlag);
-			uniquePmids.addAll(r6.getPubMedArticles().keySet());
-			
-			if(identity.getKnownRelationships() != null && !identity.getKnownRelationships().isEmpty()) {
-				RetrievalResult r7 = knownRelationshipRetrievalStrategy.retrievePubMedArticles(identity, identityNames, useStrictQueryOnly);
-				pubMedArticles.putAll(r7.getPubMedArticles());
-				savePubMedArticles(r7.getPubMedArticles().values(), uid, knownRelationshipRetrievalStrategy.getRetrievalStrategyName(), r7.getPubMedQueryResults(), queryType, refreshFlag);
-				uniquePmids.addAll(r7.getPubMedArticles().keySet());
-				
-			} else {
-				slf4jLogger.info("Skipping " + knownRelationshipRetrievalStrategy.getRetrievalStrategyName() + " since no Known Relationships for " + identity.getUid());
+		} catch (IOException | RuntimeException e) {
+			// Keep the pmids of the strategies that finished, their articles are already saved.
+			strategyFutures.forEach(future -> future.cancel(false));
+			try {
+				eSearchResultSession.commit(verifyESearchResultBeforeWrite);
+			} catch (RuntimeException commitException) {
+				e.addSuppressed(commitException);
 			}
-			
-			RetrievalResult r8 = secondIntialRetrievalStrategy.retrievePubMedArticles(identity, identityNames, useStrictQueryOnly);
-			pubMedArticles.putAll(r8.getPubMedArticles());
-			savePubMedArticles(r8.getPubMedArticles().values(), uid, secondIntialRetrievalStrategy.getRetrievalStrategyName(), r8.getPubMedQueryResults(), queryType, refreshFlag);
-			uniquePmids.addAll(r8.getPubMedArticles().keySet());
-			
+			throw e;
 		}
 		
+		eSearchResultSession.commit(verifyESearchResultBeforeWrite);
 		
 		if (useScopusArticles) {
-			List<ScopusArticle> scopusArticles = emailRetrievalStrategy.retrieveScopus(uniquePmids);
-      
-			//Delete the table first if required
-			//scopusService.delete();
-
-			scopusService.save(scopusArticles);
-
-			// Look up the remaining Scopus articles by DOI.
-			List<Long> notFoundPmids = new ArrayList<>();
-			Set<Long> foundPmids = new HashSet<>();
-			for (ScopusArticle scopusArticle : scopusArticles) {
-				foundPmids.add(scopusArticle.getPubmedId());
-			}
-			// Find the pmids that were not found by using pmid query to Scopus.
-			for (long pmid : uniquePmids) {
-				if (!foundPmids.contains(pmid)) {
-					notFoundPmids.add(pmid);
-				}
-			}
-			List<String> dois = new ArrayList<>();
-			Map<String, Long> doiToPmid = new HashMap<>();
-			for (long pmid : notFoundPmids) {
-				PubMedArticle pubMedArticle = pubMedArticles.get(pmid);
-
-				if (pubMedArticle != null && 
-						pubMedArticle.getMedlinecitation() != null && 
-						pubMedArticle.getMedlinecitation().getArticle() != null &&
-						pubMedArticle.getMedlinecitation().getArticle().getElocationid() != null &&
-						pubMedArticle.getMedlinecitation().getArticle().getElocationid().getElocationid() != null) {
-					String doi = pubMedArticle.getMedlinecitation().getArticle().getElocationid().getElocationid().toLowerCase(); // Need to lowercase doi here because of null pointer exception. (see below comment)
-					dois.add(doi);
-					doiToPmid.put(doi, pmid); // store a map of doi to pmid so that when Scopus doesn't return pmid, use this mapping to manually insert pmid.
-				}
-			}
-			List<ScopusArticle> scopusArticlesByDoi = emailRetrievalStrategy.retrieveScopusDoi(dois);;
-			List<Long> pmidsByDoi = new ArrayList<>();
-			for (ScopusArticle scopusArticle : scopusArticlesByDoi) {
-				// manually insert PMID information.
-				if (scopusArticle.getDoi() != null && !scopusArticle.getDoi().isEmpty()) {
-					// Need to lowercase doi here because of null pointer exception.
-					// PMID: 28221372
-					// PubMed article may provide DOI as "10.1038/NPLANTS.2016.112", and Scopus article may provide DOI as 10.1038/nplants.2016.112
-					//Sometimes scopus doi retrieval wont match with the DOI found in Pubmed
-					if(doiToPmid.get(scopusArticle.getDoi().toLowerCase()) != null)
-						scopusArticle.setPubmedId(doiToPmid.get(scopusArticle.getDoi().toLowerCase()));
-				}
-				pmidsByDoi.add(scopusArticle.getPubmedId());
-			}
-			slf4jLogger.info("retrieved size=[" + pmidsByDoi.size() + "] pmidsByDoi=" + pmidsByDoi + " via DOI for uid=[" + uid + "]");
-			scopusService.save(scopusArticlesByDoi);
+			retrieveScopusArticles(uid, uniquePmids, pubMedArticles);
 		}
 		
 		slf4jLogger.info("Finished retrieval for uid: " + identity.getUid());
 		return uniquePmids;
 	}
 	
-	public void retrieveDataByDateRange(Identity identity, Date startDate, Date endDate, RetrievalRefreshFlag refreshFlag) throws IOException {
-		Set<Long> uniquePmids = new HashSet<>();
-		QueryType queryType = null; 
-		String uid = identity.getUid();
-		
-		Map<IdentityNameType, Set<AuthorName>> identityNames = new LinkedHashMap<IdentityNameType, Set<AuthorName>>();
-		identityAuthorNames(identity, identityNames);
-		
-		boolean useStrictQueryOnly = identityNames.entrySet().stream().anyMatch(entry -> entry.getKey() == IdentityNameType.DERIVED && entry.getValue().size() > 0);
-		
-		if(useStrictQueryOnly) {
-			queryType = QueryType.STRICT_COMPOUND_NAME_LOOKUP;
-		}
-		
-		Map<Long, PubMedArticle> pubMedArticles = null;
-		//Retreive by GoldStandard
-		GoldStandard goldStandard = dynamoDbGoldStandardService.findByUid(identity.getUid().trim());
-		if(goldStandard != null && goldStandard.getKnownPmids() != null && !goldStandard.getKnownPmids().isEmpty()) {
-			RetrievalResult goldStandardRetrievalResult = goldStandardRetrievalStrategy.retrievePubMedArticles(identity, identityNames, startDate, endDate, useStrictQueryOnly);
-			pubMedArticles = goldStandardRetrievalResult.getPubMedArticles();
-			savePubMedArticles(pubMedArticles.values(), uid, goldStandardRetrievalStrategy.getRetrievalStrategyName(), goldStandardRetrievalResult.getPubMedQueryResults(), queryType, refreshFlag);
-			uniquePmids.addAll(pubMedArticles.keySet());
-		}
-		
-		// Retrieve by email.
-		RetrievalResult retrievalResult = emailRetrievalStrategy.retrievePubMedArticles(identity, identityNames, startDate, endDate, useStrictQueryOnly);
-		//Map<Long, PubMedArticle> emailPubMedArticles = retrievalResult.getPubMedArticles();
-		pubMedArticles = retrievalResult.getPubMedArticles();
-		
-		/*if (pubMedArticles.size() > 0) {
-			Map<Long, AuthorName> aliasSet = AuthorNameUtils.calculatePotentialAlias(identity, pubMedArticles.values());
-
-			slf4jLogger.info("Found " + aliasSet.size() + " new alias for uid=[" + uid + "]");
-			 
-			// Update alias.
-			List<PubMedAlias> pubMedAliases = new ArrayList<PubMedAlias>();
-			for (Map.Entry<Long, AuthorName> entry : aliasSet.entrySet()) {
-				PubMedAlias pubMedAlias = new PubMedAlias();
-				pubMedAlias.setAuthorName(entry.getValue());
-				pubMedAlias.setPmid(entry.getKey());
-				slf4jLogger.info("new alias for uid=[" + identity.getUid() + "], alias=[" + entry.getValue() + "] from pmid=[" + entry.getKey() + "]");
-				pubMedAliases.add(pubMedAlias);
-			}
-
-			identity.setPubMedAlias(pubMedAliases);
-			// TODO convert to localdate
-			Date now = new Date();
-			identity.setDateInitialRun(now);
-			identity.setDateLastRun(now);
-			identityService.save(identity);
-			
-			uniquePmids.addAll(pubMedArticles.keySet());
-		}*/
-		
-		// TODO parallelize by putting save in a separate thread.
-		savePubMedArticles(pubMedArticles.values(), uid, emailRetrievalStrategy.getRetrievalStrategyName(), retrievalResult.getPubMedQueryResults(), queryType, refreshFlag);
-		uniquePmids.addAll(pubMedArticles.keySet());
-
-		RetrievalResult r1;
-		if(useStrictQueryOnly) {
-			r1 = firstNameInitialRetrievalStrategy.retrievePubMedArticles(identity, identityNames, startDate, endDate, false);
-		} else {
-			r1 = firstNameInitialRetrievalStrategy.retrievePubMedArticles(identity, identityNames, startDate, endDate, useStrictQueryOnly);
-		}
-		//if (r1.getPubMedArticles().size() > 0) {
-		if(r1.getPubMedQueryResults() != null
-				&&
-				r1.getPubMedQueryResults().size() > 0
-				&&
-				r1.getPubMedQueryResults().get(0).getNumResult() < searchStrategyLeninentThreshold) {
-			if(queryType == null) {
-				queryType = QueryType.LENIENT_LOOKUP;
-			}
-			pubMedArticles.putAll(r1.getPubMedArticles());
-			savePubMedArticles(r1.getPubMedArticles().values(), uid, firstNameInitialRetrievalStrategy.getRetrievalStrategyName(), r1.getPubMedQueryResults(), queryType, refreshFlag);
-			uniquePmids.addAll(r1.getPubMedArticles().keySet());
-		}
-		
-		if(r1.getPubMedQueryResults() != null
-				&&
-				r1.getPubMedQueryResults().size() > 0
-				&&
-				r1.getPubMedQueryResults().get(0).getNumResult() > searchStrategyLeninentThreshold) {
-			queryType = QueryType.STRICT_EXCEEDS_THRESHOLD_LOOKUP;
-		}
-		
-		if(r1.getPubMedQueryResults() != null
-				&&
-				r1.getPubMedQueryResults().size() > 0
-				&&
-				r1.getPubMedQueryResults().get(0).getNumResult() > searchStrategyLeninentThreshold
-				||
-				useStrictQueryOnly) {
-			
-			if(identity.getInstitutions() != null && !identity.getInstitutions().isEmpty()) {
-				RetrievalResult r2 = affiliationInDbRetrievalStrategy.retrievePubMedArticles(identity, identityNames, startDate, endDate, useStrictQueryOnly);
-				pubMedArticles.putAll(r2.getPubMedArticles());
-				savePubMedArticles(r2.getPubMedArticles().values(), uid, affiliationInDbRetrievalStrategy.getRetrievalStrategyName(), r2.getPubMedQueryResults(), queryType, refreshFlag);
-				uniquePmids.addAll(r2.getPubMedArticles().keySet());
-			} else {
-				slf4jLogger.info("Skipping " + affiliationInDbRetrievalStrategy.getRetrievalStrategyName() + " since no affiliation for " + identity.getUid());
+	@PostConstruct
+	private void createStrategyExecutor() {
+		AtomicInteger threadCount = new AtomicInteger();
+		strategyExecutor = Executors.newFixedThreadPool(Math.max(1, strategyConcurrency), runnable -> {
+			Thread thread = new Thread(runnable, "retrieval-strategy-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+	
+	@PreDestroy
+	private void shutdownStrategyExecutor() {
+		strategyExecutor.shutdownNow();
+	}
+	
+	private CompletableFuture<RetrievalResult> retrieveAsync(RetrievalStrategy retrievalStrategy, Map<IdentityNameType, Set<AuthorName>> identityNames, boolean useStrictQueryOnly, StrategyRetrieval strategyRetrieval) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return strategyRetrieval.retrieve(retrievalStrategy, identityNames, useStrictQueryOnly);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
 			}
-
-			RetrievalResult r3 = affiliationRetrievalStrategy.retrievePubMedArticles(identity, identityNames, startDate, endDate, useStrictQueryOnly);
-			pubMedArticles.putAll(r3.getPubMedArticles());
-			savePubMedArticles(r3.getPubMedArticles().values(), uid, affiliationRetrievalStrategy.getRetrievalStrategyName(), r3.getPubMedQueryResults(), queryType, refreshFlag);
-			uniquePmids.addAll(r3.getPubMedArticles().keySet());
-			
-			if(identity.getOrganizationalUnits() != null && !identity.getOrganizationalUnits().isEmpty()) {
-				RetrievalResult r4 = departmentRetrievalStrategy.retrievePubMedArticles(identity, identityNames, startDate, endDate, useStrictQueryOnly);
-				pubMedArticles.putAll(r4.getPubMedArticles());
-				savePubMedArticles(r4.getPubMedArticles().values(), uid, departmentRetrievalStrategy.getRetrievalStrategyName(), r4.getPubMedQueryResults(), queryType, refreshFlag);
-				uniquePmids.addAll(r4.getPubMedArticles().keySet());
-				
-			} else {
-				slf4jLogger.info("Skipping " + departmentRetrievalStrategy.getRetrievalStrategyName() + " since no departments for " + identity.getUid());
+		}, strategyExecutor);
+	}
+	
+	private static RetrievalResult join(CompletableFuture<RetrievalResult> future) throws IOException {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof UncheckedIOException) {
+				throw ((UncheckedIOException) e.getCause()).getCause();
 			}
-			
-			if(identity.getGrants() != null && !identity.getGrants().isEmpty()) {
-				RetrievalResult r5 = grantRetrievalStrategy.retrievePubMedArticles(identity, identityNames, startDate, endDate, useStrictQueryOnly);
-				pubMedArticles.putAll(r5.getPubMedArticles());
-				savePubMedArticles(r5.getPubMedArticles().values(), uid, grantRetrievalStrategy.getRetrievalStrategyName(), r5.getPubMedQueryResults(), queryType, refreshFlag);
-				uniquePmids.addAll(r5.getPubMedArticles().keySet());
-			} else {
-				slf4jLogger.info("Skipping " + grantRetrievalStrategy.getRetrievalStrategyName() + " since no grants for " + identity.getUid());
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
 			}
-			
-			RetrievalResult r6 = fullNameRetrievalStrategy.retrievePubMedArticles(identity, identityNames, startDate, endDate, useStrictQueryOnly);
-			pubMedArticles.putAll(r6.getPubMedArticles());
-			savePubMedArticles(r6.getPubMedArticles().values(), uid, fullNameRetrievalStrategy.getRetrievalStrategyName(), r6.getPubMedQueryResults(), queryType, refreshFlag);
-			uniquePmids.addAll(r6.getPubMedArticles().keySet());
-
-			if(identity.getKnownRelationships() != null && !identity.getKnownRelationships().isEmpty()) {
-				RetrievalResult r7 = knownRelationshipRetrievalStrategy.retrievePubMedArticles(identity, identityNames, startDate, endDate, useStrictQueryOnly);
-				pubMedArticles.putAll(r7.getPubMedArticles());
-				savePubMedArticles(r7.getPubMedArticles().values(), uid, knownRelationshipRetrievalStrategy.getRetrievalStrategyName(), r7.getPubMedQueryResults(), queryType, refreshFlag);
-				uniquePmids.addAll(r7.getPubMedArticles().keySet());
-				
-			} else {
-				slf4jLogger.info("Skipping " + knownRelationshipRetrievalStrategy.getRetrievalStrategyName() + " since no Known Relationships for " + identity.getUid());
-			}
-			RetrievalResult r8 = secondIntialRetrievalStrategy.retrievePubMedArticles(identity, identityNames, startDate, endDate, useStrictQueryOnly);
-			pubMedArticles.putAll(r8.getPubMedArticles());
-			savePubMedArticles(r8.getPubMedArticles().values(), uid, secondIntialRetrievalStrategy.getRetrievalStrategyName(), r8.getPubMedQueryResults(), queryType, refreshFlag);
-			uniquePmids.addAll(r8.getPubMedArticles().keySet());
+			throw e;
 		}
-		
-		//List<ScopusArticle> scopusArticles = emailRetrievalStrategy.retrieveScopus(uniquePmids);
-		//scopusService.save(scopusArticles);
-		if (useScopusArticles) {
-			List<ScopusArticle> scopusArticles = emailRetrievalStrategy.retrieveScopus(uniquePmids);
+	}
+	
+	private void retrieveScopusArticles(String uid, Set<Long> uniquePmids, Map<Long, PubMedArticle> pubMedArticles) {
+		List<ScopusArticle> scopusArticles = emailRetrievalStrategy.retrieveScopus(uniquePmids);
       
-			//Delete the table first if required
-			//scopusService.delete();
+		//Delete the table first if required
+		//scopusService.delete();
 
-			scopusService.save(scopusArticles);
+		scopusService.save(scopusArticles);
 
-			// Look up the remaining Scopus articles by DOI.
-			List<Long> notFoundPmids = new ArrayList<>();
-			Set<Long> foundPmids = new HashSet<>();
-			for (ScopusArticle scopusArticle : scopusArticles) {
-				foundPmids.add(scopusArticle.getPubmedId());
-			}
-			// Find the pmids that were not found by using pmid query to Scopus.
-			for (long pmid : uniquePmids) {
-				if (!foundPmids.contains(pmid)) {
-					notFoundPmids.add(pmid);
-				}
+		// Look up the remaining Scopus articles by DOI.
+		List<Long> notFoundPmids = new ArrayList<>();
+		Set<Long> foundPmids = new HashSet<>();
+		for (ScopusArticle scopusArticle : scopusArticles) {
+			foundPmids.add(scopusArticle.getPubmedId());
+		}
+		// Find the pmids that were not found by using pmid query to Scopus.
+		for (long pmid : uniquePmids) {
+			if (!foundPmids.contains(pmid)) {
+				notFoundPmids.add(pmid);
 			}
-			List<String> dois = new ArrayList<>();
-			Map<String, Long> doiToPmid = new HashMap<>();
-			for (long pmid : notFoundPmids) {
-				PubMedArticle pubMedArticle = pubMedArticles.get(pmid);
+		}
+		List<String> dois = new ArrayList<>();
+		Map<String, Long> doiToPmid = new HashMap<>();
+		for (long pmid : notFoundPmids) {
+			PubMedArticle pubMedArticle = pubMedArticles.get(pmid);
 
-				if (pubMedArticle != null && 
-						pubMedArticle.getMedlinecitation() != null && 
-						pubMedArticle.getMedlinecitation().getArticle() != null &&
-						pubMedArticle.getMedlinecitation().getArticle().getElocationid() != null &&
-						pubMedArticle.getMedlinecitation().getArticle().getElocationid().getElocationid() != null) {
-					String doi = pubMedArticle.getMedlinecitation().getArticle().getElocationid().getElocationid().toLowerCase(); // Need to lowercase doi here because of null pointer exception. (see below comment)
-					dois.add(doi);
-					doiToPmid.put(doi, pmid); // store a map of doi to pmid so that when Scopus doesn't return pmid, use this mapping to manually insert pmid.
-				}
+			if (pubMedArticle != null && 
+					pubMedArticle.getMedlinecitation() != null && 
+					pubMedArticle.getMedlinecitation().getArticle() != null &&
+					pubMedArticle.getMedlinecitation().getArticle().getElocationid() != null &&
+					pubMedArticle.getMedlinecitation().getArticle().getElocationid().getElocationid() != null) {
+				String doi = pubMedArticle.getMedlinecitation().getArticle().getElocationid().getElocationid().toLowerCase(); // Need to lowercase doi here because of null pointer exception. (see below comment)
+				dois.add(doi);
+				doiToPmid.put(doi, pmid); // store a map of doi to pmid so that when Scopus doesn't return pmid, use this mapping to manually insert pmid.
 			}
-			List<ScopusArticle> scopusArticlesByDoi = emailRetrievalStrategy.retrieveScopusDoi(dois);;
-			List<Long> pmidsByDoi = new ArrayList<>();
-			for (ScopusArticle scopusArticle : scopusArticlesByDoi) {
-				// manually insert PMID information.
-				if (scopusArticle.getDoi() != null && !scopusArticle.getDoi().isEmpty()) {
-					// Need to lowercase doi here because of null pointer exception.
-					// PMID: 28221372
-					// PubMed article may provide DOI as "10.1038/NPLANTS.2016.112", and Scopus article may provide DOI as 10.1038/nplants.2016.112
-					//Sometimes scopus doi retrieval wont match with the DOI found in Pubmed
-					if(doiToPmid.get(scopusArticle.getDoi().toLowerCase()) != null)
-						scopusArticle.setPubmedId(doiToPmid.get(scopusArticle.getDoi().toLowerCase()));
-				}
-				pmidsByDoi.add(scopusArticle.getPubmedId());
+		}
+		List<ScopusArticle> scopusArticlesByDoi = emailRetrievalStrategy.retrieveScopusDoi(dois);;
+		List<Long> pmidsByDoi = new ArrayList<>();
+		for (ScopusArticle scopusArticle : scopusArticlesByDoi) {
+			// manually insert PMID information.
+			if (scopusArticle.getDoi() != null && !scopusArticle.getDoi().isEmpty()) {
+				// Need to lowercase doi here because of null pointer exception.
+				// PMID: 28221372
+				// PubMed article may provide DOI as "10.1038/NPLANTS.2016.112", and Scopus article may provide DOI as 10.1038/nplants.2016.112
+				//Sometimes scopus doi retrieval wont match with the DOI found in Pubmed
+				if(doiToPmid.get(scopusArticle.getDoi().toLowerCase()) != null)
+					scopusArticle.setPubmedId(doiToPmid.get(scopusArticle.getDoi().toLowerCase()));
 			}
-			slf4jLogger.info("retrieved size=[" + pmidsByDoi.size() + "] pmidsByDoi=" + pmidsByDoi + " via DOI for uid=[" + uid + "]");
-			scopusService.save(scopusArticlesByDoi);
+			pmidsByDoi.add(scopusArticle.getPubmedId());
 		}
-		slf4jLogger.info("Finished retrieval for uid: " + identity.getUid());
+		slf4jLogger.info("retrieved size=[" + pmidsByDoi.size() + "] pmidsByDoi=" + pmidsByDoi + " via DOI for uid=[" + uid + "]");
+		scopusService.save(scopusArticlesByDoi);
 	}
 	
 	
@@ -535,7 +415,7 @@ public class AliasReCiterRetrievalEngine extends AbstractReCiterRetrievalEngine
 		/*if (!pmids.isEmpty()) {
 			RetrievalResult result = goldStandardRetrievalStrategy.retrievePubMedArticles(pmids);
 			if (result.getPubMedArticles().size() > 0) {
-				savePubMedArticles(result.getPubMedArticles().values(), uid, 
+				savePubMedArticles(result.getPubMedArticles().values(), eSearchResultSession, 
 						goldStandardRetrievalStrategy.getRetrievalStrategyName(), result.getPubMedQueryResults(), null);
 			}
 			List<ScopusArticle> scopusArticles = goldStandardRetrievalStrategy.retrieveScopus(pmids);
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ *******************************************************************************/
+package reciter.xml.retriever.engine;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import reciter.api.parameters.RetrievalRefreshFlag;
+import reciter.database.dynamodb.model.ESearchPmid;
+import reciter.database.dynamodb.model.ESearchResult;
+import reciter.database.dynamodb.model.QueryType;
+import reciter.service.ESearchResultService;
+
+/**
+ * Collects the pmids found by each retrieval strategy during one retrieval run of an identity and writes the
+ * {@link ESearchResult} once at the end of the run. Saving after every strategy used to re-read and rewrite the
+ * whole item each time.
+ * <p>
+ * The stored result is read when the session is opened. When the write is verified, it is read again before
+ * writing. If another writer changed its date or pmids in the meantime (e.g. a gold standard update removing pmids), the
+ * collected pmids are appended to that newer result, so its change is not overwritten.
+ */
+public class ESearchResultSession {
+
+	private final static Logger slf4jLogger = LoggerFactory.getLogger(ESearchResultSession.class);
+
+	private final String uid;
+
+	private final ESearchResultService eSearchResultService;
+
+	private final ESearchResult eSearchResultDb;
+
+	private final List<ESearchPmid> eSearchPmids = new ArrayList<>();
+
+	private QueryType queryType;
+
+	private boolean hasResults;
+
+	private ESearchResultSession(String uid, ESearchResultService eSearchResultService, ESearchResult eSearchResultDb) {
+		this.uid = uid;
+		this.eSearchResultService = eSearchResultService;
+		this.eSearchResultDb = eSearchResultDb;
+	}
+
+	public static ESearchResultSession open(String uid, ESearchResultService eSearchResultService) {
+		return new ESearchResultSession(uid, eSearchResultService, eSearchResultService.findByUid(uid));
+	}
+
+	/**
+	 * Adds the result of a retrieval strategy. The query type of the last result added is the one stored.
+	 * 
+	 * @param pmids pmids retrieved by the strategy, nothing is added to the search result when empty
+	 */
+	public synchronized void add(String retrievalStrategyName, List<Long> pmids, QueryType queryType, RetrievalRefreshFlag refreshFlag) {
+		hasResults = true;
+		this.queryType = queryType;
+		if(pmids.isEmpty()) {
+			return;
+		}
+		ESearchPmid.RetrievalRefreshFlag eSearchPmidRefreshFlag;
+		if(refreshFlag == RetrievalRefreshFlag.ALL_PUBLICATIONS) {
+			eSearchPmidRefreshFlag = ESearchPmid.RetrievalRefreshFlag.ALL_PUBLICATIONS;
+		} else if(refreshFlag == RetrievalRefreshFlag.ONLY_NEWLY_ADDED_PUBLICATIONS) {
+			eSearchPmidRefreshFlag = ESearchPmid.RetrievalRefreshFlag.ONLY_NEWLY_ADDED_PUBLICATIONS;
+		} else {
+			eSearchPmidRefreshFlag = ESearchPmid.RetrievalRefreshFlag.FALSE;
+		}
+		eSearchPmids.add(new ESearchPmid(new ArrayList<>(pmids), retrievalStrategyName, new Date(), eSearchPmidRefreshFlag));
+	}
+
+	/**
+	 * Writes the search result with the pmids of all the strategies added to this session.
+	 * 
+	 * @param verifyBeforeWrite read the stored result again and append to it if it changed since the session was opened
+	 */
+	public synchronized void commit(boolean verifyBeforeWrite) {
+		if(!hasResults) {
+			return;
+		}
+		ESearchResult eSearchResult = eSearchResultDb;
+		if(verifyBeforeWrite) {
+			ESearchResult eSearchResultCurrent = eSearchResultService.findByUid(uid);
+			if(!isSameVersion(eSearchResultDb, eSearchResultCurrent)) {
+				slf4jLogger.warn("ESearchResult for uid=[" + uid + "] changed during retrieval, appending retrieved pmids to the latest version");
+				eSearchResult = eSearchResultCurrent;
+			}
+		}
+		List<ESearchPmid> allESearchPmids = new ArrayList<>();
+		if(eSearchResult != null && eSearchResult.getESearchPmids() != null) {
+			allESearchPmids.addAll(eSearchResult.getESearchPmids());
+		}
+		allESearchPmids.addAll(eSearchPmids);
+		if(!allESearchPmids.isEmpty()) {
+			eSearchResultService.save(new ESearchResult(uid, new Date(), allESearchPmids, queryType));
+		} else if(eSearchResult != null) {
+			eSearchResult.setRetrievalDate(new Date());
+			eSearchResult.setQueryType(queryType);
+			eSearchResultService.save(eSearchResult);
+		}
+	}
+
+	private static boolean isSameVersion(ESearchResult eSearchResult, ESearchResult other) {
+		if(eSearchResult == null || other == null) {
+			return eSearchResult == other;
+		}
+		return Objects.equals(eSearchResult.getRetrievalDate(), other.getRetrievalDate())
+				&& Objects.equals(pmidsByStrategy(eSearchResult), pmidsByStrategy(other));
+	}
+
+	private static List<List<Long>> pmidsByStrategy(ESearchResult eSearchResult) {
+		if(eSearchResult.getESearchPmids() == null) {
+			return null;
+		}
+		return eSearchResult.getESearchPmids().stream().map(ESearchPmid::getPmids).collect(Collectors.toList());
+	}
+}
@@ -29,6 +29,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 
+import reciter.configuration.RetrievalHttpClientConfig;
 import reciter.model.identity.AuthorName;
 import reciter.model.identity.Identity;
 import reciter.model.pubmed.PubMedArticle;
@@ -259,7 +260,7 @@ public abstract class AbstractRetrievalStrategy implements RetrievalStrategy {
 
 	protected int getNumberOfResults(PubMedQuery pubMedQueryType) throws IOException {
 		String nodeUrl = PUBMED_SERVICE.endsWith("/pubmed")?PUBMED_SERVICE + "/query-number-pubmed-articles/":PUBMED_SERVICE + "/pubmed/query-number-pubmed-articles/";
-		RestTemplate restTemplate = new RestTemplate();
+		RestTemplate restTemplate = RetrievalHttpClientConfig.getRetrievalRestTemplate();
 		slf4jLogger.info("Sending web request: " + nodeUrl);
 		ResponseEntity<Integer> responseEntity = null;
 		slf4jLogger.info("PubMedQuery: " + pubMedQueryType);
@@ -278,7 +279,7 @@ public abstract class AbstractRetrievalStrategy implements RetrievalStrategy {
 
 	private List<PubMedArticle> retrievePubMedViaRest(String pubMedQuery) {
 		String nodeUrl = loadBalance();
-		RestTemplate restTemplate = new RestTemplate();
+		RestTemplate restTemplate = RetrievalHttpClientConfig.getRetrievalRestTemplate();
 		slf4jLogger.info("Sending web request: " + nodeUrl);
 		ResponseEntity<PubMedArticle[]> responseEntity = null;
 		try {
@@ -320,7 +321,7 @@ public abstract class AbstractRetrievalStrategy implements RetrievalStrategy {
 		}
 		List<ScopusArticle> scopusArticlesResult = new ArrayList<ScopusArticle>();
 		for (String pmidQuery : pmidQueries) {
-			RestTemplate restTemplate = new RestTemplate();
+			RestTemplate restTemplate = RetrievalHttpClientConfig.getRetrievalRestTemplate();
 			try {
 				slf4jLogger.info("Sending web request: " + nodeUrl + pmidQuery);
 				ResponseEntity<ScopusArticle[]> responseEntity = restTemplate.getForEntity(nodeUrl + pmidQuery, ScopusArticle[].class);
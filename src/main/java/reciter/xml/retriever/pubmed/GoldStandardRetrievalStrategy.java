@@ -24,6 +24,8 @@ import java.time.LocalDate;
 import java.util.*;
 import java.util.Map.Entry;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -33,7 +35,9 @@ import reciter.model.identity.Identity;
 import reciter.model.pubmed.PubMedArticle;
 import reciter.pubmed.retriever.PubMedArticleRetriever;
 import reciter.pubmed.retriever.PubMedQuery;
+import reciter.service.PubMedService;
 import reciter.service.dynamo.IDynamoDbGoldStandardService;
+import reciter.service.dynamo.PubMedArticleRevisionIndex;
 import reciter.xml.retriever.engine.AliasReCiterRetrievalEngine.IdentityNameType;
 import reciter.xml.retriever.pubmed.AbstractRetrievalStrategy.RetrievalResult;
 import reciter.xml.retriever.pubmed.PubMedQueryType.PubMedQueryBuilder;
@@ -43,8 +47,16 @@ public class GoldStandardRetrievalStrategy extends AbstractRetrievalStrategy {
 	
 	private static final String retrievalStrategyName = "GoldStandardRetrievalStrategy";
 	
+	private final static Logger slf4jLogger = LoggerFactory.getLogger(GoldStandardRetrievalStrategy.class);
+	
 	@Autowired
 	private IDynamoDbGoldStandardService dynamoDbGoldStandardService;
+	
+	@Autowired
+	private PubMedService pubMedService;
+	
+	@Autowired
+	private PubMedArticleRevisionIndex pubMedArticleRevisionIndex;
 
 	@Override
 	public String getRetrievalStrategyName() {
@@ -67,11 +79,10 @@ public class GoldStandardRetrievalStrategy extends AbstractRetrievalStrategy {
 	}
 	
 
-	@Override
-	protected List<PubMedQueryType> buildQuery(Identity identity, Map<IdentityNameType, Set<AuthorName>> identityNames) {
-		List<PubMedQueryType> pubMedQueries = new ArrayList<PubMedQueryType>();
-
-		PubMedQueryBuilder pubMedQueryBuilder = new PubMedQueryBuilder();
+	/**
+	 * @return the known and rejected pmids of the identity
+	 */
+	private List<Long> goldStandardPmids(Identity identity) {
 		List<Long> goldStandardPmids = new ArrayList<Long>();
 		GoldStandard goldStandard = dynamoDbGoldStandardService.findByUid(identity.getUid().trim());
 		if(goldStandard != null 
@@ -89,6 +100,58 @@ public class GoldStandardRetrievalStrategy extends AbstractRetrievalStrategy {
 				goldStandard.getRejectedPmids().size() > 0) {
 			goldStandardPmids.addAll(goldStandard.getRejectedPmids());
 		}
+		return goldStandardPmids;
+	}
+
+	/**
+	 * @return the gold standard pmids to download, leaving out the ones already written during this retrieval run
+	 */
+	private List<Long> goldStandardPmidsToRetrieve(Identity identity) {
+		List<Long> goldStandardPmids = goldStandardPmids(identity);
+		goldStandardPmids.removeIf(pubMedArticleRevisionIndex::isWrittenInRun);
+		return goldStandardPmids;
+	}
+
+	@Override
+	public RetrievalResult retrievePubMedArticles(Identity identity, Map<IdentityNameType, Set<AuthorName>> identityNames, boolean useStrictQueryOnly) throws IOException {
+		return addArticlesWrittenInRun(identity, super.retrievePubMedArticles(identity, identityNames, useStrictQueryOnly));
+	}
+
+	@Override
+	public RetrievalResult retrievePubMedArticles(Identity identity, Map<IdentityNameType, Set<AuthorName>> identityNames, Date startDate, Date endDate, boolean useStrictQueryOnly) throws IOException {
+		return addArticlesWrittenInRun(identity, super.retrievePubMedArticles(identity, identityNames, startDate, endDate, useStrictQueryOnly));
+	}
+
+	/**
+	 * Adds the gold standard articles left out of the download because they were already written during this retrieval
+	 * run. The stored copy is read instead, it is as recent as the download. Every retrieval of a run uses the same date
+	 * range, so these articles are in the range of the gold standard query too.
+	 */
+	private RetrievalResult addArticlesWrittenInRun(Identity identity, RetrievalResult retrievalResult) {
+		List<Long> writtenPmids = new ArrayList<Long>();
+		for (long pmid : goldStandardPmids(identity)) {
+			if (!retrievalResult.getPubMedArticles().containsKey(pmid) && pubMedArticleRevisionIndex.isWrittenInRun(pmid)) {
+				writtenPmids.add(pmid);
+			}
+		}
+		if (!writtenPmids.isEmpty()) {
+			for (PubMedArticle pubMedArticle : pubMedService.findByPmids(writtenPmids)) {
+				retrievalResult.getPubMedArticles().put(pubMedArticle.getMedlinecitation().getMedlinecitationpmid().getPmid(), pubMedArticle);
+			}
+			slf4jLogger.info("Read " + writtenPmids.size() + " gold standard articles written earlier in this run for uid=[" + identity.getUid() + "] instead of downloading them");
+		}
+		return retrievalResult;
+	}
+
+	@Override
+	protected List<PubMedQueryType> buildQuery(Identity identity, Map<IdentityNameType, Set<AuthorName>> identityNames) {
+		List<PubMedQueryType> pubMedQueries = new ArrayList<PubMedQueryType>();
+
+		PubMedQueryBuilder pubMedQueryBuilder = new PubMedQueryBuilder();
+		List<Long> goldStandardPmids = goldStandardPmidsToRetrieve(identity);
+		if (goldStandardPmids.isEmpty()) {
+			return pubMedQueries;
+		}
 		
 		PubMedQuery goldStandardQuery = pubMedQueryBuilder.buildPmids(goldStandardPmids);
 
@@ -106,22 +169,9 @@ public class GoldStandardRetrievalStrategy extends AbstractRetrievalStrategy {
 	protected List<PubMedQueryType> buildQuery(Identity identity, Map<IdentityNameType, Set<AuthorName>> identityNames, Date startDate, Date endDate) {
 		List<PubMedQueryType> pubMedQueries = new ArrayList<PubMedQueryType>();
 		
-		List<Long> goldStandardPmids = new ArrayList<Long>();
-		GoldStandard goldStandard = dynamoDbGoldStandardService.findByUid(identity.getUid().trim());
-		if(goldStandard != null 
-				&& 
-				goldStandard.getKnownPmids() != null 
-				&& 
-				goldStandard.getKnownPmids().size() > 0) {
-			goldStandardPmids = goldStandard.getKnownPmids();
-		}
-		
-		if(goldStandard != null 
-				&&
-				goldStandard.getRejectedPmids() != null
-				&&
-				goldStandard.getRejectedPmids().size() > 0) {
-			goldStandardPmids.addAll(goldStandard.getRejectedPmids());
+		List<Long> goldStandardPmids = goldStandardPmidsToRetrieve(identity);
+		if (goldStandardPmids.isEmpty()) {
+			return pubMedQueries;
 		}
 
 		PubMedQueryBuilder pubMedQueryBuilder = new PubMedQueryBuilder()
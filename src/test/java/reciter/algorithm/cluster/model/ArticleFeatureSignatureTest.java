@@ -0,0 +1,114 @@
+package reciter.algorithm.cluster.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import reciter.model.article.ReCiterArticle;
+import reciter.model.article.ReCiterArticleFeatures;
+
+/**
+ * Checks the overlap of compiled signatures against the overlap the tepid strategy computed with
+ * <code>retainAll</code> on copies of the feature lists.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ArticleFeatureSignatureTest {
+
+	private final ArticleFeatureSignature.Compiler compiler = new ArticleFeatureSignature.Compiler();
+
+	private static ReCiterArticle article(long pmid, String journalName, List<String> meshMajors, List<String> coAuthors, List<Integer> affiliationIds) {
+		ReCiterArticleFeatures reCiterArticleFeatures = new ReCiterArticleFeatures();
+		int featureCount = 0;
+		if (journalName != null) {
+			reCiterArticleFeatures.setJournalName(journalName);
+			featureCount++;
+		}
+		reCiterArticleFeatures.getMeshMajor().addAll(meshMajors);
+		reCiterArticleFeatures.getCoAuthors().addAll(coAuthors);
+		reCiterArticleFeatures.getAffiliationIds().addAll(affiliationIds);
+		featureCount += meshMajors.size() + coAuthors.size() + affiliationIds.size();
+		reCiterArticleFeatures.setFeatureCount(featureCount);
+
+		ReCiterArticle reCiterArticle = new ReCiterArticle(pmid);
+		reCiterArticle.setReCiterArticleFeatures(reCiterArticleFeatures);
+		return reCiterArticle;
+	}
+
+	/**
+	 * Overlap as computed before the signatures: duplicates of the left side that the right side has are all counted,
+	 * and any number of shared affiliation ids counts once.
+	 */
+	private static int retainAllOverlapCount(ReCiterArticleFeatures reCiterArticleFeature1, ReCiterArticleFeatures reCiterArticleFeature2) {
+		int matchCount = 0;
+		if (reCiterArticleFeature1.getJournalName() != null && !reCiterArticleFeature1.getJournalName().isEmpty()
+				&& reCiterArticleFeature2.getJournalName() != null && !reCiterArticleFeature2.getJournalName().isEmpty()
+				&& StringUtils.equalsIgnoreCase(reCiterArticleFeature1.getJournalName(), reCiterArticleFeature2.getJournalName())) {
+			matchCount++;
+		}
+		List<String> matchingMeshMajor = new ArrayList<>(reCiterArticleFeature1.getMeshMajor());
+		matchingMeshMajor.retainAll(reCiterArticleFeature2.getMeshMajor());
+		matchCount += matchingMeshMajor.size();
+		List<String> matchingCoAuthor = new ArrayList<>(reCiterArticleFeature1.getCoAuthors());
+		matchingCoAuthor.retainAll(reCiterArticleFeature2.getCoAuthors());
+		matchCount += matchingCoAuthor.size();
+		List<Integer> matchingAffiliationId = new ArrayList<>(reCiterArticleFeature1.getAffiliationIds());
+		matchingAffiliationId.retainAll(reCiterArticleFeature2.getAffiliationIds());
+		if (!matchingAffiliationId.isEmpty()) {
+			matchCount++;
+		}
+		return matchCount;
+	}
+
+	private int overlapCount(ReCiterArticle reCiterArticle, ReCiterArticle other) {
+		return compiler.getSignature(reCiterArticle).overlapCount(compiler.getSignature(other));
+	}
+
+	@Test
+	public final void testDuplicatesOfTheLeftSideAreCounted() {
+		ReCiterArticle reCiterArticle = article(1L, null, Arrays.asList("Neoplasms", "Neoplasms", "Kidney"), Arrays.asList("J.Doe", "J.Doe"), Arrays.<Integer>asList());
+		ReCiterArticle other = article(2L, null, Arrays.asList("Neoplasms"), Arrays.asList("J.Doe", "A.Smith"), Arrays.<Integer>asList());
+
+		assertEquals(4, overlapCount(reCiterArticle, other));
+		assertEquals(2, overlapCount(other, reCiterArticle));
+	}
+
+	@Test
+	public final void testSharedAffiliationsCountOnce() {
+		ReCiterArticle reCiterArticle = article(1L, null, Arrays.<String>asList(), Arrays.<String>asList(), Arrays.asList(60007997, 60025778, 60001234));
+		ReCiterArticle other = article(2L, null, Arrays.<String>asList(), Arrays.<String>asList(), Arrays.asList(60001234, 60025778));
+
+		assertEquals(1, overlapCount(reCiterArticle, other));
+		assertEquals(1, overlapCount(other, reCiterArticle));
+	}
+
+	@Test
+	public final void testOverlapAndSimilarityMatchRetainAll() {
+		List<ReCiterArticle> reCiterArticles = Arrays.asList(
+				article(1L, "Nature", Arrays.asList("Neoplasms", "Kidney", "Kidney"), Arrays.asList("J.Doe", "A.Smith"), Arrays.asList(60007997, 60025778)),
+				article(2L, "NATURE", Arrays.asList("Kidney"), Arrays.asList("A.Smith", "A.Smith", "B.Lee"), Arrays.asList(60025778, 60007997)),
+				article(3L, "Cell", Arrays.asList("Neoplasms", "Lupus Nephritis"), Arrays.asList("B.Lee"), Arrays.asList(60001234)),
+				article(4L, null, Arrays.asList("Kidney", "Neoplasms"), Arrays.asList("J.Doe"), Arrays.<Integer>asList()),
+				article(5L, "Cell", Arrays.asList("Lupus Nephritis"), Arrays.<String>asList(), Arrays.<Integer>asList()));
+
+		for (ReCiterArticle reCiterArticle : reCiterArticles) {
+			for (ReCiterArticle other : reCiterArticles) {
+				ReCiterArticleFeatures features = reCiterArticle.getReCiterArticleFeatures();
+				ReCiterArticleFeatures otherFeatures = other.getReCiterArticleFeatures();
+				int expectedOverlap = retainAllOverlapCount(features, otherFeatures);
+				double expectedSimilarity = (expectedOverlap == 0 || features.getFeatureCount() < 3 || otherFeatures.getFeatureCount() < 3) ? 0
+						: Math.pow(expectedOverlap, 2) / (features.getFeatureCount() * otherFeatures.getFeatureCount());
+				String pair = reCiterArticle.getArticleId() + " -> " + other.getArticleId();
+
+				assertEquals(pair, expectedOverlap, overlapCount(reCiterArticle, other));
+				assertEquals(pair, expectedSimilarity, compiler.getSignature(reCiterArticle).similarityScore(compiler.getSignature(other)), 0);
+			}
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package reciter.algorithm.cluster.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import reciter.model.article.ReCiterArticle;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DisjointClusterSetTest {
+
+	private static Map<Long, ReCiterCluster> singletonClusters(int size) {
+		Map<Long, ReCiterCluster> clusters = new HashMap<>();
+		for (long clusterId = 1; clusterId <= size; clusterId++) {
+			ReCiterCluster reCiterCluster = new ReCiterCluster(clusterId);
+			reCiterCluster.add(new ReCiterArticle(clusterId * 100));
+			clusters.put(clusterId, reCiterCluster);
+		}
+		return clusters;
+	}
+
+	@Test
+	public final void testUnionIsTransitive() {
+		DisjointClusterSet disjointClusterSet = new DisjointClusterSet(singletonClusters(5).keySet());
+
+		assertTrue(disjointClusterSet.union(4, 2));
+		assertTrue(disjointClusterSet.union(5, 4));
+		assertFalse(disjointClusterSet.union(2, 5));
+
+		assertTrue(disjointClusterSet.connected(2, 5));
+		assertFalse(disjointClusterSet.connected(1, 2));
+		assertEquals(2, disjointClusterSet.find(5));
+		assertEquals(3, disjointClusterSet.size());
+	}
+
+	@Test
+	public final void testMergeKeepsSmallestClusterId() {
+		Map<Long, ReCiterCluster> clusters = singletonClusters(5);
+		DisjointClusterSet disjointClusterSet = new DisjointClusterSet(clusters.keySet());
+		disjointClusterSet.union(5, 3);
+		disjointClusterSet.union(3, 1);
+
+		Map<Long, ReCiterCluster> mergedClusters = disjointClusterSet.merge(clusters);
+
+		assertEquals(3, mergedClusters.size());
+		assertTrue(mergedClusters.containsKey(1L));
+		assertTrue(mergedClusters.containsKey(2L));
+		assertTrue(mergedClusters.containsKey(4L));
+		assertEquals("[100, 300, 500]", mergedClusters.get(1L).getArticleCluster().stream()
+				.map(ReCiterArticle::getArticleId)
+				.collect(Collectors.toList())
+				.toString());
+	}
+
+	/**
+	 * The loop the clustering strategies used before: cluster i absorbs, in ascending id order, every cluster j that
+	 * has an article matching one of its articles, and a cluster is never compared again once it is absorbed.
+	 */
+	private static Set<Set<Long>> pairwiseMerge(int size, BiPredicate<Long, Long> articleMatch) {
+		Map<Long, List<Long>> clusters = new TreeMap<>();
+		for (long clusterId = 1; clusterId <= size; clusterId++) {
+			clusters.put(clusterId, new ArrayList<>(Arrays.asList(clusterId)));
+		}
+		for (long i = 1; i <= size; i++) {
+			for (long j = 1; j <= size; j++) {
+				List<Long> cluster = clusters.get(i);
+				List<Long> other = clusters.get(j);
+				if (i != j && cluster != null && other != null
+						&& cluster.stream().anyMatch(article -> other.stream().anyMatch(otherArticle -> articleMatch.test(article, otherArticle)))) {
+					cluster.addAll(clusters.remove(j));
+				}
+			}
+		}
+		return clusters.values().stream().map(articles -> (Set<Long>) new TreeSet<>(articles)).collect(Collectors.toSet());
+	}
+
+	@Test
+	public final void testUnionJoinsClustersThePairwiseMergeLeftApart() {
+		// Article 1 matches 5, 5 matches 4 and 4 matches 2.
+		Set<Set<Long>> matches = new HashSet<>(Arrays.asList(
+				new HashSet<>(Arrays.asList(1L, 5L)), new HashSet<>(Arrays.asList(5L, 4L)), new HashSet<>(Arrays.asList(4L, 2L))));
+		BiPredicate<Long, Long> articleMatch = (article, other) -> matches.contains(new HashSet<>(Arrays.asList(article, other)));
+
+		// 1 absorbs 5 only after it was compared with 4, and 2 absorbs 4 after it was compared with 1.
+		assertEquals(new HashSet<>(Arrays.asList(new TreeSet<>(Arrays.asList(1L, 5L)), new TreeSet<>(Arrays.asList(2L, 4L)), new TreeSet<>(Arrays.asList(3L)))),
+				pairwiseMerge(5, articleMatch));
+
+		DisjointClusterSet disjointClusterSet = new DisjointClusterSet(singletonClusters(5).keySet());
+		for (long clusterId1 = 1; clusterId1 <= 5; clusterId1++) {
+			for (long clusterId2 = clusterId1 + 1; clusterId2 <= 5; clusterId2++) {
+				if (articleMatch.test(clusterId1, clusterId2)) {
+					disjointClusterSet.union(clusterId1, clusterId2);
+				}
+			}
+		}
+		assertTrue(disjointClusterSet.connected(1, 2));
+		assertTrue(disjointClusterSet.connected(1, 4));
+		assertFalse(disjointClusterSet.connected(1, 3));
+		assertEquals(2, disjointClusterSet.size());
+	}
+}
@@ -0,0 +1,202 @@
+package reciter.algorithm.cluster.similarity.clusteringstrategy.article;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import reciter.algorithm.cluster.clusteringstrategy.article.AbstractIndexedClusteringStrategy;
+import reciter.algorithm.cluster.model.ClusteringFeatureIndex;
+import reciter.algorithm.cluster.model.DisjointClusterSet;
+import reciter.algorithm.cluster.model.ReCiterCluster;
+import reciter.engine.EngineContext;
+import reciter.engine.EngineParameters;
+import reciter.model.article.ReCiterArticle;
+import reciter.model.article.ReCiterArticleAuthors;
+import reciter.model.article.ReCiterArticleGrant;
+import reciter.model.article.ReCiterArticleMeshHeading;
+import reciter.model.article.ReCiterAuthor;
+import reciter.model.article.ReCiterCitationYNEnum;
+import reciter.model.article.ReCiterMeshHeadingDescriptorName;
+import reciter.model.article.ReCiterMeshHeadingQualifierName;
+import reciter.model.identity.AuthorName;
+
+/**
+ * Checks that the strategies merging clusters through the {@link ClusteringFeatureIndex} end with the same clusters
+ * as merging every pair of clusters that {@link ReCiterCluster#compareTo} accepts.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class IndexedClusteringStrategyTest {
+
+	private final EngineContext engineContext = EngineContext.builder()
+			.clusteringGrantsThreshold(2)
+			.build();
+
+	private Map<String, Long> previousMeshCountMap;
+
+	private List<ReCiterArticle> reCiterArticles;
+
+	@Before
+	public void setUp() {
+		previousMeshCountMap = EngineParameters.getMeshCountMap();
+		Map<String, Long> meshCountMap = new HashMap<>();
+		meshCountMap.put("Neoplasms", 120000L);
+		meshCountMap.put("Kidney Transplantation", 2500L);
+		meshCountMap.put("Lupus Nephritis", 900L);
+		EngineParameters.setMeshCountMap(meshCountMap);
+
+		reCiterArticles = new ArrayList<>();
+		reCiterArticles.add(article(1L, "Weill Cornell Medicine, New York. jdoe@med.cornell.edu",
+				Arrays.asList("CA12345"), Arrays.asList(4L), Arrays.asList("Kidney Transplantation")));
+		reCiterArticles.add(article(2L, "Weill Cornell Medicine, New York. JDoe@Med.Cornell.edu.",
+				Arrays.asList("ca12345 ", "HL55555"), Arrays.<Long>asList(), Arrays.asList("Neoplasms")));
+		// Over the clustering grants threshold, so its grants link nothing
+		reCiterArticles.add(article(3L, "Department of Surgery, Boston",
+				Arrays.asList("HL55555", "AI77777", "DK88888"), Arrays.asList(1L, 6L), Arrays.asList("Neoplasms")));
+		reCiterArticles.add(article(4L, "Department of Surgery, Boston. smith@bwh.harvard.edu",
+				Arrays.asList("AI77777"), Arrays.<Long>asList(), Arrays.asList("Lupus Nephritis")));
+		reCiterArticles.add(article(5L, "smith@bwh.harvard.edu",
+				Arrays.asList("HL55555"), Arrays.asList(99L), Arrays.asList("lupus nephritis", "Neoplasms")));
+		reCiterArticles.add(article(6L, null,
+				Arrays.<String>asList(), Arrays.<Long>asList(), Arrays.asList("Kidney Transplantation")));
+		reCiterArticles.add(article(7L, "Unrelated Institute, Paris",
+				Arrays.asList("GM99999"), Arrays.<Long>asList(), Arrays.asList("Neoplasms")));
+	}
+
+	@After
+	public void tearDown() {
+		EngineParameters.setMeshCountMap(previousMeshCountMap);
+	}
+
+	private static ReCiterArticle article(long pmid, String affiliation, List<String> grantIds, List<Long> citedPmids, List<String> meshMajors) {
+		ReCiterArticle reCiterArticle = new ReCiterArticle(pmid);
+
+		ReCiterArticleAuthors reCiterCoAuthors = new ReCiterArticleAuthors();
+		reCiterCoAuthors.addAuthor(new ReCiterAuthor(new AuthorName("John", null, "Doe"), affiliation));
+		reCiterArticle.setArticleCoAuthors(reCiterCoAuthors);
+
+		List<ReCiterArticleGrant> reCiterArticleGrants = new ArrayList<>();
+		for (String grantId : grantIds) {
+			ReCiterArticleGrant reCiterArticleGrant = new ReCiterArticleGrant();
+			reCiterArticleGrant.setSanitizedGrantID(grantId);
+			reCiterArticleGrants.add(reCiterArticleGrant);
+		}
+		reCiterArticle.setGrantList(reCiterArticleGrants);
+
+		reCiterArticle.setCommentsCorrectionsPmids(new HashSet<>(citedPmids));
+
+		List<ReCiterArticleMeshHeading> reCiterArticleMeshHeadings = new ArrayList<>();
+		for (String meshMajor : meshMajors) {
+			ReCiterMeshHeadingDescriptorName reCiterMeshHeadingDescriptorName = new ReCiterMeshHeadingDescriptorName();
+			reCiterMeshHeadingDescriptorName.setDescriptorName(meshMajor);
+			reCiterMeshHeadingDescriptorName.setMajorTopicYN(ReCiterCitationYNEnum.Y.name());
+			ReCiterArticleMeshHeading reCiterArticleMeshHeading = new ReCiterArticleMeshHeading();
+			reCiterArticleMeshHeading.setDescriptorName(reCiterMeshHeadingDescriptorName);
+			reCiterArticleMeshHeading.setQualifierNameList(new ArrayList<ReCiterMeshHeadingQualifierName>());
+			reCiterArticleMeshHeadings.add(reCiterArticleMeshHeading);
+		}
+		reCiterArticle.setMeshHeadings(reCiterArticleMeshHeadings);
+		return reCiterArticle;
+	}
+
+	private Map<Long, ReCiterCluster> singletonClusters() {
+		Map<Long, ReCiterCluster> clusters = new HashMap<>();
+		for (ReCiterArticle reCiterArticle : reCiterArticles) {
+			ReCiterCluster reCiterCluster = new ReCiterCluster(reCiterArticle.getArticleId());
+			reCiterCluster.add(reCiterArticle);
+			clusters.put(reCiterArticle.getArticleId(), reCiterCluster);
+		}
+		return clusters;
+	}
+
+	private static Set<Set<Long>> pmidSets(Map<Long, ReCiterCluster> clusters) {
+		return clusters.values().stream()
+				.map(reCiterCluster -> (Set<Long>) reCiterCluster.getArticleCluster().stream()
+						.map(ReCiterArticle::getArticleId)
+						.collect(Collectors.toCollection(TreeSet::new)))
+				.collect(Collectors.toSet());
+	}
+
+	/**
+	 * Runs the strategy on singleton clusters, which also sanitizes the feature it clusters on, and checks that it
+	 * returns the expected clusters, which must also be the clusters linked by every pair <code>compareTo</code>
+	 * accepts in either direction.
+	 */
+	private void assertMergesComparedPairs(AbstractIndexedClusteringStrategy strategy, BiPredicate<ReCiterCluster, ReCiterCluster> compareTo, Set<Set<Long>> expected) {
+		Set<Set<Long>> actual = pmidSets(strategy.cluster(singletonClusters()));
+
+		Map<Long, ReCiterCluster> clusters = new TreeMap<>(singletonClusters());
+		DisjointClusterSet disjointClusterSet = new DisjointClusterSet(clusters.keySet());
+		for (ReCiterCluster reCiterCluster : clusters.values()) {
+			for (ReCiterCluster other : clusters.values()) {
+				if (reCiterCluster != other && compareTo.test(reCiterCluster, other)) {
+					disjointClusterSet.union(reCiterCluster.getClusterID(), other.getClusterID());
+				}
+			}
+		}
+
+		assertEquals(expected, pmidSets(disjointClusterSet.merge(clusters)));
+		assertEquals(expected, actual);
+	}
+
+	private BiPredicate<ReCiterCluster, ReCiterCluster> comparedAs(String comparisonType) {
+		return (reCiterCluster, other) -> reCiterCluster.compareTo(other, comparisonType, engineContext) == 1;
+	}
+
+	private static Set<Set<Long>> pmids(Long[]... clusters) {
+		return Arrays.stream(clusters)
+				.map(pmids -> (Set<Long>) new TreeSet<>(Arrays.asList(pmids)))
+				.collect(Collectors.toSet());
+	}
+
+	@Test
+	public final void testGrantMergesComparedPairs() {
+		ClusteringFeatureIndex clusteringFeatureIndex = new ClusteringFeatureIndex(reCiterArticles, engineContext);
+
+		assertMergesComparedPairs(new GrantFeatureClusteringStrategy(engineContext, clusteringFeatureIndex), comparedAs("grant"),
+				pmids(new Long[] {1L, 2L, 5L}, new Long[] {3L}, new Long[] {4L}, new Long[] {6L}, new Long[] {7L}));
+	}
+
+	@Test
+	public final void testEmailMergesComparedPairs() {
+		ClusteringFeatureIndex clusteringFeatureIndex = new ClusteringFeatureIndex(reCiterArticles, engineContext);
+
+		assertMergesComparedPairs(new EmailFeatureClusteringStrategy(engineContext, clusteringFeatureIndex), (reCiterCluster, other) -> reCiterCluster.compareTo(other) == 1,
+				pmids(new Long[] {1L, 2L}, new Long[] {3L}, new Long[] {4L, 5L}, new Long[] {6L}, new Long[] {7L}));
+	}
+
+	@Test
+	public final void testCitesMergesComparedPairs() {
+		ClusteringFeatureIndex clusteringFeatureIndex = new ClusteringFeatureIndex(reCiterArticles, engineContext);
+
+		assertMergesComparedPairs(new CitesFeatureClusteringStrategy(engineContext, clusteringFeatureIndex), comparedAs("cites"),
+				pmids(new Long[] {1L, 3L, 4L, 6L}, new Long[] {2L}, new Long[] {5L}, new Long[] {7L}));
+	}
+
+	/**
+	 * Only the count of the other cluster's spelling of a descriptor is looked up by <code>compareTo</code>, so 4 and 5
+	 * are linked through 5's comparison with 4 alone.
+	 */
+	@Test
+	public final void testMeshMajorMergesComparedPairs() {
+		ClusteringFeatureIndex clusteringFeatureIndex = new ClusteringFeatureIndex(reCiterArticles, engineContext);
+
+		assertMergesComparedPairs(new MeshMajorClusteringStrategy(engineContext, clusteringFeatureIndex), comparedAs("meshMajor"),
+				pmids(new Long[] {1L, 6L}, new Long[] {2L}, new Long[] {3L}, new Long[] {4L, 5L}, new Long[] {7L}));
+	}
+}
@@ -0,0 +1,58 @@
+package reciter.configuration;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RetrievalHttpClientConfigTest {
+
+	private static final int DEFAULT_MAX_PER_ROUTE = 20;
+
+	private PoolingHttpClientConnectionManager connectionManager;
+
+	@Before
+	public void setUp() {
+		connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setDefaultMaxPerRoute(DEFAULT_MAX_PER_ROUTE);
+	}
+
+	/**
+	 * @return the route the client uses for a request to the url
+	 */
+	private static HttpRoute plannedRoute(String url) throws Exception {
+		HttpGet request = new HttpGet(url);
+		return new DefaultRoutePlanner(null).determineRoute(URIUtils.extractHost(request.getURI()), request, new BasicHttpContext());
+	}
+
+	@Test
+	public final void testHttpsUrlWithoutPort() throws Exception {
+		RetrievalHttpClientConfig.setMaxConnections(connectionManager, "https://pubmed.example.org", 7);
+
+		assertEquals(7, connectionManager.getMaxPerRoute(plannedRoute("https://pubmed.example.org/pubmed/query")));
+	}
+
+	@Test
+	public final void testHttpUrlWithoutPort() throws Exception {
+		RetrievalHttpClientConfig.setMaxConnections(connectionManager, "http://scopus.example.org/", 5);
+
+		assertEquals(5, connectionManager.getMaxPerRoute(plannedRoute("http://scopus.example.org/scopus/query")));
+	}
+
+	@Test
+	public final void testUrlWithPort() throws Exception {
+		RetrievalHttpClientConfig.setMaxConnections(connectionManager, "http://localhost:5000", 3);
+
+		assertEquals(3, connectionManager.getMaxPerRoute(plannedRoute("http://localhost:5000/pubmed/query")));
+		assertEquals(DEFAULT_MAX_PER_ROUTE, connectionManager.getMaxPerRoute(plannedRoute("http://localhost:5001/pubmed/query")));
+	}
+}
@@ -0,0 +1,68 @@
+package reciter.engine;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import reciter.api.parameters.FilterFeedbackType;
+import reciter.engine.analysis.ReCiterArticleFeature;
+import reciter.engine.analysis.ReCiterArticleFeature.PublicationFeedback;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FeedbackFilterViewTest {
+
+	private FeedbackFilterView feedbackFilterView;
+
+	@Before
+	public void setUp() {
+		feedbackFilterView = FeedbackFilterView.of(Arrays.asList(
+				feature(1L, 9.0, PublicationFeedback.NULL),
+				feature(2L, 1.0, PublicationFeedback.REJECTED),
+				feature(3L, 2.0, PublicationFeedback.NULL),
+				feature(4L, 0.5, PublicationFeedback.ACCEPTED),
+				feature(5L, 6.0, PublicationFeedback.NULL)));
+	}
+
+	private static ReCiterArticleFeature feature(long pmid, double score, PublicationFeedback userAssertion) {
+		ReCiterArticleFeature reCiterArticleFeature = new ReCiterArticleFeature();
+		reCiterArticleFeature.setPmid(pmid);
+		reCiterArticleFeature.setTotalArticleScoreStandardized(score);
+		reCiterArticleFeature.setUserAssertion(userAssertion);
+		return reCiterArticleFeature;
+	}
+
+	private List<Long> selectedPmids(FilterFeedbackType filterByFeedback, double totalScore) {
+		return feedbackFilterView.select(filterByFeedback, totalScore).stream().map(ReCiterArticleFeature::getPmid).collect(Collectors.toList());
+	}
+
+	@Test
+	public void testCountPendingArticles() {
+		assertEquals(3, feedbackFilterView.countPendingArticles(2.0));
+		assertEquals(2, feedbackFilterView.countPendingArticles(4.0));
+		assertEquals(0, feedbackFilterView.countPendingArticles(10.0));
+	}
+
+	@Test
+	public void testSelectKeepsStoredOrder() {
+		assertEquals(Arrays.asList(1L, 2L, 4L, 5L), selectedPmids(FilterFeedbackType.ALL, 4.0));
+		assertEquals(Arrays.asList(1L, 2L, 4L, 5L), selectedPmids(null, 4.0));
+		assertEquals(Arrays.asList(1L, 4L, 5L), selectedPmids(FilterFeedbackType.ACCEPTED_AND_NULL, 4.0));
+		assertEquals(Arrays.asList(1L, 2L, 3L, 5L), selectedPmids(FilterFeedbackType.REJECTED_AND_NULL, 2.0));
+		assertEquals(Arrays.asList(2L, 4L), selectedPmids(FilterFeedbackType.ACCEPTED_AND_REJECTED, 4.0));
+		assertEquals(Arrays.asList(4L), selectedPmids(FilterFeedbackType.ACCEPTED_ONLY, 4.0));
+		assertEquals(Arrays.asList(2L), selectedPmids(FilterFeedbackType.REJECTED_ONLY, 4.0));
+		assertEquals(Arrays.asList(1L), selectedPmids(FilterFeedbackType.NULL, 7.0));
+	}
+
+	@Test
+	public void testGetPmids() {
+		assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L), feedbackFilterView.getPmids());
+	}
+}
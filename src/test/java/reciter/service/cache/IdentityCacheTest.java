@@ -0,0 +1,60 @@
+package reciter.service.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import reciter.model.identity.Identity;
+
+@RunWith(MockitoJUnitRunner.class)
+public class IdentityCacheTest {
+
+    private IdentityCache identityCache;
+
+    private AtomicInteger loads;
+
+    @Before
+    public void setUp() {
+        identityCache = new IdentityCache(10, 60000, new InProcessCacheInvalidationChannel());
+        loads = new AtomicInteger();
+    }
+
+    private Identity load(String uid) {
+        loads.incrementAndGet();
+        Identity identity = new Identity();
+        identity.setUid(uid);
+        return identity;
+    }
+
+    @Test
+    public void testRepeatedLookupsLoadOnce() {
+        Identity first = identityCache.get("abc1234", this::load);
+        Identity second = identityCache.get("abc1234", this::load);
+        assertEquals(1, loads.get());
+        assertEquals("abc1234", second.getUid());
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void testInvalidationReloads() {
+        identityCache.get("abc1234", this::load);
+        identityCache.invalidate(Collections.singletonList("abc1234"));
+        identityCache.get("abc1234", this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testLoadOverlappingInvalidationIsNotCached() {
+        long generation = identityCache.generation();
+        Identity identity = load("abc1234");
+        identityCache.invalidate(Collections.emptyList());
+        identityCache.put("abc1234", identity, generation);
+        assertNull(identityCache.getIfPresent("abc1234"));
+    }
+}
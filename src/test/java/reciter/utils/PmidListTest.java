@@ -0,0 +1,37 @@
+package reciter.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PmidListTest {
+
+	@Test
+	public void testKeepsOrderAndDuplicates() {
+		PmidList pmidList = PmidList.of(Arrays.asList(30L, 10L, 30L, 0L));
+		assertEquals(Arrays.asList(30L, 10L, 30L, 0L), pmidList);
+		assertEquals(4, pmidList.size());
+	}
+
+	@Test
+	public void testContains() {
+		List<Long> pmids = new ArrayList<>();
+		for(long pmid = 1; pmid <= 5000; pmid += 3) {
+			pmids.add(pmid * 1000003L);
+		}
+		PmidList pmidList = PmidList.of(pmids);
+		for(long pmid = 1; pmid <= 5000; pmid++) {
+			assertEquals(pmids.contains(pmid * 1000003L), pmidList.contains(pmid * 1000003L));
+		}
+		assertFalse(pmidList.contains(0L));
+		assertFalse(pmidList.contains("1000003"));
+		assertTrue(PmidList.of(Arrays.asList(0L)).contains(0L));
+	}
+}